@@ -8,14 +8,20 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Properties;
 import java.util.SequencedMap;
 import java.util.Set;
@@ -60,6 +66,8 @@ public final class BasicStructuresClass {
     public static final String STR_INPUT = "Input";
     /** Just Date string */
     public static final String STR_JUST_DATE = "justDate";
+    /** Constant for Largest Files and Folders */
+    public static final String STR_LARGEST_ENTRIES = "LargestEntries";
     /** Locale constant */
     public static final String STR_LOCALE = "Locale";
     /** Localization constant */
@@ -200,6 +208,507 @@ public final class BasicStructuresClass {
         return RegularExpressionsClass.countOccurrences(inputString, "PositionalTypeParameters");
     }
 
+    /**
+     * Compact column-oriented table of String values:
+     * one array per column, column names held once, repeated values dictionary-encoded (16 bits per cell)
+     * and NULLs marked within a bitmap (columns with too many distinct values fall back to plain references)
+     */
+    public static final class ColumnarTableSubClass {
+        /**
+         * Number of distinct values a column can hold while dictionary-encoded (so codes fit into a char)
+         */
+        private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+        /**
+         * Initial number of rows each column has room for
+         */
+        private static final int INITIAL_CAPACITY = 64;
+        /**
+         * Column names
+         */
+        private final String[] columnNames;
+        /**
+         * Column values
+         */
+        private final ColumnClass[] columns;
+        /**
+         * Number of rows
+         */
+        private int rowCount;
+        /**
+         * Set once no more rows can be added
+         */
+        private boolean isSealed;
+
+        /**
+         * Values of a single column
+         */
+        private static final class ColumnClass {
+            /**
+             * Dictionary codes of each row (null once column falls back to plain values)
+             */
+            private char[] codes = new char[INITIAL_CAPACITY];
+            /**
+             * Distinct values by code
+             */
+            private List<String> dictionary = new ArrayList<>();
+            /**
+             * Codes by distinct value (needed only while rows are added)
+             */
+            private Map<String, Character> dictionaryIndex = new HashMap<>();
+            /**
+             * Plain values of each row (used only once dictionary is full)
+             */
+            private String[] plainValues;
+            /**
+             * Rows holding NULL
+             */
+            private final BitSet nulls = new BitSet();
+
+            /**
+             * Appends value of a row
+             * @param row row index (equal to number of rows already held)
+             * @param value value (null for NULL)
+             */
+            private void add(final int row, final String value) {
+                if (value == null) {
+                    nulls.set(row);
+                } else if (plainValues == null && dictionary.size() == MAX_DICTIONARY_SIZE && !dictionaryIndex.containsKey(value)) {
+                    switchToPlainValues(row);
+                }
+                if (plainValues == null) {
+                    if (codes.length == row) {
+                        codes = Arrays.copyOf(codes, row * 2);
+                    }
+                    if (value != null) {
+                        codes[row] = dictionaryIndex.computeIfAbsent(value, key -> {
+                            dictionary.add(key);
+                            return (char) (dictionary.size() - 1);
+                        });
+                    }
+                } else {
+                    if (plainValues.length == row) {
+                        plainValues = Arrays.copyOf(plainValues, row * 2);
+                    }
+                    plainValues[row] = value;
+                }
+            }
+
+            /**
+             * Decodes rows already held into plain values and drops dictionary
+             * @param rows number of rows already held
+             */
+            private void switchToPlainValues(final int rows) {
+                final String[] decodedValues = new String[codes.length];
+                for (int row = 0; row < rows; row++) {
+                    decodedValues[row] = get(row);
+                }
+                plainValues = decodedValues;
+                codes = null;
+                dictionary = null;
+                dictionaryIndex = null;
+            }
+
+            /**
+             * Drops what is needed only while rows are added and trims arrays to rows held
+             * @param rows number of rows held
+             */
+            private void seal(final int rows) {
+                dictionaryIndex = null;
+                if (codes != null) {
+                    codes = Arrays.copyOf(codes, rows);
+                }
+                if (plainValues != null) {
+                    plainValues = Arrays.copyOf(plainValues, rows);
+                }
+            }
+
+            /**
+             * Value of a row
+             * @param row row index
+             * @return String (null for NULL)
+             */
+            private String get(final int row) {
+                String value = null;
+                if (!nulls.get(row)) {
+                    value = plainValues == null ? dictionary.get(codes[row]) : plainValues[row];
+                }
+                return value;
+            }
+        }
+
+        /**
+         * Constructor
+         * @param inColumnNames column names
+         */
+        public ColumnarTableSubClass(final String... inColumnNames) {
+            columnNames = inColumnNames.clone();
+            columns = new ColumnClass[columnNames.length];
+            for (int colIndex = 0; colIndex < columns.length; colIndex++) {
+                columns[colIndex] = new ColumnClass();
+            }
+        }
+
+        /**
+         * Appends a row (values are copied, so caller can reuse its array)
+         * @param values value of each column (null for NULL)
+         */
+        public void addRow(final String... values) {
+            if (isSealed) {
+                throw new IllegalStateException("No row can be added once table is sealed");
+            }
+            for (int colIndex = 0; colIndex < columns.length; colIndex++) {
+                columns[colIndex].add(rowCount, values[colIndex]);
+            }
+            rowCount++;
+        }
+
+        /**
+         * Marks table as complete, releasing lookup structures used only while rows are added
+         * (rows can still be read, but no more rows can be added)
+         */
+        public void seal() {
+            if (!isSealed) {
+                for (final ColumnClass column : columns) {
+                    column.seal(rowCount);
+                }
+                isSealed = true;
+            }
+        }
+
+        /**
+         * Column names
+         * @return unmodifiable List of column names
+         */
+        public List<String> getColumnNames() {
+            return Collections.unmodifiableList(Arrays.asList(columnNames));
+        }
+
+        /**
+         * Number of rows
+         * @return int
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Value of a cell
+         * @param row row index
+         * @param column column index
+         * @return String (null for NULL)
+         */
+        public String getValue(final int row, final int column) {
+            return columns[column].get(Objects.checkIndex(row, rowCount));
+        }
+
+        /**
+         * Checks whether a cell holds NULL
+         * @param row row index
+         * @param column column index
+         * @return boolean
+         */
+        public boolean isNull(final int row, final int column) {
+            return columns[column].nulls.get(Objects.checkIndex(row, rowCount));
+        }
+
+        /**
+         * Checks whether a column is still dictionary-encoded
+         * @param column column index
+         * @return boolean
+         */
+        public boolean isDictionaryEncoded(final int column) {
+            return columns[column].plainValues == null;
+        }
+
+        /**
+         * Row as Properties (built on each call, so changes are not kept)
+         * @param row row index
+         * @param strNullValue value given for NULL cells (Properties cannot hold null)
+         * @return Properties
+         */
+        public Properties getRowAsProperties(final int row, final String strNullValue) {
+            final Properties currentRow = new Properties();
+            for (int colIndex = 0; colIndex < columns.length; colIndex++) {
+                final String value = getValue(row, colIndex);
+                currentRow.put(columnNames[colIndex], value == null ? strNullValue : value);
+            }
+            return currentRow;
+        }
+
+        /**
+         * Read-only view of rows as Properties, for places still expecting them
+         * (each row is built when accessed, so only rows in use take Properties room)
+         * @param strNullValue value given for NULL cells
+         * @return List of Properties
+         */
+        public List<Properties> asPropertiesList(final String strNullValue) {
+            return new AbstractList<>() {
+                @Override
+                public Properties get(final int index) {
+                    return getRowAsProperties(index, strNullValue);
+                }
+
+                @Override
+                public int size() {
+                    return rowCount;
+                }
+            };
+        }
+    }
+
+    /**
+     * Directed graph over integer nodes kept as compressed adjacency arrays (CSR):
+     * targets of node n are edgeTargets[edgeOffsets[n] .. edgeOffsets[n + 1]), duplicate edges and self loops removed
+     */
+    public static final class DirectedGraphSubClass {
+        /**
+         * Number of nodes
+         */
+        private final int nodeCount;
+        /**
+         * Start of each node edges within edgeTargets (nodeCount + 1 entries)
+         */
+        private final int[] edgeOffsets;
+        /**
+         * Edge targets grouped by source node (sorted within each node)
+         */
+        private final int[] edgeTargets;
+        /**
+         * Number of distinct nodes pointing to each node
+         */
+        private final int[] inDegrees;
+
+        /**
+         * Constructor
+         * @param inNodeCount number of nodes
+         * @param sources edge source nodes
+         * @param targets edge target nodes
+         * @param inEdgeCount number of edges filled within sources and targets
+         */
+        public DirectedGraphSubClass(final int inNodeCount, final int[] sources, final int[] targets, final int inEdgeCount) {
+            nodeCount = inNodeCount;
+            final int[] rawOffsets = new int[inNodeCount + 1];
+            for (int intEdge = 0; intEdge < inEdgeCount; intEdge++) {
+                rawOffsets[sources[intEdge] + 1]++;
+            }
+            for (int intNode = 0; intNode < inNodeCount; intNode++) {
+                rawOffsets[intNode + 1] += rawOffsets[intNode];
+            }
+            final int[] rawTargets = new int[inEdgeCount];
+            final int[] fillPosition = Arrays.copyOf(rawOffsets, inNodeCount);
+            for (int intEdge = 0; intEdge < inEdgeCount; intEdge++) {
+                rawTargets[fillPosition[sources[intEdge]]++] = targets[intEdge];
+            }
+            edgeOffsets = new int[inNodeCount + 1];
+            inDegrees = new int[inNodeCount];
+            int distinctEdges = 0;
+            for (int intNode = 0; intNode < inNodeCount; intNode++) {
+                Arrays.sort(rawTargets, rawOffsets[intNode], rawOffsets[intNode + 1]);
+                edgeOffsets[intNode] = distinctEdges;
+                for (int intEdge = rawOffsets[intNode]; intEdge < rawOffsets[intNode + 1]; intEdge++) {
+                    final int target = rawTargets[intEdge];
+                    final boolean isDuplicate = distinctEdges > edgeOffsets[intNode] && rawTargets[distinctEdges - 1] == target;
+                    if (target != intNode && !isDuplicate) {
+                        // compaction in place is safe as distinctEdges never passes intEdge
+                        rawTargets[distinctEdges++] = target;
+                        inDegrees[target]++;
+                    }
+                }
+            }
+            edgeOffsets[inNodeCount] = distinctEdges;
+            edgeTargets = Arrays.copyOf(rawTargets, distinctEdges);
+        }
+
+        /**
+         * Getter for number of nodes
+         * @return int
+         */
+        public int getNodeCount() {
+            return nodeCount;
+        }
+
+        /**
+         * Getter for number of distinct edges
+         * @return int
+         */
+        public int getEdgeCount() {
+            return edgeTargets.length;
+        }
+
+        /**
+         * Number of distinct nodes a given node points to
+         * @param node node in scope
+         * @return int
+         */
+        public int getOutDegree(final int node) {
+            return edgeOffsets[node + 1] - edgeOffsets[node];
+        }
+
+        /**
+         * Number of distinct nodes pointing to a given node
+         * @param node node in scope
+         * @return int
+         */
+        public int getInDegree(final int node) {
+            return inDegrees[node];
+        }
+
+        /**
+         * Strongly connected components (Tarjan, iterative so deep graphs cannot overflow the call stack)
+         * @return component of each node, components numbered from 0 in reverse topological order
+         */
+        public int[] getStronglyConnectedComponents() {
+            final int[] component = new int[nodeCount];
+            final int[] discovery = new int[nodeCount];
+            final int[] lowLink = new int[nodeCount];
+            final int[] nextEdge = new int[nodeCount];
+            final boolean[] isOnStack = new boolean[nodeCount];
+            final int[] tarjanStack = new int[nodeCount];
+            final int[] callStack = new int[nodeCount];
+            Arrays.fill(discovery, -1);
+            int tarjanDepth = 0;
+            int visited = 0;
+            int components = 0;
+            for (int root = 0; root < nodeCount; root++) {
+                if (discovery[root] < 0) {
+                    int callDepth = 0;
+                    callStack[callDepth++] = root;
+                    discovery[root] = visited;
+                    lowLink[root] = visited++;
+                    nextEdge[root] = edgeOffsets[root];
+                    tarjanStack[tarjanDepth++] = root;
+                    isOnStack[root] = true;
+                    while (callDepth > 0) {
+                        final int node = callStack[callDepth - 1];
+                        if (nextEdge[node] < edgeOffsets[node + 1]) {
+                            final int target = edgeTargets[nextEdge[node]++];
+                            if (discovery[target] < 0) {
+                                discovery[target] = visited;
+                                lowLink[target] = visited++;
+                                nextEdge[target] = edgeOffsets[target];
+                                tarjanStack[tarjanDepth++] = target;
+                                isOnStack[target] = true;
+                                callStack[callDepth++] = target;
+                            } else if (isOnStack[target]) {
+                                lowLink[node] = Math.min(lowLink[node], discovery[target]);
+                            }
+                        } else {
+                            callDepth--;
+                            if (callDepth > 0) {
+                                final int parent = callStack[callDepth - 1];
+                                lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                            }
+                            if (lowLink[node] == discovery[node]) {
+                                int member;
+                                do {
+                                    member = tarjanStack[--tarjanDepth];
+                                    isOnStack[member] = false;
+                                    component[member] = components;
+                                } while (member != node);
+                                components++;
+                            }
+                        }
+                    }
+                }
+            }
+            return component;
+        }
+    }
+
+    /**
+     * Approximate distinct counting (HyperLogLog) within constant memory:
+     * 2^14 one-byte registers, so about 16 KB and 0.8% standard error whatever the number of values
+     */
+    public static final class DistinctCounterSubClass {
+        /**
+         * Number of hash bits selecting a register
+         */
+        private static final int PRECISION = 14;
+        /**
+         * Number of registers
+         */
+        private static final int REGISTERS = 1 << PRECISION;
+        /**
+         * Bias correction constant for given number of registers
+         */
+        private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+        /**
+         * Largest number of leading zeros seen (plus one) for each register
+         */
+        private final byte[] registers = new byte[REGISTERS];
+
+        /**
+         * Constructor
+         */
+        public DistinctCounterSubClass() {
+            // intentionally blank
+        }
+
+        /**
+         * Adds a value
+         * @param inValue value
+         */
+        public void add(final String inValue) {
+            final long hash = hash64(inValue);
+            final int register = (int) (hash >>> (Long.SIZE - PRECISION));
+            // a guard bit keeps rank bounded when remaining bits are all zero
+            final int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+            if (rank > registers[register]) {
+                registers[register] = (byte) rank;
+            }
+        }
+
+        /**
+         * Adds every value of another counter
+         * @param other other counter
+         */
+        public void mergeFrom(final DistinctCounterSubClass other) {
+            for (int intRegister = 0; intRegister < REGISTERS; intRegister++) {
+                registers[intRegister] = (byte) Math.max(registers[intRegister], other.registers[intRegister]);
+            }
+        }
+
+        /**
+         * Estimated number of distinct values
+         * @return long
+         */
+        public long estimate() {
+            double inverseSum = 0;
+            int emptyRegisters = 0;
+            for (final byte register : registers) {
+                inverseSum += 1.0 / (1L << register);
+                if (register == 0) {
+                    emptyRegisters++;
+                }
+            }
+            double estimate = ALPHA * REGISTERS * REGISTERS / inverseSum;
+            // small cardinalities are better estimated by linear counting of empty registers
+            if (estimate <= 2.5 * REGISTERS && emptyRegisters > 0) {
+                estimate = REGISTERS * Math.log((double) REGISTERS / emptyRegisters);
+            }
+            return Math.round(estimate);
+        }
+
+        /**
+         * 64-bit hash of a String (FNV-1a over characters followed by a final avalanche mix)
+         * @param inValue value
+         * @return long
+         */
+        private static long hash64(final String inValue) {
+            long hash = 0xcbf29ce484222325L;
+            for (int intPosition = 0; intPosition < inValue.length(); intPosition++) {
+                hash ^= inValue.charAt(intPosition);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+
     /**
      * List and Maps management
      */
@@ -680,6 +1189,262 @@ public final class BasicStructuresClass {
 
     }
 
+    /**
+     * Largest values within a bounded min-heap (only capacity entries are ever held),
+     * safe to be fed from several threads at once
+     */
+    public static final class TopValuesSubClass {
+        /**
+         * Number of values kept
+         */
+        private final int capacity;
+        /**
+         * Values kept, smallest on top
+         */
+        private final PriorityQueue<Map.Entry<String, Long>> heap;
+        /**
+         * Smallest value kept once heap is full (lets most values be rejected without locking)
+         */
+        private volatile long threshold = Long.MIN_VALUE;
+
+        /**
+         * Constructor
+         * @param inCapacity number of values kept
+         */
+        public TopValuesSubClass(final int inCapacity) {
+            capacity = Math.max(0, inCapacity);
+            heap = new PriorityQueue<>(Math.max(1, capacity), Map.Entry.comparingByValue());
+        }
+
+        /**
+         * Checks whether a value would be kept at this point
+         * (allows callers to skip building names for values which are rejected anyway)
+         * @param inValue value
+         * @return boolean
+         */
+        public boolean isCandidate(final long inValue) {
+            return capacity > 0 && inValue > threshold;
+        }
+
+        /**
+         * Offers a named value
+         * @param inName name
+         * @param inValue value
+         */
+        public void offer(final String inName, final long inValue) {
+            if (isCandidate(inValue)) {
+                synchronized (heap) {
+                    if (heap.size() < capacity) {
+                        heap.add(Map.entry(inName, inValue));
+                    } else if (inValue > heap.peek().getValue()) {
+                        heap.poll();
+                        heap.add(Map.entry(inName, inValue));
+                    }
+                    if (heap.size() == capacity) {
+                        threshold = heap.peek().getValue();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Values kept, largest first (ties sorted by name)
+         * @return SequencedMap
+         */
+        public SequencedMap<String, Long> getSortedValues() {
+            final List<Map.Entry<String, Long>> entries;
+            synchronized (heap) {
+                entries = new ArrayList<>(heap);
+            }
+            entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            final SequencedMap<String, Long> sortedValues = new LinkedHashMap<>();
+            entries.forEach(entry -> sortedValues.put(entry.getKey(), entry.getValue()));
+            return sortedValues;
+        }
+    }
+
+    /**
+     * Word counting with primitive counters and a cap on distinct words:
+     * counts are exact until the cap is reached, afterwards the counter turns into
+     * a Misra-Gries heavy hitters sketch (frequent words are kept, counts become lower bounds)
+     */
+    public static final class WordCounterSubClass {
+        /**
+         * Words (open addressing, null for free slot)
+         */
+        private String[] words;
+        /**
+         * Occurrences for each word slot
+         */
+        private long[] counts;
+        /**
+         * Number of distinct words held
+         */
+        private int size;
+        /**
+         * Largest number of distinct words held
+         */
+        private final int maxDistinctWords;
+        /**
+         * Cap has been reached at least once (counts are approximate)
+         */
+        private boolean isApproximate;
+
+        /**
+         * Constructor
+         * @param inMaxDistinctWords largest number of distinct words held (at least 1)
+         */
+        public WordCounterSubClass(final int inMaxDistinctWords) {
+            if (inMaxDistinctWords < 1) {
+                throw new IllegalArgumentException(String.format("Largest number of distinct words has to be at least 1, but %d was given", inMaxDistinctWords));
+            }
+            maxDistinctWords = inMaxDistinctWords;
+            // capped before multiplying, so large limits cannot overflow initial capacity
+            allocate(Integer.highestOneBit(Math.min(maxDistinctWords, 256)) * 4);
+        }
+
+        /**
+         * Counts every word of a value, words being separated by underscore or space
+         * (scanned without regular expressions, empty words are ignored)
+         * @param inValue value
+         */
+        public void addWordsOf(final String inValue) {
+            int wordStart = 0;
+            for (int intPosition = 0; intPosition <= inValue.length(); intPosition++) {
+                if (intPosition == inValue.length() || inValue.charAt(intPosition) == '_' || inValue.charAt(intPosition) == ' ') {
+                    if (intPosition > wordStart) {
+                        add(inValue.substring(wordStart, intPosition), 1);
+                    }
+                    wordStart = intPosition + 1;
+                }
+            }
+        }
+
+        /**
+         * Adds occurrences of a word
+         * @param inWord word
+         * @param inCount occurrences
+         */
+        public void add(final String inWord, final long inCount) {
+            final int slot = findSlot(words, inWord);
+            if (words[slot] == null) {
+                words[slot] = inWord;
+                counts[slot] = inCount;
+                size++;
+                if (size > maxDistinctWords) {
+                    prune();
+                } else if (size * 2 > words.length) {
+                    rehash(words.length * 2);
+                }
+            } else {
+                counts[slot] += inCount;
+            }
+        }
+
+        /**
+         * Adds every word of another counter (counters of chunks are merged this way)
+         * @param other other counter
+         */
+        public void mergeFrom(final WordCounterSubClass other) {
+            for (int intSlot = 0; intSlot < other.words.length; intSlot++) {
+                if (other.words[intSlot] != null) {
+                    add(other.words[intSlot], other.counts[intSlot]);
+                }
+            }
+            isApproximate |= other.isApproximate;
+        }
+
+        /**
+         * Getter for approximation
+         * @return true when cap has been reached and counts are lower bounds
+         */
+        public boolean isApproximate() {
+            return isApproximate;
+        }
+
+        /**
+         * Words sorted by occurrences (descending) then by word
+         * @return LinkedHashMap of Strings with counted occurrences
+         */
+        public SequencedMap<String, Long> getSortedCounts() {
+            final List<Integer> slots = new ArrayList<>(size);
+            for (int intSlot = 0; intSlot < words.length; intSlot++) {
+                if (words[intSlot] != null) {
+                    slots.add(intSlot);
+                }
+            }
+            slots.sort(Comparator.<Integer>comparingLong(slot -> counts[slot]).reversed()
+                    .thenComparing(slot -> words[slot]));
+            final SequencedMap<String, Long> sorted = new LinkedHashMap<>();
+            slots.forEach(slot -> sorted.put(words[slot], counts[slot]));
+            return sorted;
+        }
+
+        /**
+         * Subtracts smallest count from every word and drops words left without occurrences
+         * (each pruning removes at least as many occurrences as words held, so its cost is amortized)
+         */
+        private void prune() {
+            long minCount = Long.MAX_VALUE;
+            for (int intSlot = 0; intSlot < words.length; intSlot++) {
+                if (words[intSlot] != null) {
+                    minCount = Math.min(minCount, counts[intSlot]);
+                }
+            }
+            for (int intSlot = 0; intSlot < words.length; intSlot++) {
+                if (words[intSlot] != null) {
+                    counts[intSlot] -= minCount;
+                }
+            }
+            isApproximate = true;
+            rehash(words.length);
+        }
+
+        /**
+         * Rebuilds slots keeping only words still having occurrences
+         * @param newCapacity number of slots (power of 2)
+         */
+        private void rehash(final int newCapacity) {
+            final String[] oldWords = words;
+            final long[] oldCounts = counts;
+            allocate(newCapacity);
+            for (int intSlot = 0; intSlot < oldWords.length; intSlot++) {
+                if (oldWords[intSlot] != null && oldCounts[intSlot] > 0) {
+                    final int slot = findSlot(words, oldWords[intSlot]);
+                    words[slot] = oldWords[intSlot];
+                    counts[slot] = oldCounts[intSlot];
+                    size++;
+                }
+            }
+        }
+
+        /**
+         * Allocates empty slots
+         * @param capacity number of slots (power of 2)
+         */
+        private void allocate(final int capacity) {
+            words = new String[capacity];
+            counts = new long[capacity];
+            size = 0;
+        }
+
+        /**
+         * Slot holding a word or free slot where it belongs (linear probing)
+         * @param inWords slots
+         * @param inWord word
+         * @return slot index
+         */
+        private static int findSlot(final String[] inWords, final String inWord) {
+            final int mask = inWords.length - 1;
+            // spreading high bits, as String hash codes of similar words differ mostly in low bits
+            int slot = (inWord.hashCode() ^ (inWord.hashCode() >>> 16)) & mask;
+            while (inWords[slot] != null && !inWords[slot].equals(inWord)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
     /**
      * Constructor
      */
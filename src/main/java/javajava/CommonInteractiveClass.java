@@ -33,6 +33,7 @@ public final class CommonInteractiveClass {
      * @param inOperation main Operation executed
      */
     public static void shutMeDown(final String inOperation) {
+        DatabaseOperationsClass.ConnectionPoolSubClass.closeAllPools();
         final String strFeedbackExit = String.format("Exiting with code %s", exitCode);
         LogExposureClass.LOGGER.info(strFeedbackExit);
         final LocalDateTime finishTimeStamp = LocalDateTime.now(ZoneId.systemDefault());
@@ -2,22 +2,46 @@ package javajava;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import org.sqlite.Function;
@@ -205,6 +229,520 @@ public final class DatabaseOperationsClass {
         return rsProperties;
     }
 
+    /**
+     * Database connection pooling, one pool for each database type and target
+     * (physical connections are opened and set up once, callers closing their connection give it back to its pool)
+     */
+    public static final class ConnectionPoolSubClass {
+        /**
+         * Pools by database type and target
+         */
+        private static final Map<String, ConnectionPoolClass> POOLS = new ConcurrentHashMap<>();
+        /**
+         * Time (in seconds) allowed to validate an idle connection before handing it out
+         */
+        private static final int VALIDATION_TIMEOUT = 2;
+        /**
+         * Interval (in seconds) between idle evictions
+         */
+        private static final long EVICTION_INTERVAL = 30;
+        /**
+         * Maximum number of connections (active and idle) within each pool
+         */
+        private static int maxPoolSize = 4;
+        /**
+         * Time (in milliseconds) after which an idle connection is closed
+         */
+        private static long idleTimeout = 300_000L;
+        /**
+         * Time (in milliseconds) a caller waits for a connection while its pool is exhausted
+         */
+        private static long maxWait = 30_000L;
+        /**
+         * Evictor closing connections idle for too long (daemon thread, started along with first pool)
+         */
+        private static ScheduledExecutorService evictor;
+
+        /**
+         * Setup applied once to each physical connection right after it is opened
+         */
+        @FunctionalInterface
+        public interface ConnectionSetupInterface {
+            /**
+             * Sets a connection up
+             * @param connection physical connection
+             * @throws SQLException in case of any SQL error (connection is then discarded)
+             */
+            void setup(Connection connection) throws SQLException;
+        }
+
+        /**
+         * Pool metrics
+         * @param pool database type and target
+         * @param active connections currently handed out
+         * @param idle connections currently waiting within pool
+         * @param opened physical connections opened so far
+         * @param borrowed connections handed out so far
+         * @param timedOut requests left without connection as pool stayed exhausted
+         * @param evicted connections closed as idle for too long or no longer valid
+         * @param totalWait time spent by callers waiting for a connection
+         * @param longestWait longest time a caller waited for a connection
+         */
+        public record PoolMetricsRecord(String pool, int active, int idle, long opened, long borrowed, long timedOut, long evicted, Duration totalWait, Duration longestWait) {}
+
+        /**
+         * Idle connection
+         * @param connection physical connection
+         * @param since moment (nanoseconds) connection was given back
+         */
+        private record IdleConnectionRecord(Connection connection, long since) {}
+
+        /**
+         * Pool of connections to a single target
+         */
+        private static final class ConnectionPoolClass {
+            /**
+             * Database type and target
+             */
+            private final String strPool;
+            /**
+             * Opener of physical connections (null when connection cannot be opened)
+             */
+            private final Supplier<Connection> opener;
+            /**
+             * Setup applied to each physical connection once opened (null for none)
+             */
+            private final ConnectionSetupInterface setupHook;
+            /**
+             * One permit for each connection which can still be handed out
+             */
+            private final Semaphore permits;
+            /**
+             * Idle connections, most recently used first
+             */
+            private final Deque<IdleConnectionRecord> idleConnections = new ArrayDeque<>();
+            /**
+             * Connections currently handed out
+             */
+            private final AtomicInteger active = new AtomicInteger();
+            /**
+             * Physical connections opened so far
+             */
+            private final LongAdder opened = new LongAdder();
+            /**
+             * Connections handed out so far
+             */
+            private final LongAdder borrowed = new LongAdder();
+            /**
+             * Requests left without connection
+             */
+            private final LongAdder timedOut = new LongAdder();
+            /**
+             * Connections closed as idle for too long or no longer valid
+             */
+            private final LongAdder evicted = new LongAdder();
+            /**
+             * Time (nanoseconds) spent waiting for connections
+             */
+            private final LongAdder totalWaitNanos = new LongAdder();
+            /**
+             * Longest time (nanoseconds) spent waiting for a connection
+             */
+            private final AtomicLong longestWaitNanos = new AtomicLong();
+            /**
+             * Flag for closed pool (connections given back are closed instead of kept)
+             */
+            private boolean isClosed;
+
+            /**
+             * Constructor
+             * @param inPool database type and target
+             * @param inOpener opener of physical connections
+             * @param inSetupHook setup applied to each physical connection once opened
+             */
+            private ConnectionPoolClass(final String inPool, final Supplier<Connection> inOpener, final ConnectionSetupInterface inSetupHook) {
+                strPool = inPool;
+                opener = inOpener;
+                setupHook = inSetupHook;
+                permits = new Semaphore(maxPoolSize, true);
+            }
+
+            /**
+             * Hands out a connection (idle one once validated, otherwise a new one), waiting while pool is exhausted
+             * @return Connection whose closing gives it back (null when none could be obtained)
+             */
+            private Connection borrow() {
+                final long startWait = System.nanoTime();
+                boolean isPermitted = false;
+                try {
+                    isPermitted = permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ei) {
+                    /* Clean up whatever needs to be handled before interrupting  */
+                    Thread.currentThread().interrupt();
+                }
+                final long waitNanos = System.nanoTime() - startWait;
+                totalWaitNanos.add(waitNanos);
+                longestWaitNanos.accumulateAndGet(waitNanos, Math::max);
+                Connection pooled = null;
+                if (isPermitted) {
+                    final Connection physical = getIdleOrNewConnection();
+                    if (physical == null) {
+                        permits.release();
+                    } else {
+                        active.incrementAndGet();
+                        borrowed.increment();
+                        pooled = wrap(physical);
+                    }
+                } else {
+                    timedOut.increment();
+                    final String strFeedbackErr = String.format("No connection became available within %d ms from pool %s (%d active)", maxWait, strPool, active.get());
+                    LogExposureClass.LOGGER.error(strFeedbackErr);
+                }
+                return pooled;
+            }
+
+            /**
+             * Takes most recently used idle connection still valid or opens a new one
+             * @return Connection (null when none could be obtained)
+             */
+            private Connection getIdleOrNewConnection() {
+                Connection physical = null;
+                IdleConnectionRecord idleConnection = pollIdleConnection();
+                while (physical == null && idleConnection != null) {
+                    if (isValid(idleConnection.connection())) {
+                        physical = idleConnection.connection();
+                    } else {
+                        closeQuietly(idleConnection.connection());
+                        evicted.increment();
+                        idleConnection = pollIdleConnection();
+                    }
+                }
+                if (physical == null) {
+                    physical = open();
+                }
+                return physical;
+            }
+
+            /**
+             * Takes most recently used idle connection
+             * @return IdleConnectionRecord (null when there is none)
+             */
+            private IdleConnectionRecord pollIdleConnection() {
+                synchronized (idleConnections) {
+                    return idleConnections.pollFirst();
+                }
+            }
+
+            /**
+             * Opens and sets up a physical connection
+             * @return Connection (null when it could not be opened or set up)
+             */
+            private Connection open() {
+                Connection physical = opener.get();
+                if (physical != null && setupHook != null) {
+                    try {
+                        setupHook.setup(physical);
+                    } catch (SQLException e) {
+                        final String strFeedbackErr = String.format("Setup of a new connection within pool %s has failed: %s", strPool, e.getLocalizedMessage());
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
+                        closeQuietly(physical);
+                        physical = null;
+                    }
+                }
+                if (physical != null) {
+                    opened.increment();
+                }
+                return physical;
+            }
+
+            /**
+             * Wraps a physical connection so closing it gives it back to pool
+             * (connections reporting a lost link are closed instead of being kept,
+             * statements and metadata handed out are wrapped too, so they never expose physical connection)
+             * @param physical physical connection
+             * @return Connection
+             */
+            private Connection wrap(final Connection physical) {
+                final AtomicBoolean isGivenBack = new AtomicBoolean();
+                final AtomicBoolean isBroken = new AtomicBoolean();
+                return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (pooled, method, args) -> {
+                    Object result = null;
+                    switch (method.getName()) {
+                        case "close" -> {
+                            if (isGivenBack.compareAndSet(false, true)) {
+                                giveBack(physical, isBroken.get());
+                            }
+                        }
+                        case "isClosed" -> result = isGivenBack.get() || physical.isClosed();
+                        default -> {
+                            if (isGivenBack.get() && method.getDeclaringClass() != Object.class) {
+                                throw new SQLException(String.format("Connection was already given back to pool %s", strPool));
+                            }
+                            try {
+                                result = shieldConnection(method.invoke(physical, args), (Connection) pooled);
+                            } catch (InvocationTargetException ei) {
+                                if (ei.getCause() instanceof SQLException sqlException && isConnectionLost(sqlException)) {
+                                    isBroken.set(true);
+                                }
+                                throw ei.getCause();
+                            }
+                        }
+                    }
+                    return result;
+                });
+            }
+
+            /**
+             * Wraps statements and metadata so their getConnection gives pooled connection instead of physical one
+             * (closing physical connection obtained that way would bypass pool;
+             * result-sets are kept as they are, so reading rows takes no extra call)
+             * @param result object handed out by physical connection
+             * @param pooled pooled connection
+             * @return Object (wrapped when statement or metadata)
+             */
+            private static Object shieldConnection(final Object result, final Connection pooled) {
+                Class<?> jdbcInterface = null;
+                if (result instanceof CallableStatement) {
+                    jdbcInterface = CallableStatement.class;
+                } else if (result instanceof PreparedStatement) {
+                    jdbcInterface = PreparedStatement.class;
+                } else if (result instanceof Statement) {
+                    jdbcInterface = Statement.class;
+                } else if (result instanceof DatabaseMetaData) {
+                    jdbcInterface = DatabaseMetaData.class;
+                }
+                Object shielded = result;
+                if (jdbcInterface != null) {
+                    shielded = Proxy.newProxyInstance(jdbcInterface.getClassLoader(), new Class<?>[] {jdbcInterface}, (_, method, args) -> {
+                        Object value = pooled;
+                        if (!"getConnection".equals(method.getName()) || method.getParameterCount() > 0) {
+                            try {
+                                value = method.invoke(result, args);
+                            } catch (InvocationTargetException ei) {
+                                throw ei.getCause();
+                            }
+                        }
+                        return value;
+                    });
+                }
+                return shielded;
+            }
+
+            /**
+             * Takes back a connection: transaction left open is rolled back, then connection is kept as idle
+             * (or closed, when broken or pool is closed)
+             * @param physical physical connection
+             * @param isBroken true when connection reported a lost link
+             */
+            private void giveBack(final Connection physical, final boolean isBroken) {
+                boolean isReusable = !isBroken;
+                try {
+                    if (isReusable && !physical.getAutoCommit()) {
+                        physical.rollback();
+                        physical.setAutoCommit(true);
+                    }
+                } catch (SQLException e) {
+                    isReusable = false;
+                }
+                synchronized (idleConnections) {
+                    isReusable = isReusable && !isClosed;
+                    if (isReusable) {
+                        idleConnections.addFirst(new IdleConnectionRecord(physical, System.nanoTime()));
+                    }
+                }
+                if (!isReusable) {
+                    closeQuietly(physical);
+                }
+                active.decrementAndGet();
+                permits.release();
+            }
+
+            /**
+             * Closes connections idle for longer than idle timeout (least recently used first)
+             */
+            private void evictIdleConnections() {
+                final List<Connection> expired = new ArrayList<>();
+                final long oldestKept = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+                synchronized (idleConnections) {
+                    while (!idleConnections.isEmpty() && idleConnections.peekLast().since() < oldestKept) {
+                        expired.add(idleConnections.pollLast().connection());
+                    }
+                }
+                expired.forEach(ConnectionPoolSubClass::closeQuietly);
+                evicted.add(expired.size());
+            }
+
+            /**
+             * Closes pool: idle connections right away, active ones once given back
+             */
+            private void close() {
+                final List<Connection> idle = new ArrayList<>();
+                synchronized (idleConnections) {
+                    isClosed = true;
+                    idleConnections.forEach(idleConnection -> idle.add(idleConnection.connection()));
+                    idleConnections.clear();
+                }
+                idle.forEach(ConnectionPoolSubClass::closeQuietly);
+            }
+
+            /**
+             * Current metrics
+             * @return PoolMetricsRecord
+             */
+            private PoolMetricsRecord getMetrics() {
+                final int idle;
+                synchronized (idleConnections) {
+                    idle = idleConnections.size();
+                }
+                return new PoolMetricsRecord(strPool, active.get(), idle, opened.sum(), borrowed.sum(), timedOut.sum(), evicted.sum(),
+                        Duration.ofNanos(totalWaitNanos.sum()), Duration.ofNanos(longestWaitNanos.get()));
+            }
+        }
+
+        /**
+         * Hands out a connection from pool of given database type and target (pool is created on first request)
+         * @param strDatabaseType type of database
+         * @param strTarget target within database type (i.e. connection string and user, never password)
+         * @param opener opener of physical connections (returning null when connection cannot be opened)
+         * @param setupHook setup applied once to each physical connection (null for none)
+         * @return Connection whose closing gives it back to pool (null when none could be obtained)
+         */
+        public static Connection getConnection(final String strDatabaseType, final String strTarget, final Supplier<Connection> opener, final ConnectionSetupInterface setupHook) {
+            return POOLS.computeIfAbsent(strDatabaseType + " | " + strTarget, strPool -> {
+                startEvictor();
+                return new ConnectionPoolClass(strPool, opener, setupHook);
+            }).borrow();
+        }
+
+        /**
+         * Metrics of every pool
+         * @return List of PoolMetricsRecord sorted by pool
+         */
+        public static List<PoolMetricsRecord> getPoolMetrics() {
+            return POOLS.values().stream()
+                    .map(ConnectionPoolClass::getMetrics)
+                    .sorted(Comparator.comparing(PoolMetricsRecord::pool))
+                    .toList();
+        }
+
+        /**
+         * Closes every pool, logging its metrics (connections still handed out are closed once given back)
+         */
+        public static void closeAllPools() {
+            for (final String strPool : List.copyOf(POOLS.keySet())) {
+                final ConnectionPoolClass pool = POOLS.remove(strPool);
+                if (pool != null) {
+                    final PoolMetricsRecord metrics = pool.getMetrics();
+                    final String strFeedback = String.format("Connection pool %s opened %d connections for %d requests (%d timed out, %d evicted), callers waited %s in total and %s at most",
+                            strPool, metrics.opened(), metrics.borrowed(), metrics.timedOut(), metrics.evicted(), metrics.totalWait(), metrics.longestWait());
+                    LogExposureClass.LOGGER.debug(strFeedback);
+                    pool.close();
+                }
+            }
+        }
+
+        /**
+         * Starts evictor of idle connections (only once)
+         */
+        private static synchronized void startEvictor() {
+            if (evictor == null) {
+                evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "connection-pool-evictor");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                evictor.scheduleWithFixedDelay(() -> POOLS.values().forEach(ConnectionPoolClass::evictIdleConnections), EVICTION_INTERVAL, EVICTION_INTERVAL, TimeUnit.SECONDS);
+            }
+        }
+
+        /**
+         * Checks whether an idle connection can still be used
+         * @param connection physical connection
+         * @return boolean
+         */
+        private static boolean isValid(final Connection connection) {
+            boolean isValid = false;
+            try {
+                isValid = connection.isValid(VALIDATION_TIMEOUT);
+            } catch (SQLException e) {
+                final String strFeedback = String.format("Idle connection validation failed: %s", e.getLocalizedMessage());
+                LogExposureClass.LOGGER.debug(strFeedback);
+            }
+            return isValid;
+        }
+
+        /**
+         * Checks whether an exception means link to database is lost
+         * @param exptObj SQL exception
+         * @return boolean
+         */
+        private static boolean isConnectionLost(final SQLException exptObj) {
+            return exptObj instanceof SQLNonTransientConnectionException
+                    || exptObj instanceof SQLRecoverableException
+                    || exptObj.getSQLState() != null && exptObj.getSQLState().startsWith("08");
+        }
+
+        /**
+         * Closes a physical connection ignoring errors
+         * @param connection physical connection
+         */
+        private static void closeQuietly(final Connection connection) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                final String strFeedback = String.format("Pooled connection closing failed: %s", e.getLocalizedMessage());
+                LogExposureClass.LOGGER.debug(strFeedback);
+            }
+        }
+
+        /**
+         * Setter for idle timeout
+         * @param inIdleTimeout time (in milliseconds) after which an idle connection is closed (at least 1)
+         */
+        public static void setIdleTimeout(final long inIdleTimeout) {
+            idleTimeout = getPositiveSetting("idle timeout", inIdleTimeout);
+        }
+
+        /**
+         * Setter for maximum pool size (applies to pools created afterwards)
+         * @param inMaxPoolSize maximum number of connections within each pool (at least 1)
+         */
+        public static void setMaxPoolSize(final int inMaxPoolSize) {
+            maxPoolSize = (int) getPositiveSetting("maximum pool size", inMaxPoolSize);
+        }
+
+        /**
+         * Setter for maximum wait
+         * @param inMaxWait time (in milliseconds) a caller waits for a connection while its pool is exhausted (at least 1)
+         */
+        public static void setMaxWait(final long inMaxWait) {
+            maxWait = getPositiveSetting("maximum wait", inMaxWait);
+        }
+
+        /**
+         * Checks a pool setting is positive (a pool of no connections, or one never waiting, would refuse every request)
+         * @param strSetting setting name
+         * @param value setting value
+         * @return value given
+         */
+        private static long getPositiveSetting(final String strSetting, final long value) {
+            if (value < 1) {
+                final String strFeedback = String.format("Connection pool %s has to be at least 1, but %d was given", strSetting, value);
+                LogExposureClass.LOGGER.error(strFeedback);
+                throw new IllegalArgumentException(strFeedback);
+            }
+            return value;
+        }
+
+        /**
+         * Constructor
+         */
+        private ConnectionPoolSubClass() {
+            // intentionally blank
+        }
+
+    }
+
     /**
      * Database connectivity
      */
@@ -288,6 +826,60 @@ public final class DatabaseOperationsClass {
          */
         /* default */ private static int batchSize = 1000;
 
+        /**
+         * Binding rule flag: empty value is bound as NULL
+         */
+        private static final int BIND_NULLABLE = 1;
+        /**
+         * Binding rule flag: quotes are removed and value becoming empty is bound as NULL
+         */
+        private static final int BIND_CLEANABLE = 2;
+        /**
+         * Binding rule flag: double quotes are doubled (JSON content)
+         */
+        private static final int BIND_JSON = 4;
+        /**
+         * Quotes removed from clean-able values
+         */
+        private static final Pattern QUOTES_PATTERN = Pattern.compile("[\"']");
+
+        /**
+         * Parameter binding plan compiled once per query
+         * (so binding each cell needs no parsing, splitting or list scanning)
+         * @param strQuery original query with prompt parameters
+         * @param strFinalQuery query with prompt parameters converted into JDBC parameters
+         * @param keys parameter keys in order of appearance within query (JDBC index being position + 1)
+         * @param rules binding rule flags of each parameter
+         */
+        public record BindingPlanRecord(String strQuery, String strFinalQuery, String[] keys, int[] rules) {}
+
+        /**
+         * Compiles binding plan for a query
+         * @param strQuery Original Query with Prompt Parameters
+         * @param objValues Values to use for executions (first row gives known keys)
+         * @param specialFields Clean-able and Null-able fields (as "|" separated lists)
+         * @return BindingPlanRecord
+         */
+        public static BindingPlanRecord compileBindingPlan(final String strQuery, final List<Properties> objValues, final Properties specialFields) {
+            final List<String> mapParameterOrder = getPromptParametersOrderWithinQuery(strQuery, objValues);
+            final List<String> listCleanable = Arrays.asList(specialFields.getProperty("Cleanable", "").split("\\|"));
+            final List<String> listNullable = Arrays.asList(specialFields.getProperty("Nullable", "").split("\\|"));
+            final String[] keys = mapParameterOrder.toArray(new String[0]);
+            final int[] rules = new int[keys.length];
+            for (int intParameter = 0; intParameter < keys.length; intParameter++) {
+                final String strKey = keys[intParameter];
+                if (listNullable.contains(strKey)) {
+                    rules[intParameter] |= BIND_NULLABLE;
+                }
+                if (listCleanable.contains(strKey)) {
+                    rules[intParameter] |= BIND_CLEANABLE;
+                } else if (strKey.contains("_JSON") || strKey.startsWith("JSON_")) {
+                    rules[intParameter] |= BIND_JSON;
+                }
+            }
+            return new BindingPlanRecord(strQuery, BasicStructuresClass.StringConversionSubClass.convertPromptParametersIntoParameters(strQuery), keys, rules);
+        }
+
         /**
          * Values to be added for bulk operations
          * @param objConnection Connection for destination Database
@@ -297,78 +889,79 @@ public final class DatabaseOperationsClass {
          * @param specialFields Clean-able and Null-able fields
          */
         public static void executeValuesIntoDatabaseUsingPreparedStatement(final Connection objConnection, final String strQueryPurpose, final List<Properties> objValues, final String strQuery, final Properties specialFields) {
-            final int intRows = objValues.size();
-            if (intRows == 0) {
-                final String strFeedback = String.format("Within %s a request to process %s rows was given...", StackWalker.getInstance().walk(frames -> frames.findFirst().map(frame -> frame.getClassName() + "." + frame.getMethodName())), intRows);
+            if (objValues.isEmpty()) {
+                final String strFeedback = String.format("Within %s a request to process %s rows was given...", StackWalker.getInstance().walk(frames -> frames.findFirst().map(frame -> frame.getClassName() + "." + frame.getMethodName())), 0);
                 LogExposureClass.LOGGER.warn(strFeedback);
             } else {
-                final List<String> mapParameterOrder = getPromptParametersOrderWithinQuery(strQuery, objValues);
-                final int intParameters = mapParameterOrder.size();
-                final String strFinalQuery = BasicStructuresClass.StringConversionSubClass.convertPromptParametersIntoParameters(strQuery);
-                try (PreparedStatement preparedStatement = objConnection.prepareStatement(strFinalQuery)) {
-                    final Properties properties = new Properties();
-                    // cycle through each row
-                    for (int crtRow = 1; crtRow <= intRows; crtRow++) {
-                        final Properties currentProps = objValues.get(crtRow - 1);
-                        // cycle through every single Parameter to set its value to PreparedStatement
-                        for (int intParameter = 0; intParameter < intParameters; intParameter++) {
-                            final int index = intParameter + 1;
-                            final String strKey = mapParameterOrder.get(intParameter);
-                            final String strOriginalValue = currentProps.getProperty(strKey);
-                            properties.put("index", index);
-                            properties.put("strKey", strKey);
-                            properties.put("strOriginalValue", strOriginalValue);
-                            properties.put("strQuery", strQuery);
-                            properties.put("strArrayCleanable", specialFields.get("Cleanable").toString());
-                            properties.put("strArrayNullable", specialFields.get("Nullable").toString());
-                            bindSingleParameter(preparedStatement, properties);
-                        }
-                        preparedStatement.addBatch();
-                        if ((crtRow % batchSize == 0)
-                                || (crtRow == intRows)) { // each batchSize rows OR final one
-                            preparedStatement.executeLargeBatch();
-                            final String strFeedback = String.format(BasicStructuresClass.STR_EXEC_QRY_OK, strQueryPurpose + " record " + crtRow);
-                            LogExposureClass.LOGGER.info(strFeedback);
-                        }
+                executeValuesIntoDatabaseUsingPreparedStatement(objConnection, strQueryPurpose, objValues, compileBindingPlan(strQuery, objValues, specialFields));
+            }
+        }
+
+        /**
+         * Values to be added for bulk operations using an already compiled binding plan
+         * (plan can be reused for every chunk of a large load)
+         * @param objConnection Connection for destination Database
+         * @param strQueryPurpose Purpose for query execution
+         * @param objValues Values to use for executions
+         * @param bindingPlan compiled binding plan
+         */
+        public static void executeValuesIntoDatabaseUsingPreparedStatement(final Connection objConnection, final String strQueryPurpose, final List<Properties> objValues, final BindingPlanRecord bindingPlan) {
+            final int intRows = objValues.size();
+            final String[] keys = bindingPlan.keys();
+            final int[] rules = bindingPlan.rules();
+            try (PreparedStatement preparedStatement = objConnection.prepareStatement(bindingPlan.strFinalQuery())) {
+                // cycle through each row
+                for (int crtRow = 1; crtRow <= intRows; crtRow++) {
+                    final Properties currentProps = objValues.get(crtRow - 1);
+                    // cycle through every single Parameter to set its value to PreparedStatement
+                    for (int intParameter = 0; intParameter < keys.length; intParameter++) {
+                        bindSingleParameter(preparedStatement, intParameter + 1, rules[intParameter], currentProps.getProperty(keys[intParameter]), bindingPlan);
+                    }
+                    preparedStatement.addBatch();
+                    if ((crtRow % batchSize == 0)
+                            || (crtRow == intRows)) { // each batchSize rows OR final one
+                        preparedStatement.executeLargeBatch();
+                        final String strFeedback = String.format(BasicStructuresClass.STR_EXEC_QRY_OK, strQueryPurpose + " record " + crtRow);
+                        LogExposureClass.LOGGER.info(strFeedback);
                     }
-                } catch (SQLException e) {
-                    setSqlExceptionError(e, objValues, strQuery);
-                    throw (IllegalStateException)new IllegalStateException().initCause(e);
                 }
+            } catch (SQLException e) {
+                setSqlExceptionError(e, objValues, bindingPlan.strQuery());
+                throw (IllegalStateException)new IllegalStateException().initCause(e);
             }
         }
 
         /**
          * bind Single Parameter
          * @param preparedStatement original Prepared Statement
-         * @param properties properties with relevant components
-         */
-        private static void bindSingleParameter(final PreparedStatement preparedStatement, final Properties properties) {
-            final int index = Integer.parseInt(properties.get("index").toString());
-            final String strKey = properties.get("strKey").toString();
-            final String strQuery = properties.get("strQuery").toString();
-            final String strOriginalValue = properties.get("strOriginalValue").toString();
-            final String[] arrayCleanable = properties.get("strArrayCleanable").toString().split("\\|");
-            final String[] arrayNullable = properties.get("strArrayNullable").toString().split("\\|");
+         * @param index JDBC parameter index
+         * @param rule binding rule flags
+         * @param strOriginalValue value to bind (missing value is bound as NULL)
+         * @param bindingPlan binding plan (for meaningful feedback)
+         */
+        private static void bindSingleParameter(final PreparedStatement preparedStatement, final int index, final int rule, final String strOriginalValue, final BindingPlanRecord bindingPlan) {
+            String strValue = strOriginalValue;
+            if (strValue == null || STR_NULL.equalsIgnoreCase(strValue)
+                    || ((rule & BIND_NULLABLE) != 0 && strValue.isEmpty())) {
+                strValue = null;
+            } else if ((rule & BIND_CLEANABLE) != 0) {
+                if (strValue.indexOf('"') >= 0 || strValue.indexOf('\'') >= 0) {
+                    strValue = QUOTES_PATTERN.matcher(strValue).replaceAll("");
+                }
+                if (strValue.isEmpty()) {
+                    strValue = null;
+                }
+            } else if ((rule & BIND_JSON) != 0 && strValue.indexOf('"') >= 0) {
+                strValue = strValue.replace("\"", "\"\"");
+            }
             try {
-                if (STR_NULL.equalsIgnoreCase(strOriginalValue)
-                        || (Arrays.asList(arrayNullable).contains(strKey)
-                        && strOriginalValue.isEmpty())) {
+                if (strValue == null) {
                     preparedStatement.setNull(index, Types.VARCHAR);
-                } else if (Arrays.asList(arrayCleanable).contains(strKey)) {
-                    final String strCleanedValue = strOriginalValue.replaceAll("([\"'])", "");
-                    if (strCleanedValue.isEmpty()) {
-                        preparedStatement.setNull(index, Types.VARCHAR);
-                    } else {
-                        preparedStatement.setString(index, strCleanedValue);
-                    }
-                } else if (strKey.contains("_JSON") || strKey.startsWith("JSON_")) {
-                    preparedStatement.setString(index, strOriginalValue.replace("\"", "\"\""));
                 } else {
-                    preparedStatement.setString(index, strOriginalValue);
+                    preparedStatement.setString(index, strValue);
                 }
             } catch (SQLException e) {
-                setSqlParameterBindingError(e, strKey, strQuery);
+                setSqlParameterBindingError(e, bindingPlan.keys()[index - 1], bindingPlan.strQuery());
             }
         }
 
@@ -430,6 +1023,10 @@ public final class DatabaseOperationsClass {
          * column counter
          */
         private static int intColumnsIs;
+        /**
+         * number of rows JDBC driver is asked to fetch from server at once when rows are visited
+         */
+        private static int fetchSize = 1000;
 
         /**
          * capture to Log result-set properties
@@ -506,28 +1103,37 @@ public final class DatabaseOperationsClass {
 
         /**
          * get column values from ResultSet
+         * (whole result is held in columnar form, each row becoming Properties only when accessed;
+         * for results not needed as a whole visitResultSetRows is preferable)
          *
          * @param resultSet result-set
-         * @return List of Properties
+         * @return read-only List of Properties (NULL values given as "NULL")
          */
         public static List<Properties> getResultSetColumnValues(final ResultSet resultSet) {
-            final List<Properties> listResultSet = new ArrayList<>();
+            return getResultSetColumnarValues(resultSet).asPropertiesList(STR_NULL);
+        }
+
+        /**
+         * get whole result from ResultSet in compact columnar form
+         * (low-cardinality columns dictionary-encoded, NULL values marked within bitmaps)
+         *
+         * @param resultSet result-set
+         * @return sealed ColumnarTableSubClass (without columns if result-set cannot be read, with rows read so far if reading fails midway)
+         */
+        public static BasicStructuresClass.ColumnarTableSubClass getResultSetColumnarValues(final ResultSet resultSet) {
+            BasicStructuresClass.ColumnarTableSubClass table = new BasicStructuresClass.ColumnarTableSubClass();
             try {
-                final ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-                final int columnCount = resultSetMetaData.getColumnCount();
-                int intRow = 0;
-                while (resultSet.next()) {
-                    listResultSet.add(RowProcessingClass.getCurrentRowIntoProperties(resultSet, columnCount, resultSetMetaData));
-                    intRow++;
-                }
-                intResultSetRows = intRow;
-                final String strFeedback = String.format("I have found %d records", intRow);
-                LogExposureClass.LOGGER.debug(strFeedback);
+                final String[] columnNames = getResultSetColumnNames(resultSet);
+                final BasicStructuresClass.ColumnarTableSubClass columnarTable = new BasicStructuresClass.ColumnarTableSubClass(columnNames);
+                table = columnarTable;
+                visitResultSetRows(resultSet, columnNames.length, null, columnarTable::addRow);
             } catch (SQLException e) {
-                final String strFeedbackErr = String.format(STR_I18N_STM_UNB, "structures", e.getLocalizedMessage());
+                final String strFeedbackErr = String.format(STR_I18N_STM_UNB, "rows", e.getLocalizedMessage())
+                        + String.format(" (%s rows read so far are kept)", table.getRowCount());
                 LogExposureClass.LOGGER.error(strFeedbackErr);
             }
-            return listResultSet;
+            table.seal();
+            return table;
         }
 
         /**
@@ -544,6 +1150,108 @@ public final class DatabaseOperationsClass {
             return resultSet == null ? new ArrayList<>() : getResultSetColumnValues(resultSet);
         }
 
+        /**
+         * Visits rows of a query one at a time
+         * (driver is asked to fetch rows in chunks of configured fetch size, each row being discarded once visited,
+         * so memory does not grow with result size)
+         *
+         * @param objStatement statement
+         * @param strPurpose purpose of query
+         * @param strQueryToUse query to use
+         * @param queryProperties properties (with features to apply)
+         * @param rowVisitor receiver of column names and current row values (see visitResultSetRows)
+         * @return number of rows visited
+         */
+        public static long visitQueryRows(final Statement objStatement, final String strPurpose, final String strQueryToUse, final Properties queryProperties, final BiConsumer<String[], String[]> rowVisitor) {
+            long rows = 0;
+            try {
+                objStatement.setFetchSize(fetchSize);
+            } catch (SQLException e) {
+                final String strFeedback = String.format("Fetch size of %d could not be set for %s, driver default will be used: %s", fetchSize, strPurpose, e.getLocalizedMessage());
+                LogExposureClass.LOGGER.warn(strFeedback);
+            }
+            try (ResultSet resultSet = executeCustomQuery(objStatement, strPurpose, strQueryToUse, queryProperties)) {
+                if (resultSet != null) {
+                    rows = visitResultSetRows(resultSet, rowVisitor);
+                }
+            } catch (SQLException e) {
+                final String strFeedback = String.format("Statement execution for %s has failed with following error: %s", strPurpose, e.getLocalizedMessage());
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+            return rows;
+        }
+
+        /**
+         * Visits rows of a ResultSet one at a time
+         * (column names are resolved once, values of each row go into the same array, so visitor must copy whatever it keeps)
+         *
+         * @param resultSet result-set
+         * @param rowVisitor receiver of column names and current row values (NULL values given as "NULL")
+         * @return number of rows visited
+         */
+        public static long visitResultSetRows(final ResultSet resultSet, final BiConsumer<String[], String[]> rowVisitor) {
+            long rows = 0;
+            try {
+                final String[] columnNames = getResultSetColumnNames(resultSet);
+                rows = visitResultSetRows(resultSet, columnNames.length, STR_NULL, values -> rowVisitor.accept(columnNames, values));
+            } catch (SQLException e) {
+                final String strFeedbackErr = String.format(STR_I18N_STM_UNB, "rows", e.getLocalizedMessage());
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            return rows;
+        }
+
+        /**
+         * Visits rows of a ResultSet one at a time with column names already resolved
+         *
+         * @param resultSet result-set
+         * @param columnCount number of columns
+         * @param strNullValue value given for NULL cells
+         * @param rowVisitor receiver of current row values (array reused for next row)
+         * @return number of rows visited
+         * @throws SQLException in case of any SQL error
+         */
+        private static long visitResultSetRows(final ResultSet resultSet, final int columnCount, final String strNullValue, final Consumer<String[]> rowVisitor) throws SQLException {
+            long rows = 0;
+            final String[] values = new String[columnCount];
+            while (resultSet.next()) {
+                for (int colIndex = 0; colIndex < columnCount; colIndex++) {
+                    final String crtValue = resultSet.getString(colIndex + 1);
+                    values[colIndex] = resultSet.wasNull() ? strNullValue : crtValue;
+                }
+                rowVisitor.accept(values);
+                rows++;
+            }
+            intResultSetRows = (int) Math.min(rows, Integer.MAX_VALUE);
+            final String strFeedback = String.format("I have found %d records", rows);
+            LogExposureClass.LOGGER.debug(strFeedback);
+            return rows;
+        }
+
+        /**
+         * get column names from ResultSet (resolved once for all rows)
+         *
+         * @param resultSet result-set
+         * @return array of column names
+         * @throws SQLException in case of any SQL error
+         */
+        private static String[] getResultSetColumnNames(final ResultSet resultSet) throws SQLException {
+            final ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            final String[] columnNames = new String[resultSetMetaData.getColumnCount()];
+            for (int colIndex = 0; colIndex < columnNames.length; colIndex++) {
+                columnNames[colIndex] = resultSetMetaData.getColumnName(colIndex + 1);
+            }
+            return columnNames;
+        }
+
+        /**
+         * Setter for fetch size
+         * @param inFetchSize number of rows fetched from server at once when rows are visited
+         */
+        public static void setFetchSize(final int inFetchSize) {
+            fetchSize = inFetchSize;
+        }
+
         /**
          * get list of values
          *
@@ -634,22 +1342,17 @@ public final class DatabaseOperationsClass {
             }
 
             /**
-             * Collecting current row
-             * @param resultSet digesting result-set
-             * @param columnCount number of columns to iterate through
-             * @param resultSetMetaData column names
-             * @return Properties with current row value and their name
+             * Current row as text (for logging)
+             * @param columnNames column names
+             * @param values current row values
+             * @return String as {name=value, ...}
              */
-            private static Properties getCurrentRowIntoProperties(final ResultSet resultSet, final int columnCount, final ResultSetMetaData resultSetMetaData) throws SQLException {
-                final Properties currentRow = new Properties();
-                for (int colIndex = 1; colIndex <= columnCount; colIndex++) {
-                    String crtValue = resultSet.getString(colIndex);
-                    if (resultSet.wasNull()) {
-                        crtValue = STR_NULL;
-                    }
-                    currentRow.put(resultSetMetaData.getColumnName(colIndex), crtValue);
+            public static String getCurrentRowAsString(final String[] columnNames, final String... values) {
+                final StringJoiner currentRow = new StringJoiner(", ", "{", "}");
+                for (int colIndex = 0; colIndex < columnNames.length; colIndex++) {
+                    currentRow.add(columnNames[colIndex] + '=' + values[colIndex]);
                 }
-                return currentRow;
+                return currentRow.toString();
             }
 
             /**
@@ -719,18 +1422,23 @@ public final class DatabaseOperationsClass {
             } else {
                 final String strServer = propInstance.get("ServerName").toString();
                 final int strPort = BasicStructuresClass.convertStringIntoInteger(propInstance.get("Port").toString());
-                try {
-                    final String strConnection = String.format("jdbc:mysql://%s:%s/%s", strServer, strPort, strDatabase);
-                    final Properties propConnection = getMySqlProperties(propInstance);
-                    final String strFeedback = String.format("Will attempt to create a %s connection to database %s using %s as connection string and %s properties", STR_DB_MYSQL, strDatabase, strConnection, BasicStructuresClass.StringTransformationSubClass.obfuscateProperties(propConnection));
-                    LogExposureClass.LOGGER.debug(strFeedback);
-                    connection = DriverManager.getConnection(strConnection, propConnection);
-                    final String strFeedbackOk = String.format("%s connection to server %s, port %s and database %s was successfully established!", STR_DB_MYSQL, strServer, strPort, strDatabase);
-                    LogExposureClass.LOGGER.debug(strFeedbackOk);
-                } catch(SQLException e) {
-                    final String strFeedbackErr = String.format("%s connection to server %s, port %s and database %s has failed %s", STR_DB_MYSQL, strServer, strPort, strDatabase, e.getLocalizedMessage());
-                    LogExposureClass.LOGGER.debug(strFeedbackErr);
-                }
+                final String strConnection = String.format("jdbc:mysql://%s:%s/%s", strServer, strPort, strDatabase);
+                final Properties propConnection = getMySqlProperties(propInstance);
+                // pool is keyed by user as well, never by password
+                connection = ConnectionPoolSubClass.getConnection(STR_DB_MYSQL, strConnection + " as " + propConnection.get("user"), () -> {
+                    Connection physical = null;
+                    try {
+                        final String strFeedback = String.format("Will attempt to create a %s connection to database %s using %s as connection string and %s properties", STR_DB_MYSQL, strDatabase, strConnection, BasicStructuresClass.StringTransformationSubClass.obfuscateProperties(propConnection));
+                        LogExposureClass.LOGGER.debug(strFeedback);
+                        physical = DriverManager.getConnection(strConnection, propConnection);
+                        final String strFeedbackOk = String.format("%s connection to server %s, port %s and database %s was successfully established!", STR_DB_MYSQL, strServer, strPort, strDatabase);
+                        LogExposureClass.LOGGER.debug(strFeedbackOk);
+                    } catch(SQLException e) {
+                        final String strFeedbackErr = String.format("%s connection to server %s, port %s and database %s has failed %s", STR_DB_MYSQL, strServer, strPort, strDatabase, e.getLocalizedMessage());
+                        LogExposureClass.LOGGER.debug(strFeedbackErr);
+                    }
+                    return physical;
+                }, null);
             }
             return connection;
         }
@@ -763,6 +1471,8 @@ public final class DatabaseOperationsClass {
             properties.put("autoReconnect", true);
             properties.put("allowPublicKeyRetrieval", true);
             properties.put("useSSL", false);
+            // without cursor fetch MySQL driver reads whole result into memory, ignoring fetch size
+            properties.put("useCursorFetch", true);
             properties.put("useUnicode", true);
             properties.put("useJDBCCompliantTimezoneShift", true);
             properties.put("useLegacyDatetimeCode", false);
@@ -780,11 +1490,9 @@ public final class DatabaseOperationsClass {
             try (Connection objConnection = getMySqlConnection(givenProperties, "mysql")) {
                 assert objConnection != null;
                 try (Statement objStatement = ConnectivitySubClass.createSqlStatement(STR_DB_MYSQL, objConnection)) {
-                    final List<Properties> listProps = getMySqlPreDefinedInformation(objStatement, strWhich, "purpose " + strWhich, STR_VALUES);
-                    if (!listProps.isEmpty()) {
-                        final String strFeedback = listProps.toString();
-                        LogExposureClass.LOGGER.info(strFeedback);
-                    }
+                    // rows are logged as they arrive, so large catalogs (i.e. Columns) are never held in memory
+                    ResultSettingSubClass.visitQueryRows(objStatement, "purpose " + strWhich, getPreDefinedQuery(STR_DB_MYSQL, strWhich), new Properties(),
+                            (columnNames, values) -> LogExposureClass.LOGGER.info(ResultSettingSubClass.RowProcessingClass.getCurrentRowAsString(columnNames, values)));
                 }
             } catch(SQLException e) {
                 final String strFeedbackErr = String.format("Error %s", Arrays.toString(e.getStackTrace()));
@@ -809,6 +1517,51 @@ public final class DatabaseOperationsClass {
          */
         private static String internalDatabase;
 
+        /**
+         * Benchmarks custom regular expression functions on a temporary in-memory table
+         * (REGEXP_LIKE compiling its pattern for every row is measured as reference, best round is kept)
+         *
+         * @param intRows number of rows functions are evaluated on
+         * @param intRounds number of rounds for each function
+         * @return Map with best cost (in nanoseconds per row) for each function
+         */
+        public static Map<String, Double> benchmarkRegularExpressionFunctions(final int intRows, final int intRounds) {
+            final Map<String, String> benchmarkQueries = new LinkedHashMap<>();
+            benchmarkQueries.put("REGEXP_LIKE compiling pattern for every row", "SELECT COUNT(*) FROM bench WHERE REGEXP_LIKE_UNCACHED(txt, 'build-[0-9]+7[.]log$')");
+            benchmarkQueries.put("REGEXP_LIKE", "SELECT COUNT(*) FROM bench WHERE REGEXP_LIKE(txt, 'build-[0-9]+7[.]log$')");
+            benchmarkQueries.put("REGEXP_REPLACE", "SELECT COUNT(REGEXP_REPLACE(txt, '[0-9]+', '#')) FROM bench");
+            benchmarkQueries.put("REGEXP_SUBSTR", "SELECT COUNT(REGEXP_SUBSTR(txt, '[0-9]+', 1, 2)) FROM bench");
+            benchmarkQueries.put("REGEXP_COUNT", "SELECT SUM(REGEXP_COUNT(txt, '[0-9]')) FROM bench");
+            final Map<String, Double> bestCost = new LinkedHashMap<>();
+            try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+                 Statement objStatement = connection.createStatement()) {
+                registerSqLiteFunctions(connection);
+                Function.create(connection, "REGEXP_LIKE_UNCACHED", new Function() {
+                    @Override
+                    protected void xFunc() throws SQLException {
+                        result(Pattern.compile(value_text(1), Pattern.CASE_INSENSITIVE).matcher(value_text(0)).find() ? 1 : 0);
+                    }
+                });
+                objStatement.execute("CREATE TEMP TABLE bench (txt TEXT NOT NULL)");
+                objStatement.execute(String.format("INSERT INTO bench WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d) SELECT 'logs/2026/build-' || n || '.log' FROM seq", intRows));
+                for (final Map.Entry<String, String> benchmarkQuery : benchmarkQueries.entrySet()) {
+                    double bestNanosecondsPerRow = Double.MAX_VALUE;
+                    for (int intRound = 0; intRound < intRounds; intRound++) {
+                        final long startTime = System.nanoTime();
+                        try (ResultSet rsBench = objStatement.executeQuery(benchmarkQuery.getValue())) {
+                            rsBench.next();
+                        }
+                        bestNanosecondsPerRow = Math.min(bestNanosecondsPerRow, (System.nanoTime() - startTime) / (double) Math.max(intRows, 1));
+                    }
+                    bestCost.put(benchmarkQuery.getKey(), bestNanosecondsPerRow);
+                }
+            } catch (SQLException e) {
+                final String strFeedbackErr = String.format("Error when benchmarking %s regular expression functions: %s", BasicStructuresClass.STR_SQLITE, e.getLocalizedMessage());
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            return bestCost;
+        }
+
         /**
          * Getter for internalDatabase
          */
@@ -825,42 +1578,92 @@ public final class DatabaseOperationsClass {
         }
 
         /**
-         * Initiates a SQLite connection
+         * Initiates a SQLite connection (taken from pool of given file, opened and set up only when none is idle)
          * 
          * @param strSqLiteFile file with SQLite database
          * @return Connection
          */
         public static Connection getSqLiteConnection(final String strSqLiteFile) {
             final String strConnection = "jdbc:sqlite:" + strSqLiteFile.replace("\\", "/");
-            final String strFeedbackAtmpt = String.format("Will attempt to create a %s connection to database %s using %s as connection string", BasicStructuresClass.STR_SQLITE, strSqLiteFile, strConnection);
-            LogExposureClass.LOGGER.debug(strFeedbackAtmpt);
-            Connection connection = null;
-            try {
-                connection = DriverManager.getConnection(strConnection);
-                final String strFeedbackOk = String.format("%s connection to database %s was successfully established!", BasicStructuresClass.STR_SQLITE, strSqLiteFile);
-                LogExposureClass.LOGGER.debug(strFeedbackOk);
-                Function.create(connection, "REGEXP_LIKE", new Function() {
-                    @Override
-                    protected void xFunc() throws SQLException {
-                        final String text = value_text(0);
-                        final String pattern = value_text(1);
+            return ConnectionPoolSubClass.getConnection(BasicStructuresClass.STR_SQLITE, strConnection, () -> {
+                final String strFeedbackAtmpt = String.format("Will attempt to create a %s connection to database %s using %s as connection string", BasicStructuresClass.STR_SQLITE, strSqLiteFile, strConnection);
+                LogExposureClass.LOGGER.debug(strFeedbackAtmpt);
+                Connection connection = null;
+                try {
+                    connection = DriverManager.getConnection(strConnection);
+                    final String strFeedbackOk = String.format("%s connection to database %s was successfully established!", BasicStructuresClass.STR_SQLITE, strSqLiteFile);
+                    LogExposureClass.LOGGER.debug(strFeedbackOk);
+                } catch(SQLException e) {
+                    final String strFeedbackErr = String.format("%s connection has failed %s", BasicStructuresClass.STR_SQLITE, e.getLocalizedMessage());
+                    LogExposureClass.LOGGER.debug(strFeedbackErr);
+                }
+                return connection;
+            }, SpecificSqLiteSubClass::registerSqLiteFunctions);
+        }
+
+        /**
+         * Registers custom functions on a new SQLite connection
+         * (patterns come from a shared cache, so each one is compiled once rather than for every row;
+         * NULL text or pattern gives NULL, position and occurrence are 1-based as in other databases)
+         *
+         * @param connection SQLite connection
+         * @throws SQLException in case a function cannot be registered
+         */
+        private static void registerSqLiteFunctions(final Connection connection) throws SQLException {
+            Function.create(connection, "REGEXP_LIKE", new Function() {
+                @Override
+                protected void xFunc() throws SQLException {
+                    final String text = value_text(0);
+                    final String pattern = value_text(1);
+                    if (text == null || pattern == null) {
+                        result();
+                    } else {
                         result(RegularExpressionsClass.doesExist(text, pattern));
                     }
-                });
-                Function.create(connection, "REGEXP_REPLACE", new Function() {
-                    @Override
-                    protected void xFunc() throws SQLException {
-                        final String text = value_text(0);
-                        final String pattern = value_text(1);
-                        final String replacement = value_text(2);
-                        result(Pattern.compile(pattern).matcher(text).replaceAll(replacement));
+                }
+            });
+            Function.create(connection, "REGEXP_REPLACE", new Function() {
+                @Override
+                protected void xFunc() throws SQLException {
+                    final String text = value_text(0);
+                    final String pattern = value_text(1);
+                    final String replacement = value_text(2);
+                    if (text == null || pattern == null || replacement == null) {
+                        result();
+                    } else {
+                        result(RegularExpressionsClass.PatternCacheSubClass.getPattern(pattern).matcher(text).replaceAll(replacement));
                     }
-                });
-            } catch(SQLException e) {
-                final String strFeedbackErr = String.format("%s connection has failed %s", BasicStructuresClass.STR_SQLITE, e.getLocalizedMessage());
-                LogExposureClass.LOGGER.debug(strFeedbackErr);
-            }
-            return connection;
+                }
+            });
+            // REGEXP_SUBSTR(text, pattern[, position[, occurrence]])
+            Function.create(connection, "REGEXP_SUBSTR", new Function() {
+                @Override
+                protected void xFunc() throws SQLException {
+                    final String text = value_text(0);
+                    final String pattern = value_text(1);
+                    if (text == null || pattern == null) {
+                        result();
+                    } else {
+                        final int position = args() > 2 ? Math.max(value_int(2), 1) : 1;
+                        final int occurrence = args() > 3 ? value_int(3) : 1;
+                        result(RegularExpressionsClass.extractPatternMatch(text, pattern, position - 1, occurrence));
+                    }
+                }
+            });
+            // REGEXP_COUNT(text, pattern[, position])
+            Function.create(connection, "REGEXP_COUNT", new Function() {
+                @Override
+                protected void xFunc() throws SQLException {
+                    final String text = value_text(0);
+                    final String pattern = value_text(1);
+                    if (text == null || pattern == null) {
+                        result();
+                    } else {
+                        final int position = args() > 2 ? Math.max(value_int(2), 1) : 1;
+                        result(RegularExpressionsClass.countPatternMatches(text, pattern, position - 1));
+                    }
+                }
+            });
         }
 
         /**
@@ -937,21 +1740,28 @@ public final class DatabaseOperationsClass {
          * @return Connection
          */
         public static Connection getSnowflakeConnection(final Properties propInstance, final String strDatabase) {
-            loadSnowflakeDriver();
-            Connection connection = null;
             final String strConnection = String.format("jdbc:snowflake://%s.snowflakecomputing.com/", propInstance.get("AccountName").toString().replace("\"", ""));
             final Properties propConnection = getSnowflakeProperties(strDatabase, propInstance);
-            final String strFeedback = String.format("Will attempt to create a %s connection to database %s using %s as connection string and %s properties", STR_SNOWFLAKE, strDatabase, strConnection, propConnection);
-            LogExposureClass.LOGGER.debug(strFeedback);
-            try {
-                connection = DriverManager.getConnection(strConnection, propConnection);
-                final String strFeedbackOk = String.format("%s connection to database %s was successfully established!", STR_SNOWFLAKE, strDatabase);
-                LogExposureClass.LOGGER.debug(strFeedbackOk);
-            } catch(SQLException e) {
-                final String strFeedbackErr = String.format("%s connection has failed %s", STR_SNOWFLAKE, e.getLocalizedMessage());
-                LogExposureClass.LOGGER.debug(strFeedbackErr);
-            }
-            return connection;
+            // driver loading and session bootstrap happen only for new physical connections
+            return ConnectionPoolSubClass.getConnection(STR_SNOWFLAKE, strConnection + " as " + propConnection, () -> {
+                loadSnowflakeDriver();
+                Connection connection = null;
+                final String strFeedback = String.format("Will attempt to create a %s connection to database %s using %s as connection string and %s properties", STR_SNOWFLAKE, strDatabase, strConnection, propConnection);
+                LogExposureClass.LOGGER.debug(strFeedback);
+                try {
+                    connection = DriverManager.getConnection(strConnection, propConnection);
+                    final String strFeedbackOk = String.format("%s connection to database %s was successfully established!", STR_SNOWFLAKE, strDatabase);
+                    LogExposureClass.LOGGER.debug(strFeedbackOk);
+                } catch(SQLException e) {
+                    final String strFeedbackErr = String.format("%s connection has failed %s", STR_SNOWFLAKE, e.getLocalizedMessage());
+                    LogExposureClass.LOGGER.debug(strFeedbackErr);
+                }
+                return connection;
+            }, physical -> {
+                try (Statement objStatement = physical.createStatement()) {
+                    executeSnowflakeBootstrapQuery(objStatement);
+                }
+            });
         }
 
         /**
@@ -989,13 +1799,23 @@ public final class DatabaseOperationsClass {
          * @return List of Properties
          */
         public static List<Properties> getSnowflakePreDefinedInformation(final Statement objStatement, final String strAction, final String strFetchType) {
+            final String strQueryToUse = getPreDefinedQuery(STR_SNOWFLAKE, strAction);
+            final Properties rsProperties = packageResultSetProperties("purpose: " + strAction, strQueryToUse, strFetchType);
+            return ResultSettingSubClass.getResultSetStandardized(objStatement, rsProperties, getSnowflakeQueryProperties(strAction));
+        }
+
+        /**
+         * build query properties (features to apply) for Snowflake pre-defined action
+         *
+         * @param strAction which action
+         * @return Properties
+         */
+        private static Properties getSnowflakeQueryProperties(final String strAction) {
             final Properties queryProperties = new Properties();
             if (STR_ROLES.equalsIgnoreCase(strAction)) {
                 queryProperties.put("expectedExactNumberOfColumns", "1");
             }
-            final String strQueryToUse = getPreDefinedQuery(STR_SNOWFLAKE, strAction);
-            final Properties rsProperties = packageResultSetProperties("purpose: " + strAction, strQueryToUse, strFetchType);
-            return ResultSettingSubClass.getResultSetStandardized(objStatement, rsProperties, queryProperties);
+            return queryProperties;
         }
 
         /**
@@ -1052,8 +1872,9 @@ public final class DatabaseOperationsClass {
                 assert objConnection != null;
                 try (Statement objStatement =
                         DatabaseOperationsClass.ConnectivitySubClass.createSqlStatement(STR_SNOWFLAKE, objConnection)) {
-                    executeSnowflakeBootstrapQuery(objStatement);
-                    getSnowflakePreDefinedInformation(objStatement, strAction, STR_VALUES);
+                    // rows are logged as they arrive, so large catalogs (i.e. Columns) are never held in memory
+                    ResultSettingSubClass.visitQueryRows(objStatement, "purpose: " + strAction, getPreDefinedQuery(STR_SNOWFLAKE, strAction), getSnowflakeQueryProperties(strAction),
+                            (columnNames, values) -> LogExposureClass.LOGGER.info(ResultSettingSubClass.RowProcessingClass.getCurrentRowAsString(columnNames, values)));
                 }
             } catch(SQLException e) {
                 final String strFeedback = String.format("Error \"%s\"", Arrays.toString(e.getStackTrace()));
@@ -1,18 +1,61 @@
 package javajava;
 
 import java.io.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 /**
  * File Operations
@@ -24,1057 +67,4909 @@ public final class FileOperationsClass {
     public static final String I18N_FILE_FND_ERR = "Error encountered when attempting to get %s file(s) from %s folder";
 
     /**
-     * File Content Reading
+     * Folder Archiving
      */
-    public static final class ContentReadingSubClass {
+    public static final class ArchivingSubClass {
+        /**
+         * Signature of ZIP local file header
+         */
+        private static final int ZIP_LOCAL_HEADER = 0x04034b50;
+        /**
+         * Signature of ZIP central directory header
+         */
+        private static final int ZIP_CENTRAL_HEADER = 0x02014b50;
+        /**
+         * Signature of ZIP64 end of central directory record
+         */
+        private static final int ZIP64_END_RECORD = 0x06064b50;
+        /**
+         * Signature of ZIP64 end of central directory locator
+         */
+        private static final int ZIP64_END_LOCATOR = 0x07064b50;
+        /**
+         * Signature of ZIP end of central directory record
+         */
+        private static final int ZIP_END_RECORD = 0x06054b50;
+        /**
+         * Largest value of a 4 bytes ZIP field (reaching it means actual value is within ZIP64 extra field)
+         */
+        private static final long ZIP32_LIMIT = 0xFFFFFFFFL;
+        /**
+         * Largest value of a 2 bytes ZIP field
+         */
+        private static final int ZIP16_LIMIT = 0xFFFF;
+        /**
+         * ZIP version needed to extract deflated entries
+         */
+        private static final short ZIP_VERSION = 20;
+        /**
+         * ZIP version needed to extract entries using ZIP64 extra field
+         */
+        private static final short ZIP64_VERSION = 45;
+        /**
+         * ZIP general purpose flag telling entry names are UTF-8
+         */
+        private static final short ZIP_UTF8_FLAG = 0x0800;
+        /**
+         * Size of buffer used to read files while deflating
+         */
+        private static final int DEFLATE_BUFFER_SIZE = 256 * 1024;
+        /**
+         * Reusable reading buffer (one per thread)
+         */
+        private static final ThreadLocal<byte[]> DEFLATE_BUFFER = ThreadLocal.withInitial(() -> new byte[DEFLATE_BUFFER_SIZE]);
+        /**
+         * File size (in bytes) from which deflated content is spilled into a temporary file instead of being kept in memory
+         */
+        private static final long SPILL_THRESHOLD = 8L * 1024 * 1024;
+        /**
+         * Number of entries which can wait to be written for each deflating thread
+         * (keeps memory bounded when writing is slower than deflating)
+         */
+        private static final int QUEUED_ENTRIES_PER_THREAD = 2;
+        /**
+         * Marker placed into deflating queue once folder walking is completed
+         */
+        private static final Future<DeflatedEntryRecord> END_OF_WALK = CompletableFuture.completedFuture(null);
+        /**
+         * Number of threads deflating entries in parallel
+         */
+        private static int deflatingThreads = Runtime.getRuntime().availableProcessors();
+        /**
+         * Deflate compression level (0 to 9)
+         */
+        private static int compressionLevel = Deflater.DEFAULT_COMPRESSION;
 
         /**
-         * Capture Import Statements from Java source files into CSV
-         * @param inJavaSources folder with Java source files
-         * @param outCsvFile CSV file to write results into
+         * Outcome of archiving a single folder
+         * @param archive archive file created
+         * @param files number of files archived
+         * @param folders number of folders archived
+         * @param bytes size of files archived
+         * @param compressedBytes size of deflated content
          */
-        public static void extractImportStatementsFromJavaSourceFilesIntoCsvFile(final Path inJavaSources, final Path outCsvFile) {
-            final String strImport = "import ";
-            final String dtNow = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.US)
-                    .format(ZonedDateTime.now(ZoneId.systemDefault()));
-            try (BufferedWriter writer = Files.newBufferedWriter(outCsvFile, StandardCharsets.UTF_8)) {
-                writer.write("Path;File;Imported;Timestamp");
-                writer.newLine();
-                final List<Path> arrayFiles = RetrievingSubClass.getSpecificFilesFromFolderRecursive(inJavaSources, "java");
-                arrayFiles.forEach(crtFileName -> {
-                    try (BufferedReader reader = Files.newBufferedReader(crtFileName, StandardCharsets.UTF_8)) {
-                        String line = reader.readLine();  // Initialize the variable outside the loop
-                        long lineCounter = 0;
-                        while (Objects.nonNull(line) && (lineCounter < 100)) {
-                            if (line.startsWith(strImport)) {
-                                writer.write(crtFileName.getParent().toString()
-                                        + ';' + crtFileName.getFileName().toString()
-                                        + ';' + line.replace(strImport, "").replace(";", "")
-                                        + ';' + dtNow);
-                                writer.newLine();
-                            }
-                            line = reader.readLine();  // Update the variable within the loop, not in the condition
-                            lineCounter++;
-                        }
-                        final String strFeedback = String.format("File %s has been digested...", crtFileName);
-                        LogExposureClass.LOGGER.debug(strFeedback);
-                    } catch (IOException ei) {
-                        LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
-                    }
-                });
-            } catch (IOException ei) {
-                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+        public record ArchiveSummaryRecord(String archive, long files, long folders, long bytes, long compressedBytes) {}
+
+        /**
+         * Archive entry once deflated (folders and files failing to be read have no content)
+         * @param name entry name within archive (folders ending with "/")
+         * @param file file in scope
+         * @param attrs file attributes (already read while walking)
+         * @param crc CRC-32 of content
+         * @param size size of content (bytes actually read)
+         * @param deflated deflated content kept in memory (null when spilled)
+         * @param spillFile temporary file holding deflated content (null when kept in memory)
+         * @param compressedSize size of deflated content
+         * @param checksums checksums computed while deflating (empty when no manifest is written)
+         */
+        private record DeflatedEntryRecord(String name, Path file, BasicFileAttributes attrs, long crc, long size, byte[] deflated, Path spillFile, long compressedSize, Properties checksums) {
+            /**
+             * Checks whether entry is a folder
+             * @return true for folders
+             */
+            private boolean isFolder() {
+                return name.endsWith("/");
             }
         }
 
         /**
-         * Get file content into String
-         * (either included in JAR or from Disk/Storage)
-         * @param strFileName file name in scope
-         * @return file content
+         * Entry already written, kept for central directory
+         * @param name entry name (UTF-8)
+         * @param isFolder true for folders
+         * @param dosTime last modified time in MS-DOS format (date within upper 16 bits)
+         * @param crc CRC-32 of content
+         * @param size size of content
+         * @param compressedSize size of deflated content
+         * @param offset position of local file header within archive
          */
-        public static String getFileContentIntoString(final String strFileName) {
-            final String strOutput;
-            if (ProjectClass.isRunningFromJar()) {
-                strOutput = getJarIncludedFileContentIntoString(strFileName);
-            } else {
-                strOutput = getDiskFileContentIntoString(strFileName);
+        private record CentralEntryRecord(byte[] name, boolean isFolder, int dosTime, long crc, long size, long compressedSize, long offset) {}
+
+        /**
+         * Streaming ZIP writer accepting already deflated entries
+         * (sizes are known before writing, so no data descriptors are needed;
+         * ZIP64 fields are used only for entries, offsets or counts not fitting classic ZIP)
+         */
+        private static final class ZipStreamClass implements AutoCloseable {
+            /**
+             * Archive output
+             */
+            private final OutputStream output;
+            /**
+             * Entries written so far
+             */
+            private final List<CentralEntryRecord> entries = new ArrayList<>();
+            /**
+             * Number of bytes written so far
+             */
+            private long offset;
+            /**
+             * Set once writing an entry fails (archive is then closed without central directory)
+             */
+            private boolean isFailed;
+
+            /**
+             * Constructor
+             * @param archive archive file to create
+             * @throws IOException when archive cannot be created
+             */
+            private ZipStreamClass(final Path archive) throws IOException {
+                output = new BufferedOutputStream(Files.newOutputStream(archive), DEFLATE_BUFFER_SIZE);
+            }
+
+            /**
+             * Writes a single entry (local file header followed by deflated content)
+             * @param entry deflated entry
+             * @throws IOException when writing fails
+             */
+            private void write(final DeflatedEntryRecord entry) throws IOException {
+                // stays set when writing below throws, so close() does not complete a truncated archive
+                isFailed = true;
+                final byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+                final boolean isZip64 = entry.size() >= ZIP32_LIMIT || entry.compressedSize() >= ZIP32_LIMIT;
+                final CentralEntryRecord central = new CentralEntryRecord(name, entry.isFolder(), getDosTime(entry.attrs().lastModifiedTime()),
+                        entry.crc(), entry.size(), entry.compressedSize(), offset);
+                final ByteBuffer header = ByteBuffer.allocate(30 + name.length + (isZip64 ? 20 : 0)).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(ZIP_LOCAL_HEADER)
+                        .putShort(isZip64 ? ZIP64_VERSION : ZIP_VERSION)
+                        .putShort(ZIP_UTF8_FLAG)
+                        .putShort((short) (central.isFolder() ? 0 : Deflater.DEFLATED))
+                        .putInt(central.dosTime())
+                        .putInt((int) central.crc())
+                        .putInt((int) (isZip64 ? ZIP32_LIMIT : central.compressedSize()))
+                        .putInt((int) (isZip64 ? ZIP32_LIMIT : central.size()))
+                        .putShort((short) name.length)
+                        .putShort((short) (isZip64 ? 20 : 0))
+                        .put(name);
+                if (isZip64) {
+                    header.putShort((short) 1).putShort((short) 16).putLong(central.size()).putLong(central.compressedSize());
+                }
+                output.write(header.array());
+                if (entry.deflated() != null) {
+                    output.write(entry.deflated());
+                } else if (entry.spillFile() != null) {
+                    Files.copy(entry.spillFile(), output);
+                }
+                offset += header.capacity() + central.compressedSize();
+                entries.add(central);
+                isFailed = false;
+            }
+
+            /**
+             * Writes central directory and end records (unless writing an entry failed), then closes archive
+             * @throws IOException when writing fails
+             */
+            @Override
+            public void close() throws IOException {
+                try (output) {
+                    if (!isFailed) {
+                        writeDirectory();
+                    }
+                }
+            }
+
+            /**
+             * Writes central directory and end records
+             * @throws IOException when writing fails
+             */
+            private void writeDirectory() throws IOException {
+                final long directoryOffset = offset;
+                for (final CentralEntryRecord central : entries) {
+                    writeCentralHeader(central);
+                }
+                final long directorySize = offset - directoryOffset;
+                final boolean isZip64 = entries.size() >= ZIP16_LIMIT || directoryOffset >= ZIP32_LIMIT || directorySize >= ZIP32_LIMIT;
+                final ByteBuffer trailer = ByteBuffer.allocate((isZip64 ? 56 + 20 : 0) + 22).order(ByteOrder.LITTLE_ENDIAN);
+                if (isZip64) {
+                    trailer.putInt(ZIP64_END_RECORD)
+                            .putLong(44)
+                            .putShort(ZIP64_VERSION)
+                            .putShort(ZIP64_VERSION)
+                            .putInt(0)
+                            .putInt(0)
+                            .putLong(entries.size())
+                            .putLong(entries.size())
+                            .putLong(directorySize)
+                            .putLong(directoryOffset);
+                    trailer.putInt(ZIP64_END_LOCATOR)
+                            .putInt(0)
+                            .putLong(offset)
+                            .putInt(1);
+                }
+                trailer.putInt(ZIP_END_RECORD)
+                        .putShort((short) 0)
+                        .putShort((short) 0)
+                        .putShort((short) Math.min(entries.size(), ZIP16_LIMIT))
+                        .putShort((short) Math.min(entries.size(), ZIP16_LIMIT))
+                        .putInt((int) Math.min(directorySize, ZIP32_LIMIT))
+                        .putInt((int) Math.min(directoryOffset, ZIP32_LIMIT))
+                        .putShort((short) 0);
+                output.write(trailer.array());
+            }
+
+            /**
+             * Writes central directory header of a single entry
+             * @param central entry already written
+             * @throws IOException when writing fails
+             */
+            private void writeCentralHeader(final CentralEntryRecord central) throws IOException {
+                final List<Long> zip64Values = new ArrayList<>();
+                for (final long value : new long[] {central.size(), central.compressedSize(), central.offset()}) {
+                    if (value >= ZIP32_LIMIT) {
+                        zip64Values.add(value);
+                    }
+                }
+                final int extraLength = zip64Values.isEmpty() ? 0 : 4 + 8 * zip64Values.size();
+                final ByteBuffer header = ByteBuffer.allocate(46 + central.name().length + extraLength).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(ZIP_CENTRAL_HEADER)
+                        .putShort(ZIP64_VERSION)
+                        .putShort(zip64Values.isEmpty() ? ZIP_VERSION : ZIP64_VERSION)
+                        .putShort(ZIP_UTF8_FLAG)
+                        .putShort((short) (central.isFolder() ? 0 : Deflater.DEFLATED))
+                        .putInt(central.dosTime())
+                        .putInt((int) central.crc())
+                        .putInt((int) Math.min(central.compressedSize(), ZIP32_LIMIT))
+                        .putInt((int) Math.min(central.size(), ZIP32_LIMIT))
+                        .putShort((short) central.name().length)
+                        .putShort((short) extraLength)
+                        .putShort((short) 0)
+                        .putShort((short) 0)
+                        .putShort((short) 0)
+                        .putInt(central.isFolder() ? 0x10 : 0)
+                        .putInt((int) Math.min(central.offset(), ZIP32_LIMIT))
+                        .put(central.name());
+                if (!zip64Values.isEmpty()) {
+                    // ZIP64 extra field holds only values not fitting, in fixed order: size, compressed size, offset
+                    header.putShort((short) 1).putShort((short) (8 * zip64Values.size()));
+                    zip64Values.forEach(header::putLong);
+                }
+                output.write(header.array());
+                offset += header.capacity();
             }
-            return strOutput;
         }
 
         /**
-         * Get file content into String
-         * (good for small files, bad for JAR included files)
-         * @param strFileName file name
-         * @return String
+         * Archives each given folder into its own ZIP file within destination folder
+         * (optionally writing a checksum manifest next to each archive, computed while deflating;
+         * folders sharing a name get a numeric suffix, folders holding destination folder are skipped)
+         * @param strFolderNames folders to archive
+         * @param strDestFolder destination folder
+         * @param isManifest true to write a checksum manifest (same format as file statistics) for each archive
+         * @return List of ArchiveSummaryRecord (only for archives completed)
          */
-        private static String getDiskFileContentIntoString(final String strFileName) {
-            final String strFeedback = String.format("Attempting to get content into a String from %s file...", strFileName);
-            LogExposureClass.LOGGER.debug(strFeedback);
-            String strReturn = "";
-            try {
-                strReturn = Files.readString(Path.of(strFileName));
-            } catch (IOException e) {
-                final String strFeedbackErr = String.format("Error when attempting to get content of file \"%s\": %s", strFileName, Arrays.toString(e.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedbackErr);
+        public static List<ArchiveSummaryRecord> archiveFoldersIntoZipFiles(final String[] strFolderNames, final String strDestFolder, final boolean isManifest) {
+            final List<ArchiveSummaryRecord> summaries = new ArrayList<>();
+            final Path destination = Path.of(strDestFolder).toAbsolutePath().normalize();
+            final Set<String> usedNames = new HashSet<>();
+            for (final String strFolderName : strFolderNames) {
+                final Path folder = Path.of(strFolderName).toAbsolutePath().normalize();
+                if (destination.startsWith(folder)) {
+                    final String strFeedbackErr = String.format("Folder %s is skipped, as destination folder %s is within it...", folder, destination);
+                    LogExposureClass.LOGGER.error(strFeedbackErr);
+                } else {
+                    final String strArchiveName = getUniqueArchiveName(folder, usedNames);
+                    final ArchiveSummaryRecord summary = archiveFolderIntoZipFile(folder, destination.resolve(strArchiveName + ".zip"),
+                            isManifest ? destination.resolve(strArchiveName + ".csv") : null);
+                    if (summary != null) {
+                        summaries.add(summary);
+                    }
+                }
             }
-            return strReturn;
+            return summaries;
         }
 
         /**
-         * Get file content into InputStream
-         * @param strFileName file name
-         * @return input stream
+         * Builds archive name from folder name, adding a numeric suffix when name is already used
+         * (names are compared ignoring case, so archives do not overwrite each other on any file system)
+         * @param folder folder to archive
+         * @param usedNames archive names used so far (lower case)
+         * @return String
          */
-        private static String getJarIncludedFileContentIntoString(final String strFileName) {
-            String strContent = null;
-            final String strFeedback = String.format("Attempting to get content into a String from %s file...", strFileName);
-            LogExposureClass.LOGGER.debug(strFeedback);
-            try (InputStream iStream = ContentReadingSubClass.class.getResourceAsStream(strFileName);
-                    InputStreamReader inputStreamReader = new InputStreamReader(iStream, StandardCharsets.UTF_8);
-                    BufferedReader bReader = new BufferedReader(inputStreamReader)) {
-                strContent = bReader.readAllAsString();
-                final String strFeedbackOk = String.format("I have successfully loaded entire content from %s file into stream...", strFileName);
-                LogExposureClass.LOGGER.debug(strFeedbackOk);
-            } catch (IOException ex) {
-                final String strFeedbackErr = String.format("Error \"%s\"", Arrays.toString(ex.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedbackErr);
+        private static String getUniqueArchiveName(final Path folder, final Set<String> usedNames) {
+            final String strBaseName = folder.getFileName() == null ? "root" : folder.getFileName().toString();
+            String strArchiveName = strBaseName;
+            int suffix = 1;
+            while (!usedNames.add(strArchiveName.toLowerCase(Locale.ROOT))) {
+                suffix++;
+                strArchiveName = strBaseName + '_' + suffix;
             }
-            return strContent;
+            if (suffix > 1) {
+                final String strFeedback = String.format("Folder %s is archived as %s, as its name is already used by another archive", folder, strArchiveName);
+                LogExposureClass.LOGGER.warn(strFeedback);
+            }
+            return strArchiveName;
         }
 
         /**
-         * Getting list of values from a column grouped by another column
-         * @param strFileName target file name to be written to
-         * @param intColToEval number of column to evaluate (build values list from it)
-         * @param intColToGrpBy number of column to group list of values by
-         * @return Map with String and List or String
+         * Archives a folder into a ZIP file through a pipeline:
+         * walking (own thread) -> deflating (pool of configured width) -> writing (calling thread, walking order)
+         * @param folder folder to archive (entries are named relative to its parent, so archive holds folder itself)
+         * @param archive ZIP file to create
+         * @param manifest checksum manifest file to create (null for none)
+         * @return ArchiveSummaryRecord (null when archive could not be completed, in which case it is removed)
          */
-        public static Map<String, List<String>> getListOfValuesFromColumnGroupedByAnotherColumnValuesFromCsvFile(
-                final String strFileName,
-                final Integer intColToEval,
-                final Integer intColToGrpBy) {
-            Map<String, List<String>> grouped = null;
-            try (Stream<String> lines = Files.lines(Path.of(strFileName))) {
-                // Group values by category
-                grouped = lines
-                        .skip(1)
-                        .map(line -> line.split("\",\"")) // split by comma
-                        .collect(Collectors.groupingBy(
-                                cols -> cols[intColToGrpBy], // key = Category
-                                Collectors.mapping(cols -> cols[intColToEval].replace("\"", ""), Collectors.toList()) // values
-                        ));
-            } catch (IOException ex) {
-                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedback);
+        public static ArchiveSummaryRecord archiveFolderIntoZipFile(final Path folder, final Path archive, final Path manifest) {
+            final BlockingQueue<Future<DeflatedEntryRecord>> pendingEntries = new ArrayBlockingQueue<>(deflatingThreads * QUEUED_ENTRIES_PER_THREAD);
+            final long[] totals = new long[4];
+            boolean isArchived = false;
+            // resources are closed in reverse order, so archive is completed only once deflating is over
+            try (ZipStreamClass zipStream = new ZipStreamClass(archive);
+                    BufferedWriter manifestWriter = manifest == null ? null : Files.newBufferedWriter(manifest, StandardCharsets.UTF_8);
+                    ExecutorService walker = Executors.newSingleThreadExecutor();
+                    ExecutorService deflatePool = Executors.newFixedThreadPool(deflatingThreads)) {
+                if (manifestWriter != null) {
+                    StatisticsSubClass.writeFileStatisticsHeaderIntoFile(manifestWriter, StatisticsSubClass.listAlgorithms);
+                }
+                final Path spillFolder = archive.toAbsolutePath().getParent();
+                final Future<?> walking = walker.submit(() -> walkFolderIntoDeflatingQueue(folder, deflatePool, pendingEntries, spillFolder, manifestWriter != null));
+                try {
+                    Future<DeflatedEntryRecord> pendingEntry = pendingEntries.take();
+                    while (pendingEntry != END_OF_WALK) {
+                        writeDeflatedEntry(getDeflatedEntry(pendingEntry), zipStream, manifestWriter, totals);
+                        pendingEntry = pendingEntries.take();
+                    }
+                    isArchived = true;
+                } catch (InterruptedException ei) {
+                    final String strFeedback = String.format("Archiving of %s folder was interrupted...", folder);
+                    LogExposureClass.LOGGER.warn(strFeedback);
+                    deflatePool.shutdownNow();
+                    /* Clean up whatever needs to be handled before interrupting  */
+                    Thread.currentThread().interrupt();
+                } finally {
+                    // walker might be blocked on a full queue if writing has stopped early
+                    walking.cancel(true);
+                }
+            } catch (IOException ei) {
+                isArchived = false;
+                final String strFeedback = String.format("Error writing archive %s for folder %s", archive, folder);
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
             }
-            return grouped;
+            // deflating pool is closed by now, so every entry left within queue is completed
+            deleteQueuedSpillFiles(pendingEntries);
+            ArchiveSummaryRecord summary = null;
+            if (isArchived) {
+                summary = new ArchiveSummaryRecord(archive.toString(), totals[0], totals[1], totals[2], totals[3]);
+            } else {
+                deleteIncompleteArchive(archive, manifest);
+            }
+            return summary;
         }
 
         /**
-         * Constructor
+         * Removes temporary files of entries left within deflating queue once writing stopped early
+         * @param pendingEntries queue of entries deflated but not written
          */
-        private ContentReadingSubClass() {
-            // intentionally blank
+        private static void deleteQueuedSpillFiles(final BlockingQueue<Future<DeflatedEntryRecord>> pendingEntries) {
+            Future<DeflatedEntryRecord> pendingEntry = pendingEntries.poll();
+            while (pendingEntry != null) {
+                if (pendingEntry.state() == Future.State.SUCCESS && pendingEntry.resultNow() != null) {
+                    deleteSpillFile(pendingEntry.resultNow().spillFile());
+                }
+                pendingEntry = pendingEntries.poll();
+            }
         }
 
-    }
-
-    /**
-     * File Content Reading
-     */
-    public static final class ContentWritingSubClass {
         /**
-         * Column Separator for CSV file writing methods
+         * Removes an archive which could not be completed (and its manifest), so no truncated archive is left behind
+         * @param archive ZIP file
+         * @param manifest checksum manifest file (null for none)
          */
-        private static char chCsvColSeparator = ',';
+        private static void deleteIncompleteArchive(final Path archive, final Path manifest) {
+            try {
+                if (Files.isRegularFile(archive)) {
+                    Files.delete(archive);
+                    final String strFeedback = String.format("Incomplete archive %s has been removed", archive);
+                    LogExposureClass.LOGGER.warn(strFeedback);
+                }
+                if (manifest != null && Files.isRegularFile(manifest)) {
+                    Files.delete(manifest);
+                }
+            } catch (IOException ei) {
+                final String strFeedback = String.format("Error when attempting to remove incomplete archive \"%s\"", archive);
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+            }
+        }
+
         /**
-         * Line Prefix for CSV content writing methods
+         * Walks a folder submitting every file to deflating pool (folders get their own entries, so empty ones are kept)
+         * @param folder input folder
+         * @param deflatePool executor deflating files
+         * @param pendingEntries queue of entries being deflated (in walking order)
+         * @param spillFolder folder receiving temporary files for large deflated content
+         * @param isManifest true to compute checksums while deflating
          */
-        private static String strCsvLinePrefix = "";
+        private static void walkFolderIntoDeflatingQueue(final Path folder, final ExecutorService deflatePool, final BlockingQueue<Future<DeflatedEntryRecord>> pendingEntries,
+                final Path spillFolder, final boolean isManifest) {
+            final Path namingBase = folder.getParent() == null ? folder : folder.getParent();
+            try {
+                Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                        return queueEntry(CompletableFuture.completedFuture(new DeflatedEntryRecord(getEntryName(namingBase, dir) + '/', dir, attrs, 0, 0, new byte[0], null, 0, new Properties())));
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        FileVisitResult result = FileVisitResult.CONTINUE;
+                        if (attrs.isRegularFile()) {
+                            result = queueEntry(deflatePool.submit(() -> deflateFile(file, attrs, getEntryName(namingBase, file), spillFolder, isManifest)));
+                        }
+                        return result;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                        final String strFeedback = String.format(I18N_FILE_FND_ERR, file.getFileName(), file.getParent());
+                        LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(exc.getStackTrace()));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    /**
+                     * Places an entry into queue (waiting while queue is full)
+                     * @param pendingEntry entry being deflated
+                     * @return FileVisitResult
+                     */
+                    private FileVisitResult queueEntry(final Future<DeflatedEntryRecord> pendingEntry) {
+                        FileVisitResult result = FileVisitResult.CONTINUE;
+                        try {
+                            pendingEntries.put(pendingEntry);
+                        } catch (InterruptedException ei) {
+                            /* Clean up whatever needs to be handled before interrupting  */
+                            Thread.currentThread().interrupt();
+                            result = FileVisitResult.TERMINATE;
+                        }
+                        return result;
+                    }
+                });
+            } catch (IOException ei) {
+                final String strFeedback = String.format(I18N_FILE_FND_ERR, "*", folder);
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+            } finally {
+                try {
+                    pendingEntries.put(END_OF_WALK);
+                } catch (InterruptedException ei) {
+                    // walking was cancelled, so nobody is waiting for the marker anymore
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
 
         /**
-         * Setter for Column Separator for CSV file writing methods
-         * @param inCsvColSeparator char
+         * Builds entry name relative to naming base (always using "/" as separator)
+         * @param namingBase folder entry names are relative to
+         * @param path file or folder in scope
+         * @return String
          */
-        public static void setCsvColumnSeparator(final char inCsvColSeparator) {
-            chCsvColSeparator = inCsvColSeparator;
+        private static String getEntryName(final Path namingBase, final Path path) {
+            final StringJoiner name = new StringJoiner("/");
+            namingBase.relativize(path).forEach(element -> name.add(element.toString()));
+            return name.toString();
         }
 
         /**
-         * Setter for Line prefix for CSV file writing methods
-         * @param inCsvLinePrefix String
+         * Deflates a single file reading its content only once
+         * (same buffer feeds CRC-32, deflater and, when a manifest is written, every configured digest)
+         * @param file file in scope
+         * @param attrs file attributes (already read while walking)
+         * @param strEntryName entry name within archive
+         * @param spillFolder folder receiving temporary file when file is large
+         * @param isManifest true to compute checksums
+         * @return DeflatedEntryRecord (without content when file cannot be read)
          */
-        public static void setCsvLinePrefix(final String inCsvLinePrefix) {
-            strCsvLinePrefix = inCsvLinePrefix + chCsvColSeparator;
+        private static DeflatedEntryRecord deflateFile(final Path file, final BasicFileAttributes attrs, final String strEntryName, final Path spillFolder, final boolean isManifest) {
+            final Map<String, MessageDigest> digests = isManifest ? StatisticsSubClass.getMessageDigests(StatisticsSubClass.listAlgorithms) : Map.of();
+            final CRC32 crc = new CRC32();
+            final Deflater deflater = new Deflater(compressionLevel, true);
+            final ByteArrayOutputStream inMemory = attrs.size() < SPILL_THRESHOLD ? new ByteArrayOutputStream((int) attrs.size() / 2 + 64) : null;
+            Path spillFile = null;
+            DeflatedEntryRecord entry;
+            try {
+                spillFile = inMemory == null ? Files.createTempFile(spillFolder, "deflating-", ".tmp") : null;
+                try (InputStream input = Files.newInputStream(file);
+                        DeflaterOutputStream deflating = new DeflaterOutputStream(inMemory == null ? Files.newOutputStream(spillFile) : inMemory, deflater, DEFLATE_BUFFER_SIZE)) {
+                    final byte[] buffer = DEFLATE_BUFFER.get();
+                    int bytesRead = input.read(buffer);
+                    while (bytesRead >= 0) {
+                        crc.update(buffer, 0, bytesRead);
+                        for (final MessageDigest digest : digests.values()) {
+                            digest.update(buffer, 0, bytesRead);
+                        }
+                        deflating.write(buffer, 0, bytesRead);
+                        bytesRead = input.read(buffer);
+                    }
+                    deflating.finish();
+                }
+                final Properties checksums = new Properties();
+                digests.forEach((algorithm, digest) -> checksums.put(algorithm, HexFormat.of().formatHex(digest.digest())));
+                entry = new DeflatedEntryRecord(strEntryName, file, attrs, crc.getValue(), deflater.getBytesRead(),
+                        inMemory == null ? null : inMemory.toByteArray(), spillFile, deflater.getBytesWritten(), checksums);
+            } catch (IOException ei) {
+                final String strFeedback = String.format("Error when attempting to deflate file \"%s\"", file);
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+                deleteSpillFile(spillFile);
+                entry = new DeflatedEntryRecord(strEntryName, file, attrs, 0, 0, null, null, 0, new Properties());
+            } finally {
+                deflater.end();
+            }
+            return entry;
         }
 
         /**
-         * storing into a CSV file a LinkedHashMap
-         * @param strFileName target file name to be written to
-         * @param strHeader header values
-         * @param listHsMp LinkedHashMap
+         * Retrieves an entry once deflated
+         * @param pendingEntry entry being deflated
+         * @return DeflatedEntryRecord (null when deflating failed unexpectedly)
+         * @throws InterruptedException when waiting is interrupted
          */
-        public static void writeLinkedHashMapToCsvFile(final String strFileName, final String strHeader, final Map<String, Long> listHsMp) {
+        private static DeflatedEntryRecord getDeflatedEntry(final Future<DeflatedEntryRecord> pendingEntry) throws InterruptedException {
+            DeflatedEntryRecord entry = null;
             try {
-                final List<String> strLines;
-                final File strFile = new File(strFileName);
-                if (strFile.exists()) {
-                    strLines = listHsMp.entrySet().stream()
-                            .map(e -> strCsvLinePrefix + e.getKey() + chCsvColSeparator + e.getValue())
-                            .toList();
-                } else {
-                    strLines = Stream.concat(
-                            Stream.of(strHeader), // header
-                            listHsMp.entrySet().stream()
-                                    .map(e -> strCsvLinePrefix + e.getKey() + chCsvColSeparator + e.getValue())
-                    ).toList();
-                }
-                Files.write(Path.of(strFileName), strLines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-            } catch (IOException ex) {
-                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
+                entry = pendingEntry.get();
+            } catch (ExecutionException ee) {
+                final String strFeedback = String.format("Error deflating file: %s", ee.getCause());
                 LogExposureClass.LOGGER.error(strFeedback);
             }
+            return entry;
         }
 
         /**
-         * Write list of single values to File
-         * 
-         * @param listStrings List of Strings
-         * @param strFileName file name to write to
+         * Writes a deflated entry into archive (and its checksums into manifest), then releases its content
+         * (files which could not be read are skipped)
+         * @param entry deflated entry (null when deflating failed unexpectedly)
+         * @param zipStream archive writer
+         * @param manifestWriter manifest writer (null for none)
+         * @param totals running totals: files, folders, bytes, compressed bytes
+         * @throws IOException when writing archive fails
          */
-        public static void writeListToTextFile(final String strFileName, final List<String> listStrings) {
+        private static void writeDeflatedEntry(final DeflatedEntryRecord entry, final ZipStreamClass zipStream, final BufferedWriter manifestWriter, final long[] totals) throws IOException {
+            if (entry != null && (entry.isFolder() || entry.deflated() != null || entry.spillFile() != null)) {
+                try {
+                    zipStream.write(entry);
+                } finally {
+                    deleteSpillFile(entry.spillFile());
+                }
+                if (entry.isFolder()) {
+                    totals[1]++;
+                } else {
+                    totals[0]++;
+                    totals[2] += entry.size();
+                    totals[3] += entry.compressedSize();
+                    if (manifestWriter != null) {
+                        StatisticsSubClass.writeFileStatisticIntoFile(StatisticsSubClass.getFileStatistic(entry.file(), entry.attrs(), entry.checksums()), manifestWriter, StatisticsSubClass.listAlgorithms);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Removes temporary file holding deflated content
+         * @param spillFile temporary file (null for none)
+         */
+        private static void deleteSpillFile(final Path spillFile) {
+            if (spillFile != null) {
+                try {
+                    Files.deleteIfExists(spillFile);
+                } catch (IOException ei) {
+                    final String strFeedback = String.format("Error when attempting to remove temporary file \"%s\"", spillFile);
+                    LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+                }
+            }
+        }
+
+        /**
+         * Converts a file time into MS-DOS format used by ZIP (2 seconds precision, not earlier than 1980)
+         * @param fileTime file time
+         * @return int with date within upper 16 bits and time within lower 16 bits
+         */
+        private static int getDosTime(final FileTime fileTime) {
+            final LocalDateTime local = LocalDateTime.ofInstant(fileTime.toInstant(), ZoneId.systemDefault());
+            int dosTime = (1 << 21) | (1 << 16);
+            if (local.getYear() >= 1980) {
+                dosTime = (local.getYear() - 1980) << 25 | local.getMonthValue() << 21 | local.getDayOfMonth() << 16
+                        | local.getHour() << 11 | local.getMinute() << 5 | local.getSecond() >> 1;
+            }
+            return dosTime;
+        }
+
+        /**
+         * Setter for compression level
+         * @param inLevel compression level (0 to 9)
+         */
+        public static void setCompressionLevel(final int inLevel) {
+            compressionLevel = inLevel;
+        }
+
+        /**
+         * Setter for number of deflating threads
+         * @param inThreads number of threads
+         */
+        public static void setDeflatingThreads(final int inThreads) {
+            deflatingThreads = inThreads;
+        }
+
+        /**
+         * Constructor
+         */
+        private ArchivingSubClass() {
+            // intentionally blank
+        }
+    }
+
+    /**
+     * File Content Reading
+     */
+    public static final class ContentReadingSubClass {
+
+        /**
+         * Separator used within Java Imports cache file
+         */
+        private static final char IMPORTS_CACHE_SEPARATOR = '\t';
+
+        /**
+         * Java Imports of a single source file as known at a given size and last modified time
+         * @param size file size
+         * @param modified last modified time (nanoseconds)
+         * @param packageName declared package (empty for default package)
+         * @param imports imported elements (without "import " and ";")
+         */
+        private record JavaImportsRecord(long size, long modified, String packageName, List<String> imports) {}
+
+        /**
+         * Header of a Java source file
+         * @param file Java source file
+         * @param packageName declared package (empty for default package)
+         * @param imports imported elements (without "import " and ";")
+         */
+        public record JavaSourceHeaderRecord(Path file, String packageName, List<String> imports) {}
+
+        /**
+         * Capture Import Statements from Java source files into CSV
+         * @param inJavaSources folder with Java source files
+         * @param outCsvFile CSV file to write results into
+         */
+        public static void extractImportStatementsFromJavaSourceFilesIntoCsvFile(final Path inJavaSources, final Path outCsvFile) {
+            extractImportStatementsFromJavaSourceFilesIntoCsvFile(inJavaSources, outCsvFile, null);
+        }
+
+        /**
+         * Capture Import Statements from Java source files into CSV
+         * (files are scanned in parallel, each only up to its first type declaration,
+         * while unchanged files are taken from cache when one is given;
+         * cached files outside folder in scope are kept, so several folders can share one cache)
+         * @param inJavaSources folder with Java source files
+         * @param outCsvFile CSV file to write results into
+         * @param inCacheFile cache file with imports known for each file size and last modified time (null means no cache)
+         * @return List of JavaSourceHeaderRecord in folder walking order
+         */
+        public static List<JavaSourceHeaderRecord> extractImportStatementsFromJavaSourceFilesIntoCsvFile(final Path inJavaSources, final Path outCsvFile, final Path inCacheFile) {
+            return extractImportStatementsFromJavaSourceFilesIntoCsvFile(List.of(inJavaSources), outCsvFile, inCacheFile);
+        }
+
+        /**
+         * Capture Import Statements from Java source files of several folders into a single CSV
+         * (cache is loaded and stored once for all folders)
+         * @param inJavaSources folders with Java source files
+         * @param outCsvFile CSV file to write results into
+         * @param inCacheFile cache file with imports known for each file size and last modified time (null means no cache)
+         * @return List of JavaSourceHeaderRecord in folder walking order
+         */
+        public static List<JavaSourceHeaderRecord> extractImportStatementsFromJavaSourceFilesIntoCsvFile(final List<Path> inJavaSources, final Path outCsvFile, final Path inCacheFile) {
+            final String dtNow = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.US)
+                    .format(ZonedDateTime.now(ZoneId.systemDefault()));
+            final Map<String, JavaImportsRecord> cachedImports = loadJavaImportsCache(inCacheFile);
+            final Map<String, JavaImportsRecord> currentImports = new ConcurrentHashMap<>();
+            final LongAdder rescannedFiles = new LongAdder();
+            final List<Path> arrayFiles = new ArrayList<>();
+            inJavaSources.forEach(folder -> arrayFiles.addAll(RetrievingSubClass.getSpecificFilesFromFolderRecursive(folder, "java")));
+            // parallel stream keeps encounter order so output rows stay in folder walking order
+            final List<JavaSourceHeaderRecord> headers = arrayFiles.parallelStream().map(crtFileName -> {
+                JavaSourceHeaderRecord header = new JavaSourceHeaderRecord(crtFileName, "", List.of());
+                try {
+                    final BasicFileAttributes attrs = Files.readAttributes(crtFileName, BasicFileAttributes.class);
+                    final long modified = attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+                    final String strKey = crtFileName.toAbsolutePath().normalize().toString();
+                    final JavaImportsRecord cached = cachedImports.get(strKey);
+                    if (cached != null && cached.size() == attrs.size() && cached.modified() == modified) {
+                        header = new JavaSourceHeaderRecord(crtFileName, cached.packageName(), cached.imports());
+                    } else {
+                        header = getJavaSourceHeader(crtFileName);
+                        rescannedFiles.increment();
+                        final String strFeedback = String.format("File %s has been digested...", crtFileName);
+                        LogExposureClass.LOGGER.debug(strFeedback);
+                    }
+                    currentImports.put(strKey, new JavaImportsRecord(attrs.size(), modified, header.packageName(), header.imports()));
+                } catch (IOException ei) {
+                    final String strFeedbackErr = String.format("Error encountered when attempting to read imports from %s file...", crtFileName);
+                    LogExposureClass.exposeInputOutputException(strFeedbackErr, Arrays.toString(ei.getStackTrace()));
+                }
+                return header;
+            }).toList();
+            long importStatements = 0;
+            try (BufferedWriter writer = Files.newBufferedWriter(outCsvFile, StandardCharsets.UTF_8)) {
+                writer.write("Path;File;Imported;Timestamp");
+                writer.newLine();
+                for (final JavaSourceHeaderRecord header : headers) {
+                    final Path crtFileName = header.file();
+                    for (final String strImported : header.imports()) {
+                        writer.write(crtFileName.getParent().toString()
+                                + ';' + crtFileName.getFileName().toString()
+                                + ';' + strImported
+                                + ';' + dtNow);
+                        writer.newLine();
+                        importStatements++;
+                    }
+                }
+            } catch (IOException ei) {
+                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+            }
+            final List<Path> folderRoots = inJavaSources.stream().map(folder -> folder.toAbsolutePath().normalize()).toList();
+            cachedImports.forEach((strKey, javaImports) -> {
+                final Path cachedFile = Path.of(strKey);
+                if (folderRoots.stream().noneMatch(cachedFile::startsWith)) {
+                    currentImports.putIfAbsent(strKey, javaImports);
+                }
+            });
+            storeJavaImportsCache(inCacheFile, currentImports);
+            final String strFeedback = String.format("%s Java source files from %s folder(s) have %s import statements (%s files rescanned, %s taken from cache)...", arrayFiles.size(), inJavaSources, importStatements, rescannedFiles.sum(), arrayFiles.size() - rescannedFiles.sum());
+            LogExposureClass.LOGGER.info(strFeedback);
+            return headers;
+        }
+
+        /**
+         * Get import statements from a Java source file
+         * (reading stops at first type or module declaration, so imports are never missed regardless of header length)
+         * @param inJavaSource Java source file
+         * @return List of String with imported elements (without "import " and ";")
+         * @throws IOException in case of reading error
+         */
+        public static List<String> getImportStatementsFromJavaSourceFile(final Path inJavaSource) throws IOException {
+            return getJavaSourceHeader(inJavaSource).imports();
+        }
+
+        /**
+         * Get package and import statements from a Java source file
+         * (reading stops at first type or module declaration)
+         * @param inJavaSource Java source file
+         * @return JavaSourceHeaderRecord
+         * @throws IOException in case of reading error
+         */
+        public static JavaSourceHeaderRecord getJavaSourceHeader(final Path inJavaSource) throws IOException {
+            final List<String> imports = new ArrayList<>();
+            String packageName = "";
+            try (BufferedReader reader = Files.newBufferedReader(inJavaSource, StandardCharsets.UTF_8)) {
+                boolean isWithinComment = false;
+                int annotationDepth = 0;
+                boolean isDeclarationReached = false;
+                String line = reader.readLine();
+                while (line != null && !isDeclarationReached) {
+                    final StringBuilder code = new StringBuilder(line.length());
+                    isWithinComment = stripJavaComments(line, isWithinComment, code);
+                    final String strCode = code.toString().strip();
+                    if (annotationDepth > 0) {
+                        annotationDepth += getParenthesesBalance(strCode);
+                    } else if (strCode.startsWith("import ")) {
+                        for (final String strStatement : strCode.split(";")) {
+                            final String strImported = strStatement.strip();
+                            if (strImported.startsWith("import ")) {
+                                imports.add(strImported.substring("import ".length()).strip());
+                            }
+                        }
+                    } else if (strCode.startsWith("@") && !strCode.startsWith("@interface")) {
+                        annotationDepth = getParenthesesBalance(strCode);
+                    } else if (strCode.startsWith("package ")) {
+                        packageName = strCode.substring("package ".length()).replace(";", "").strip();
+                    } else {
+                        isDeclarationReached = !strCode.isEmpty();
+                    }
+                    line = reader.readLine();
+                }
+            }
+            return new JavaSourceHeaderRecord(inJavaSource, packageName, imports);
+        }
+
+        /**
+         * Removes comments from a Java source line
+         * @param line Java source line
+         * @param isWithinComment whether line starts within a block comment
+         * @param code receives code found outside comments
+         * @return whether line ends within a block comment
+         */
+        private static boolean stripJavaComments(final String line, final boolean isWithinComment, final StringBuilder code) {
+            boolean isCommented = isWithinComment;
+            int index = 0;
+            while (index < line.length()) {
+                if (isCommented) {
+                    final int end = line.indexOf("*/", index);
+                    isCommented = end < 0;
+                    index = isCommented ? line.length() : end + 2;
+                } else if (line.startsWith("//", index)) {
+                    index = line.length();
+                } else if (line.startsWith("/*", index)) {
+                    isCommented = true;
+                    index += 2;
+                } else {
+                    code.append(line.charAt(index));
+                    index++;
+                }
+            }
+            return isCommented;
+        }
+
+        /**
+         * Difference between opening and closing parentheses
+         * (used to skip annotations spanning multiple lines)
+         * @param strCode code in scope
+         * @return int
+         */
+        private static int getParenthesesBalance(final String strCode) {
+            int balance = 0;
+            for (int index = 0; index < strCode.length(); index++) {
+                final char character = strCode.charAt(index);
+                if (character == '(') {
+                    balance++;
+                } else if (character == ')') {
+                    balance--;
+                }
+            }
+            return balance;
+        }
+
+        /**
+         * Loads Java Imports cache
+         * @param inCacheFile cache file (null or missing means empty cache)
+         * @return Map with imports keyed by absolute file name
+         */
+        private static Map<String, JavaImportsRecord> loadJavaImportsCache(final Path inCacheFile) {
+            final Map<String, JavaImportsRecord> cachedImports = new ConcurrentHashMap<>();
+            if (inCacheFile != null && Files.isRegularFile(inCacheFile)) {
+                try (BufferedReader reader = Files.newBufferedReader(inCacheFile, StandardCharsets.UTF_8)) {
+                    String line = reader.readLine();
+                    while (line != null) {
+                        final String[] values = line.split(String.valueOf(IMPORTS_CACHE_SEPARATOR), -1);
+                        if (values.length == 5) {
+                            final List<String> imports = values[4].isEmpty() ? List.of() : List.of(values[4].split(","));
+                            cachedImports.put(values[0], new JavaImportsRecord(Long.parseLong(values[1]), Long.parseLong(values[2]), values[3], imports));
+                        }
+                        line = reader.readLine();
+                    }
+                } catch (IOException | NumberFormatException e) {
+                    final String strFeedbackErr = String.format("Java Imports cache %s could not be loaded, every file will be scanned... %s", inCacheFile, e.getLocalizedMessage());
+                    LogExposureClass.LOGGER.error(strFeedbackErr);
+                    cachedImports.clear();
+                }
+            }
+            return cachedImports;
+        }
+
+        /**
+         * Stores Java Imports cache
+         * (only given files are kept, so sources deleted from scanned folder drop out of cache)
+         * @param inCacheFile cache file (null means no cache)
+         * @param currentImports imports keyed by absolute file name
+         */
+        private static void storeJavaImportsCache(final Path inCacheFile, final Map<String, JavaImportsRecord> currentImports) {
+            if (inCacheFile != null) {
+                try {
+                    final Path tempFile = inCacheFile.toAbsolutePath().resolveSibling(inCacheFile.getFileName() + ".tmp");
+                    try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                        for (final Entry<String, JavaImportsRecord> entry : new TreeMap<>(currentImports).entrySet()) {
+                            final JavaImportsRecord javaImports = entry.getValue();
+                            writer.write(entry.getKey() + IMPORTS_CACHE_SEPARATOR + javaImports.size()
+                                    + IMPORTS_CACHE_SEPARATOR + javaImports.modified()
+                                    + IMPORTS_CACHE_SEPARATOR + javaImports.packageName()
+                                    + IMPORTS_CACHE_SEPARATOR + String.join(",", javaImports.imports()));
+                            writer.newLine();
+                        }
+                    }
+                    Files.move(tempFile, inCacheFile, StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException ei) {
+                    final String strFeedbackErr = String.format("Java Imports cache %s could not be written...", inCacheFile);
+                    LogExposureClass.exposeInputOutputException(strFeedbackErr, Arrays.toString(ei.getStackTrace()));
+                }
+            }
+        }
+
+        /**
+         * Capture package dependency graph of Java source files into CSV and JSON files:
+         * packages become integer nodes of a compact adjacency graph, from which fan-in, fan-out,
+         * cycles (strongly connected components) and most depended-on types are derived
+         * @param headers Java source headers (i.e. as returned by extractImportStatementsFromJavaSourceFilesIntoCsvFile)
+         * @param strOutPrefix prefix of output files (__packages.csv, __types.csv and __graph.json are appended)
+         * @param topTypes number of most depended-on types to report
+         */
+        public static void capturePackageDependencyGraphIntoFiles(final List<JavaSourceHeaderRecord> headers, final String strOutPrefix, final int topTypes) {
+            final Map<String, Integer> packageIds = new HashMap<>();
+            final List<String> packageNames = new ArrayList<>();
+            final Map<String, Integer> typeIds = new HashMap<>();
+            final List<String> typeNames = new ArrayList<>();
+            int[] typeImporters = new int[1024];
+            int[] sources = new int[1024];
+            int[] targets = new int[1024];
+            int edgeCount = 0;
+            for (final JavaSourceHeaderRecord header : headers) {
+                final int source = getInternedId(packageIds, packageNames, header.packageName().isEmpty() ? "(default)" : header.packageName());
+                final Set<Integer> importedTypes = new HashSet<>();
+                for (final String strImported : header.imports()) {
+                    final ImportedElementRecord imported = getImportedElement(strImported);
+                    if (edgeCount == sources.length) {
+                        sources = Arrays.copyOf(sources, edgeCount * 2);
+                        targets = Arrays.copyOf(targets, edgeCount * 2);
+                    }
+                    sources[edgeCount] = source;
+                    targets[edgeCount] = getInternedId(packageIds, packageNames, imported.packageName());
+                    edgeCount++;
+                    if (imported.typeName() != null) {
+                        importedTypes.add(getInternedId(typeIds, typeNames, imported.typeName()));
+                    }
+                }
+                for (final int type : importedTypes) {
+                    if (type >= typeImporters.length) {
+                        typeImporters = Arrays.copyOf(typeImporters, Math.max(type + 1, typeImporters.length * 2));
+                    }
+                    typeImporters[type]++;
+                }
+            }
+            final int[] importingFiles = typeImporters;
+            final BasicStructuresClass.DirectedGraphSubClass graph = new BasicStructuresClass.DirectedGraphSubClass(packageNames.size(), sources, targets, edgeCount);
+            final int[] components = graph.getStronglyConnectedComponents();
+            final int[] componentSizes = new int[packageNames.size()];
+            for (final int component : components) {
+                componentSizes[component]++;
+            }
+            final List<Integer> sortedPackages = new ArrayList<>();
+            for (int intPackage = 0; intPackage < packageNames.size(); intPackage++) {
+                sortedPackages.add(intPackage);
+            }
+            sortedPackages.sort(Comparator.comparing(packageNames::get));
+            final Map<Integer, List<String>> cycles = new TreeMap<>();
+            for (final int intPackage : sortedPackages) {
+                if (componentSizes[components[intPackage]] > 1) {
+                    cycles.computeIfAbsent(components[intPackage], _ -> new ArrayList<>()).add(packageNames.get(intPackage));
+                }
+            }
+            final List<Integer> mostImportedTypes = getMostImportedTypes(importingFiles, typeNames, topTypes);
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(strOutPrefix + "__packages.csv"), StandardCharsets.UTF_8)) {
+                writer.write("Package;Fan In;Fan Out;Cycle Size");
+                writer.newLine();
+                for (final int intPackage : sortedPackages) {
+                    final int cycleSize = componentSizes[components[intPackage]];
+                    writer.write(packageNames.get(intPackage) + ';' + graph.getInDegree(intPackage) + ';' + graph.getOutDegree(intPackage) + ';' + (cycleSize > 1 ? cycleSize : 0));
+                    writer.newLine();
+                }
+            } catch (IOException ei) {
+                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(strOutPrefix + "__types.csv"), StandardCharsets.UTF_8)) {
+                writer.write("Rank;Type;Importing Files");
+                writer.newLine();
+                for (int intRank = 0; intRank < mostImportedTypes.size(); intRank++) {
+                    final int type = mostImportedTypes.get(intRank);
+                    writer.write(String.valueOf(intRank + 1) + ';' + typeNames.get(type) + ';' + importingFiles[type]);
+                    writer.newLine();
+                }
+            } catch (IOException ei) {
+                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+            }
+            // package and type names are Java identifiers, hence nothing needs escaping within JSON
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(strOutPrefix + "__graph.json"), StandardCharsets.UTF_8)) {
+                writer.write("{\"Packages\":" + packageNames.size() + ",\"Dependencies\":" + graph.getEdgeCount() + ",\"Cycles\":[");
+                writer.write(cycles.values().stream()
+                        .sorted(Comparator.comparing(List<String>::size).reversed())
+                        .map(cycle -> "{\"Size\":" + cycle.size() + ",\"Packages\":[\"" + String.join("\",\"", cycle) + "\"]}")
+                        .collect(Collectors.joining(",")));
+                writer.write("],\"TopTypes\":[");
+                writer.write(mostImportedTypes.stream()
+                        .map(type -> "{\"Type\":\"" + typeNames.get(type) + "\",\"ImportingFiles\":" + importingFiles[type] + '}')
+                        .collect(Collectors.joining(",")));
+                writer.write("],\"PackageMetrics\":[");
+                writer.write(sortedPackages.stream()
+                        .map(intPackage -> "{\"Package\":\"" + packageNames.get(intPackage) + "\",\"FanIn\":" + graph.getInDegree(intPackage) + ",\"FanOut\":" + graph.getOutDegree(intPackage) + '}')
+                        .collect(Collectors.joining(",")));
+                writer.write("]}");
+                writer.newLine();
+            } catch (IOException ei) {
+                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+            }
+            final String strFeedback = String.format("Package dependency graph has %s packages, %s dependencies and %s cycles, written into %s__* files...", packageNames.size(), graph.getEdgeCount(), cycles.size(), strOutPrefix);
+            LogExposureClass.LOGGER.info(strFeedback);
+        }
+
+        /**
+         * Package and type of an imported element
+         * @param packageName imported package
+         * @param typeName imported top level type (null for whole package imports)
+         */
+        private record ImportedElementRecord(String packageName, String typeName) {}
+
+        /**
+         * Get package and type of an imported element
+         * (first segment starting with upper case is taken as top level type, as per naming conventions)
+         * @param strImported imported element (as within import statement)
+         * @return ImportedElementRecord
+         */
+        private static ImportedElementRecord getImportedElement(final String strImported) {
+            final boolean isStatic = strImported.startsWith("static ");
+            final String strName = isStatic ? strImported.substring("static ".length()).strip() : strImported;
+            final String[] segments = strName.split("\\.");
+            int typeSegment = -1;
+            for (int intSegment = 0; intSegment < segments.length && typeSegment < 0; intSegment++) {
+                if (!segments[intSegment].isEmpty() && Character.isUpperCase(segments[intSegment].charAt(0))) {
+                    typeSegment = intSegment;
+                }
+            }
+            final ImportedElementRecord imported;
+            if (typeSegment > 0) {
+                imported = new ImportedElementRecord(String.join(".", Arrays.copyOf(segments, typeSegment)), String.join(".", Arrays.copyOf(segments, typeSegment + 1)));
+            } else if ("*".equals(segments[segments.length - 1]) && !isStatic) {
+                imported = new ImportedElementRecord(String.join(".", Arrays.copyOf(segments, segments.length - 1)), null);
+            } else {
+                // unconventional naming: static imports end with a member, others with the type itself
+                final int typeEnd = Math.max(1, isStatic ? segments.length - 1 : segments.length);
+                imported = new ImportedElementRecord(String.join(".", Arrays.copyOf(segments, Math.max(1, typeEnd - 1))), String.join(".", Arrays.copyOf(segments, typeEnd)));
+            }
+            return imported;
+        }
+
+        /**
+         * Get (or assign) integer identifier of a name
+         * @param ids identifiers already assigned
+         * @param names names in identifier order
+         * @param strName name in scope
+         * @return int
+         */
+        private static int getInternedId(final Map<String, Integer> ids, final List<String> names, final String strName) {
+            return ids.computeIfAbsent(strName, _ -> {
+                names.add(strName);
+                return names.size() - 1;
+            });
+        }
+
+        /**
+         * Get most imported types (bounded heap, so only topTypes entries are kept while scanning)
+         * @param typeImporters number of importing files for each type
+         * @param typeNames type names in identifier order
+         * @param topTypes number of types to return
+         * @return List of type identifiers, most imported first
+         */
+        private static List<Integer> getMostImportedTypes(final int[] typeImporters, final List<String> typeNames, final int topTypes) {
+            final Comparator<Integer> byImporters = Comparator.<Integer>comparingInt(type -> typeImporters[type])
+                    .thenComparing(typeNames::get, Comparator.reverseOrder());
+            final PriorityQueue<Integer> heap = new PriorityQueue<>(byImporters);
+            for (int type = 0; type < typeNames.size() && topTypes > 0; type++) {
+                heap.add(type);
+                if (heap.size() > topTypes) {
+                    heap.poll();
+                }
+            }
+            final List<Integer> mostImported = new ArrayList<>(heap);
+            mostImported.sort(byImporters.reversed());
+            return mostImported;
+        }
+
+        /**
+         * Get file content into String
+         * (either included in JAR or from Disk/Storage)
+         * @param strFileName file name in scope
+         * @return file content
+         */
+        public static String getFileContentIntoString(final String strFileName) {
+            final String strOutput;
+            if (ProjectClass.isRunningFromJar()) {
+                strOutput = getJarIncludedFileContentIntoString(strFileName);
+            } else {
+                strOutput = getDiskFileContentIntoString(strFileName);
+            }
+            return strOutput;
+        }
+
+        /**
+         * Get file content into String
+         * (good for small files, bad for JAR included files)
+         * @param strFileName file name
+         * @return String
+         */
+        private static String getDiskFileContentIntoString(final String strFileName) {
+            final String strFeedback = String.format("Attempting to get content into a String from %s file...", strFileName);
+            LogExposureClass.LOGGER.debug(strFeedback);
+            String strReturn = "";
+            try {
+                strReturn = Files.readString(Path.of(strFileName));
+            } catch (IOException e) {
+                final String strFeedbackErr = String.format("Error when attempting to get content of file \"%s\": %s", strFileName, Arrays.toString(e.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            return strReturn;
+        }
+
+        /**
+         * Get file content into InputStream
+         * @param strFileName file name
+         * @return input stream
+         */
+        private static String getJarIncludedFileContentIntoString(final String strFileName) {
+            String strContent = null;
+            final String strFeedback = String.format("Attempting to get content into a String from %s file...", strFileName);
+            LogExposureClass.LOGGER.debug(strFeedback);
+            try (InputStream iStream = ContentReadingSubClass.class.getResourceAsStream(strFileName);
+                    InputStreamReader inputStreamReader = new InputStreamReader(iStream, StandardCharsets.UTF_8);
+                    BufferedReader bReader = new BufferedReader(inputStreamReader)) {
+                strContent = bReader.readAllAsString();
+                final String strFeedbackOk = String.format("I have successfully loaded entire content from %s file into stream...", strFileName);
+                LogExposureClass.LOGGER.debug(strFeedbackOk);
+            } catch (IOException ex) {
+                final String strFeedbackErr = String.format("Error \"%s\"", Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            return strContent;
+        }
+
+        /**
+         * Getting list of values from a column grouped by another column
+         * @param strFileName target file name to be written to
+         * @param intColToEval number of column to evaluate (build values list from it)
+         * @param intColToGrpBy number of column to group list of values by
+         * @return Map with String and List or String
+         */
+        public static Map<String, List<String>> getListOfValuesFromColumnGroupedByAnotherColumnValuesFromCsvFile(
+                final String strFileName,
+                final Integer intColToEval,
+                final Integer intColToGrpBy) {
+            final Map<String, List<String>> grouped = new HashMap<>();
+            // Group values by category, only both columns being materialized
+            CsvStreamingSubClass.streamCsvColumns(strFileName, ',', true,
+                    values -> grouped.computeIfAbsent(values[1], _ -> new ArrayList<>()).add(values[0]),
+                    intColToEval, intColToGrpBy);
+            return grouped;
+        }
+
+        /**
+         * Constructor
+         */
+        private ContentReadingSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    /**
+     * File Content Reading
+     */
+    public static final class ContentWritingSubClass {
+        /**
+         * Column Separator for CSV file writing methods
+         */
+        private static char chCsvColSeparator = ',';
+        /**
+         * Line Prefix for CSV content writing methods
+         */
+        private static String strCsvLinePrefix = "";
+
+        /**
+         * Setter for Column Separator for CSV file writing methods
+         * @param inCsvColSeparator char
+         */
+        public static void setCsvColumnSeparator(final char inCsvColSeparator) {
+            chCsvColSeparator = inCsvColSeparator;
+        }
+
+        /**
+         * Setter for Line prefix for CSV file writing methods
+         * @param inCsvLinePrefix String
+         */
+        public static void setCsvLinePrefix(final String inCsvLinePrefix) {
+            strCsvLinePrefix = inCsvLinePrefix + chCsvColSeparator;
+        }
+
+        /**
+         * storing into a CSV file a LinkedHashMap
+         * @param strFileName target file name to be written to
+         * @param strHeader header values
+         * @param listHsMp LinkedHashMap
+         */
+        public static void writeLinkedHashMapToCsvFile(final String strFileName, final String strHeader, final Map<String, Long> listHsMp) {
+            try {
+                final List<String> strLines;
+                final File strFile = new File(strFileName);
+                if (strFile.exists()) {
+                    strLines = listHsMp.entrySet().stream()
+                            .map(e -> strCsvLinePrefix + e.getKey() + chCsvColSeparator + e.getValue())
+                            .toList();
+                } else {
+                    strLines = Stream.concat(
+                            Stream.of(strHeader), // header
+                            listHsMp.entrySet().stream()
+                                    .map(e -> strCsvLinePrefix + e.getKey() + chCsvColSeparator + e.getValue())
+                    ).toList();
+                }
+                Files.write(Path.of(strFileName), strLines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException ex) {
+                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+        }
+
+        /**
+         * Write list of single values to File
+         * 
+         * @param listStrings List of Strings
+         * @param strFileName file name to write to
+         */
+        public static void writeListToTextFile(final String strFileName, final List<String> listStrings) {
             DeletingSubClass.deleteFileIfExists(strFileName);
             try (BufferedWriter bwr = Files.newBufferedWriter(Path.of(strFileName), StandardCharsets.UTF_8)) {
                 listStrings.forEach(strLine -> {
                     try {
-                        bwr.write(strLine);
-                        bwr.newLine();
-                    } catch (IOException er) {
-                        final String strFeedback = String.format("Error encountered when attempting to write to %s file... %s", strFileName, Arrays.toString(er.getStackTrace()));
-                        LogExposureClass.LOGGER.error(strFeedback);
+                        bwr.write(strLine);
+                        bwr.newLine();
+                    } catch (IOException er) {
+                        final String strFeedback = String.format("Error encountered when attempting to write to %s file... %s", strFileName, Arrays.toString(er.getStackTrace()));
+                        LogExposureClass.LOGGER.error(strFeedback);
+                    }
+                });
+                final String strFeedback = String.format("Writing list to %s file completed successfully!", strFileName);
+                LogExposureClass.LOGGER.debug(strFeedback);
+            } catch (IOException ex) {
+                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+        }
+
+        /**
+         * Write list of Properties to CSV File
+         *
+         * @param strFileName target File
+         * @param propertiesList list of Properties
+         */
+        public static void writePropertiesListToCsvFile(final String strFileName, final List<Properties> propertiesList) {
+            // Collect all unique keys
+            final Set<String> allKeys = new LinkedHashSet<>();
+            for (final Properties properties : propertiesList) {
+                allKeys.addAll(properties.stringPropertyNames());
+            }
+            final String strClmnSeparator = String.valueOf(chCsvColSeparator);
+            try (BufferedWriter bwr = Files.newBufferedWriter(Path.of(strFileName), StandardCharsets.UTF_8)) {
+                // Write the header
+                bwr.write(String.join(strClmnSeparator, allKeys));
+                bwr.newLine();
+                final Set<String> row = new LinkedHashSet<>();
+                // Write each row
+                for (final Properties properties : propertiesList) {
+                    row.clear();
+                    for (final String key : allKeys) {
+                        row.add(properties.getProperty(key, "")); // Supply default value "" if key is absent
+                    }
+                    bwr.write(String.join(strClmnSeparator, row));
+                    bwr.newLine();
+                }
+            } catch (IOException ex) {
+                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+        }
+
+        /**
+         * Store small content into file
+         * @param strFileName destination file name
+         * @param strRawText content
+         */
+        public static void writeRawTextToFile(final String strFileName, final String strRawText) {
+            DeletingSubClass.deleteFileIfExists(strFileName);
+            try (BufferedWriter bwr = Files.newBufferedWriter(Path.of(strFileName), StandardCharsets.UTF_8)) {
+                bwr.write(strRawText);
+                final String strFeedback = String.format("Writing list to %s file completed successfully!", strFileName);
+                LogExposureClass.LOGGER.debug(strFeedback);
+            } catch (IOException ex) {
+                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+        }
+
+        /**
+         * storing into a CSV file a LinkedHashMap
+         * @param strFileName target file name to be written to
+         * @param strHeader header values
+         * @param listStrings List of String
+         */
+        public static void writeStringListToCsvFile(final String strFileName, final String strHeader, final List<String> listStrings) {
+            try {
+                final List<String> strLines;
+                final File strFile = new File(strFileName);
+                if (strFile.exists()) {
+                    strLines = listStrings.stream()
+                            .map(value -> strCsvLinePrefix + value)
+                            .toList();
+                } else {
+                    strLines = Stream.concat(
+                            Stream.of(strHeader), // header
+                            listStrings.stream()
+                                    .map(value -> strCsvLinePrefix + value)
+                    ).toList();
+                }
+                Files.write(Path.of(strFileName), strLines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException ex) {
+                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+        }
+
+        /**
+         * Constructor
+         */
+        private ContentWritingSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    /**
+     * Streaming CSV reading (RFC 4180 quoting, embedded separators, quotes and line breaks),
+     * characters being scanned once and only requested columns being materialized
+     */
+    public static final class CsvStreamingSubClass {
+        /**
+         * Size of characters chunk read at once
+         */
+        private static final int CSV_BUFFER_SIZE = 64 * 1024;
+        /**
+         * Parser state: nothing read yet for current field
+         */
+        private static final int FIELD_START = 0;
+        /**
+         * Parser state: within an unquoted field
+         */
+        private static final int UNQUOTED = 1;
+        /**
+         * Parser state: within a quoted field
+         */
+        private static final int QUOTED = 2;
+        /**
+         * Parser state: quote found within a quoted field (either escaped quote or end of quoting)
+         */
+        private static final int QUOTE_IN_QUOTED = 3;
+
+        /**
+         * Assembles rows from characters chunks, keeping its state between chunks
+         */
+        private static final class CsvRowAssemblerClass {
+            /**
+             * Column separator
+             */
+            private final char separator;
+            /**
+             * Position within projected row for each column (-1 when column is not requested)
+             */
+            private final int[] slotOfColumn;
+            /**
+             * Every column is requested (as many as each row has)
+             */
+            private final boolean isAllColumns;
+            /**
+             * Content of requested columns for current row
+             */
+            private StringBuilder[] fields;
+            /**
+             * Consumer of projected rows
+             */
+            private final Consumer<String[]> rowSink;
+            /**
+             * Current parser state
+             */
+            private int state = FIELD_START;
+            /**
+             * Current column within row
+             */
+            private int column;
+            /**
+             * Nothing read so far for current row
+             */
+            private boolean isRowEmpty = true;
+            /**
+             * Previous character was a carriage return ending a row
+             */
+            private boolean isAfterCarriageReturn;
+            /**
+             * Header is still to be skipped
+             */
+            private boolean isHeaderPending;
+            /**
+             * Number of rows handed to consumer
+             */
+            private long rowCount;
+
+            /**
+             * Constructor
+             * @param inSeparator column separator
+             * @param inHeaderSkipped true when first row is not handed to consumer
+             * @param inRowSink consumer of projected rows
+             * @param inColumns requested column numbers (starting from 0, none meaning every column)
+             */
+            private CsvRowAssemblerClass(final char inSeparator, final boolean inHeaderSkipped, final Consumer<String[]> inRowSink, final int... inColumns) {
+                separator = inSeparator;
+                isHeaderPending = inHeaderSkipped;
+                rowSink = inRowSink;
+                isAllColumns = inColumns.length == 0;
+                slotOfColumn = new int[Arrays.stream(inColumns).max().orElse(-1) + 1];
+                Arrays.fill(slotOfColumn, -1);
+                fields = new StringBuilder[inColumns.length];
+                for (int intSlot = 0; intSlot < inColumns.length; intSlot++) {
+                    slotOfColumn[inColumns[intSlot]] = intSlot;
+                    fields[intSlot] = new StringBuilder();
+                }
+            }
+
+            /**
+             * Consumes a chunk of characters
+             * @param chunk characters
+             * @param length number of meaningful characters
+             */
+            private void accept(final char[] chunk, final int length) {
+                for (int intPosition = 0; intPosition < length; intPosition++) {
+                    final char chr = chunk[intPosition];
+                    if (isAfterCarriageReturn) {
+                        isAfterCarriageReturn = false;
+                        if (chr == '\n') {
+                            continue;
+                        }
+                    }
+                    switch (state) {
+                        case QUOTED -> {
+                            if (chr == '"') {
+                                state = QUOTE_IN_QUOTED;
+                            } else {
+                                append(chr);
+                            }
+                        }
+                        case QUOTE_IN_QUOTED -> {
+                            if (chr == '"') {
+                                append(chr);
+                                state = QUOTED;
+                            } else {
+                                state = UNQUOTED;
+                                acceptOutsideQuotes(chr);
+                            }
+                        }
+                        default -> acceptOutsideQuotes(chr);
+                    }
+                }
+            }
+
+            /**
+             * Consumes a character found outside quotes
+             * @param chr character
+             */
+            private void acceptOutsideQuotes(final char chr) {
+                if (chr == separator) {
+                    column++;
+                    state = FIELD_START;
+                    isRowEmpty = false;
+                } else if (chr == '\n') {
+                    endRow();
+                } else if (chr == '\r') {
+                    endRow();
+                    isAfterCarriageReturn = true;
+                } else if (chr == '"' && state == FIELD_START) {
+                    state = QUOTED;
+                    isRowEmpty = false;
+                } else {
+                    append(chr);
+                    state = UNQUOTED;
+                }
+            }
+
+            /**
+             * Appends a character to current field (only when column is requested)
+             * @param chr character
+             */
+            private void append(final char chr) {
+                isRowEmpty = false;
+                if (isAllColumns) {
+                    ensureField(column).append(chr);
+                } else if (column < slotOfColumn.length && slotOfColumn[column] >= 0) {
+                    fields[slotOfColumn[column]].append(chr);
+                }
+            }
+
+            /**
+             * Field of a column when every column is requested (allocated on first use)
+             * @param inColumn column number
+             * @return StringBuilder
+             */
+            private StringBuilder ensureField(final int inColumn) {
+                if (inColumn >= fields.length) {
+                    final int previousLength = fields.length;
+                    fields = Arrays.copyOf(fields, inColumn + 1);
+                    for (int intSlot = previousLength; intSlot < fields.length; intSlot++) {
+                        fields[intSlot] = new StringBuilder();
+                    }
+                }
+                return fields[inColumn];
+            }
+
+            /**
+             * Hands current row to consumer (blank lines are ignored)
+             */
+            private void endRow() {
+                if (!isRowEmpty) {
+                    if (isHeaderPending) {
+                        isHeaderPending = false;
+                    } else {
+                        final String[] values = new String[isAllColumns ? column + 1 : fields.length];
+                        for (int intSlot = 0; intSlot < values.length; intSlot++) {
+                            values[intSlot] = intSlot < fields.length ? fields[intSlot].toString() : "";
+                        }
+                        rowSink.accept(values);
+                        rowCount++;
+                    }
+                }
+                for (final StringBuilder field : fields) {
+                    field.setLength(0);
+                }
+                column = 0;
+                state = FIELD_START;
+                isRowEmpty = true;
+            }
+
+            /**
+             * Hands last row to consumer when file does not end with a line break
+             */
+            private void finish() {
+                if (!isRowEmpty || state != FIELD_START) {
+                    endRow();
+                }
+            }
+        }
+
+        /**
+         * Streams requested columns of every row from a CSV file
+         * (columns missing from a row are handed as empty values)
+         * @param strFileName CSV file name
+         * @param chSeparator column separator
+         * @param isHeaderSkipped true when first row is not handed to consumer
+         * @param rowSink consumer receiving requested column values of each row (in requested order)
+         * @param columns requested column numbers (starting from 0, none meaning every column of each row)
+         * @return number of rows handed to consumer
+         */
+        public static long streamCsvColumns(final String strFileName, final char chSeparator, final boolean isHeaderSkipped, final Consumer<String[]> rowSink, final int... columns) {
+            final CsvRowAssemblerClass assembler = new CsvRowAssemblerClass(chSeparator, isHeaderSkipped, rowSink, columns);
+            try (Reader reader = new InputStreamReader(Files.newInputStream(Path.of(strFileName)), StandardCharsets.UTF_8)) {
+                final char[] chunk = new char[CSV_BUFFER_SIZE];
+                int charsRead = reader.read(chunk);
+                // byte order mark is not part of first column name
+                if (charsRead > 0 && chunk[0] == '\uFEFF') {
+                    assembler.accept(Arrays.copyOfRange(chunk, 1, charsRead), charsRead - 1);
+                    charsRead = reader.read(chunk);
+                }
+                while (charsRead != -1) {
+                    assembler.accept(chunk, charsRead);
+                    charsRead = reader.read(chunk);
+                }
+                assembler.finish();
+            } catch (IOException ex) {
+                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+            return assembler.rowCount;
+        }
+
+        /**
+         * Profiles every column of a CSV file in a single streaming pass into another CSV file
+         * (memory is constant for each column, distinct values being estimated through HyperLogLog)
+         * @param strFileName CSV file name (first row holding column names)
+         * @param chSeparator column separator
+         * @param outCsvFile output CSV file
+         * @return number of profiled rows
+         */
+        public static long profileCsvColumnsIntoCsvFile(final String strFileName, final char chSeparator, final String outCsvFile) {
+            final List<ColumnProfileClass> profiles = new ArrayList<>();
+            final long rowCount = streamCsvColumns(strFileName, chSeparator, false, values -> {
+                if (profiles.isEmpty()) {
+                    for (final String strColumn : values) {
+                        profiles.add(new ColumnProfileClass(strColumn));
+                    }
+                } else {
+                    for (int intColumn = 0; intColumn < profiles.size(); intColumn++) {
+                        // columns missing from a row are profiled as blank
+                        profiles.get(intColumn).accept(intColumn < values.length ? values[intColumn] : "");
+                    }
+                }
+            }) - 1;
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(outCsvFile), StandardCharsets.UTF_8)) {
+                writer.write("Column;Rows;Nulls;Null Ratio;Min Length;Max Length;Inferred Type;Approximate Distinct");
+                writer.newLine();
+                for (final ColumnProfileClass profile : profiles) {
+                    writer.write(profile.toCsvLine());
+                    writer.newLine();
+                }
+            } catch (IOException ex) {
+                final String strFeedback = LogExposureClass.getFileErrorMessage(outCsvFile, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+            return Math.max(0, rowCount);
+        }
+
+        /**
+         * Profile of a single column, updated value by value
+         */
+        private static final class ColumnProfileClass {
+            /**
+             * Value types in evaluation order (as used for HTML cell styling), TEXT being anything else
+             */
+            private static final List<String> VALUE_TYPES = List.of("DECIMAL", "INTEGER", "LONG", "DATE", "TIMESTAMP", "TIMESTAMP_MS", "TEXT");
+            /**
+             * Position of TEXT within VALUE_TYPES
+             */
+            private static final int TEXT_TYPE = VALUE_TYPES.size() - 1;
+            /**
+             * Column name
+             */
+            private final String columnName;
+            /**
+             * Approximate distinct values
+             */
+            private final BasicStructuresClass.DistinctCounterSubClass distinctValues = new BasicStructuresClass.DistinctCounterSubClass();
+            /**
+             * Number of values
+             */
+            private long rows;
+            /**
+             * Number of blank or NULL values
+             */
+            private long nulls;
+            /**
+             * Smallest length of a non-null value
+             */
+            private int minLength = Integer.MAX_VALUE;
+            /**
+             * Largest length of a non-null value
+             */
+            private int maxLength;
+            /**
+             * Bit set of value types seen (bit position as in VALUE_TYPES)
+             */
+            private int seenTypes;
+
+            /**
+             * Constructor
+             * @param inColumnName column name
+             */
+            private ColumnProfileClass(final String inColumnName) {
+                columnName = inColumnName;
+            }
+
+            /**
+             * Profiles a value
+             * @param strValue value
+             */
+            private void accept(final String strValue) {
+                rows++;
+                if (strValue.isBlank() || BasicStructuresClass.STR_NULL.equalsIgnoreCase(strValue)) {
+                    nulls++;
+                } else {
+                    minLength = Math.min(minLength, strValue.length());
+                    maxLength = Math.max(maxLength, strValue.length());
+                    distinctValues.add(strValue);
+                    // once TEXT is seen type cannot narrow anymore, so no further evaluation is needed
+                    if ((seenTypes & (1 << TEXT_TYPE)) == 0) {
+                        seenTypes |= 1 << getValueType(strValue);
+                    }
+                }
+            }
+
+            /**
+             * Type of a single value
+             * @param strValue non-null value
+             * @return position within VALUE_TYPES
+             */
+            private static int getValueType(final String strValue) {
+                final char chFirst = strValue.charAt(0);
+                int intType = TEXT_TYPE;
+                // every non-text type starts with a digit or minus sign, so regular expressions are skipped otherwise
+                if (Character.isDigit(chFirst) || chFirst == '-') {
+                    if (BasicStructuresClass.StringEvaluationSubClass.isStringActuallyDecimal(strValue)) {
+                        intType = 0;
+                    } else if (BasicStructuresClass.StringEvaluationSubClass.isStringActuallyInteger(strValue)) {
+                        intType = 1;
+                    } else if (BasicStructuresClass.StringEvaluationSubClass.isStringActuallyLong(strValue)) {
+                        intType = 2;
+                    } else if (BasicStructuresClass.StringEvaluationSubClass.isStringActuallyDate(strValue)) {
+                        intType = 3;
+                    } else if (BasicStructuresClass.StringEvaluationSubClass.isStringActuallyTimestamp(strValue)) {
+                        intType = 4;
+                    } else if (BasicStructuresClass.StringEvaluationSubClass.isStringActuallyTimestampWithMilliseconds(strValue)) {
+                        intType = 5;
+                    }
+                }
+                return intType;
+            }
+
+            /**
+             * Narrowest type holding every value seen
+             * @return String
+             */
+            private String getInferredType() {
+                final int numericTypes = 0b111;
+                final int temporalTypes = 0b111_000;
+                String strType = "TEXT";
+                if (seenTypes == 0) {
+                    strType = "EMPTY";
+                } else if (Integer.bitCount(seenTypes) == 1) {
+                    strType = VALUE_TYPES.get(Integer.numberOfTrailingZeros(seenTypes));
+                } else if ((seenTypes & ~numericTypes) == 0) {
+                    // INTEGER widens into LONG, anything mixed with DECIMAL is DECIMAL
+                    strType = (seenTypes & 1) == 0 ? "LONG" : "DECIMAL";
+                } else if ((seenTypes & ~temporalTypes) == 0) {
+                    strType = (seenTypes & (1 << 5)) == 0 ? "TIMESTAMP" : "TIMESTAMP_MS";
+                }
+                return strType;
+            }
+
+            /**
+             * Profile as a CSV line
+             * @return String
+             */
+            private String toCsvLine() {
+                final boolean hasValues = rows > nulls;
+                return columnName + ';' + rows + ';' + nulls
+                        + ';' + String.format(Locale.US, "%.4f", rows == 0 ? 0.0 : (double) nulls / rows)
+                        + ';' + (hasValues ? minLength : "") + ';' + (hasValues ? maxLength : "")
+                        + ';' + getInferredType() + ';' + distinctValues.estimate();
+            }
+        }
+
+        /**
+         * Constructor
+         */
+        private CsvStreamingSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    /**
+     * File Deletion logic
+     */
+    public static final class DeletingSubClass {
+
+        /**
+         * Removes a files if already exists
+         *
+         * @param strFileName file name to search
+         */
+        public static void deleteFileIfExists(final String strFileName) {
+            try {
+                final Path filePath = Path.of(strFileName);
+                Files.deleteIfExists(filePath);
+            } catch (IOException e) {
+                final String strFeedback = String.format("Error encountered when attempting to write to %s file... %s", strFileName, Arrays.toString(e.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+        }
+
+        /**
+         * Deletes all files matching given pattern from folder
+         * @param strFolder input folder
+         * @param strPattern input pattern
+         */
+        public static void deleteFilesMatchingPatternFromFolder(final String strFolder, final String strPattern) {
+            try {
+                final String strFeedback = String.format("I will attempt to removed all matched files based on %s pattern from folder %s...", strPattern, strFolder);
+                LogExposureClass.LOGGER.info(strFeedback);
+                final Path dir = Path.of(strFolder);
+                Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                        if (file.getFileName().toString().matches(strPattern)) {
+                            Files.delete(file);
+                            final String strFeedbackD = String.format("File %s has been deleted", file);
+                            LogExposureClass.LOGGER.info(strFeedbackD);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException ei) {
+                final String strFeedbackErr = String.format("Inout/Output exception on... %s", Arrays.toString(ei.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+        }
+
+        /**
+         * File deleting logic
+         * (folders are cleaned in parallel, each one being a fork/join task listing only its own entries)
+         */
+        public static final class OlderClass {
+            /**
+             * Known eviction policies for quota based cleaning
+             */
+            public static final List<String> LST_EVICTION_POLICIES = List.of("MODIFIED", "ACCESSED");
+            /**
+             * Cleaned Folder Statistics
+             */
+            private static boolean bolClnFldrStats;
+            /**
+             * Dry run (nothing is deleted, only reported)
+             */
+            private static boolean bolDryRun;
+            /**
+             * Remove folders left empty by cleaning
+             */
+            private static boolean bolRemoveEmptyFolders;
+            /**
+             * Number of threads cleaning folders in parallel
+             */
+            private static int cleaningThreads = Runtime.getRuntime().availableProcessors();
+            /**
+             * Counter for removed files
+             */
+            private static final LongAdder FILES_CLEANED = new LongAdder();
+            /**
+             * Size in bytes for removed files
+             */
+            private static final LongAdder BYTES_CLEANED = new LongAdder();
+            /**
+             * Counter for removed folders
+             */
+            private static final LongAdder FOLDERS_REMOVED = new LongAdder();
+            /**
+             * Counter for files or folders which could not be removed
+             */
+            private static final LongAdder FAILURES = new LongAdder();
+            /**
+             * Folders having something cleaned
+             */
+            private static final Queue<CleanedFolderRecord> CLEANED_FOLDERS = new ConcurrentLinkedQueue<>();
+
+            /**
+             * A simple record to hold cleaning results of a single folder
+             * @param folder folder
+             * @param files number of files removed from folder
+             * @param bytes size in bytes of files removed from folder
+             * @param isFolderRemoved true when folder itself was removed being left empty
+             */
+            /* default */ record CleanedFolderRecord(String folder, long files, long bytes, boolean isFolderRemoved) {}
+
+            /**
+             * A simple record to hold a file considered for quota eviction
+             * @param file file
+             * @param size size in bytes
+             * @param lastUsed last modified or last accessed time in milliseconds (depending on eviction policy)
+             */
+            private record EvictionCandidateRecord(Path file, long size, long lastUsed) {}
+
+            /**
+             * Cleaning of a single folder, forking one task for each sub-folder
+             * (result tells whether folder has been removed, so parent can consider itself empty)
+             */
+            private static final class CleaningTask extends RecursiveTask<Boolean> {
+                private static final long serialVersionUID = 1L;
+                /**
+                 * Folder to clean
+                 */
+                private final transient Path folder;
+                /**
+                 * Cutoff time in milliseconds
+                 */
+                private final long cutoff;
+                /**
+                 * Top folder is never removed
+                 */
+                private final boolean isTopFolder;
+
+                /**
+                 * Constructor
+                 * @param inFolder folder to clean
+                 * @param inCutoff cutoff time in milliseconds
+                 * @param inTopFolder true for folder given by user
+                 */
+                private CleaningTask(final Path inFolder, final long inCutoff, final boolean inTopFolder) {
+                    super();
+                    folder = inFolder;
+                    cutoff = inCutoff;
+                    isTopFolder = inTopFolder;
+                }
+
+                @Override
+                protected Boolean compute() {
+                    final List<CleaningTask> subTasks = new ArrayList<>();
+                    // files cleaned, bytes cleaned, entries kept
+                    final long[] counts = new long[3];
+                    try {
+                        // depth 1 means sub-folders are handed to visitFile together with their attributes
+                        Files.walkFileTree(folder, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+                            @Override
+                            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                                if (attrs.isDirectory()) {
+                                    subTasks.add(new CleaningTask(file, cutoff, false));
+                                } else if (attrs.isRegularFile() && attrs.lastModifiedTime().toMillis() <= cutoff && deleteOlderFile(file)) {
+                                    counts[0]++;
+                                    counts[1] += attrs.size();
+                                } else {
+                                    counts[2]++;
+                                }
+                                return FileVisitResult.CONTINUE;
+                            }
+
+                            @Override
+                            public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                                final String strFeedback = String.format(I18N_FILE_FND_ERR, file.getFileName(), file.getParent());
+                                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(exc.getStackTrace()));
+                                counts[2]++;
+                                return FileVisitResult.CONTINUE;
+                            }
+                        });
+                    } catch (IOException ex) {
+                        final String strFeedbackErr = String.format("Error encountered when attempting to get sub-folders from %s folder... %s", folder, Arrays.toString(ex.getStackTrace()));
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
+                        counts[2]++;
+                    }
+                    long removedSubFolders = 0;
+                    for (final CleaningTask subTask : invokeAll(subTasks)) {
+                        if (subTask.join()) {
+                            removedSubFolders++;
+                        } else {
+                            counts[2]++;
+                        }
+                    }
+                    // only folders emptied by this cleaning are removed (folders empty on purpose are kept)
+                    final boolean isFolderRemoved = bolRemoveEmptyFolders && !isTopFolder && counts[2] == 0
+                            && (counts[0] + removedSubFolders) > 0 && deleteEmptyFolder(folder);
+                    if (counts[0] > 0 || isFolderRemoved) {
+                        if (bolClnFldrStats) {
+                            FILES_CLEANED.add(counts[0]);
+                            BYTES_CLEANED.add(counts[1]);
+                        }
+                        CLEANED_FOLDERS.add(new CleanedFolderRecord(folder.toString(), counts[0], counts[1], isFolderRemoved));
+                    }
+                    return isFolderRemoved;
+                }
+            }
+
+            /**
+             * Getter for Cleaned Folder Statistics
+             * @return Map with folder statistics
+             */
+            public static Map<String, Long> getCleanedFolderStatistics() {
+                final Map<String, Long> statsClndFldr = new ConcurrentHashMap<>();
+                statsClndFldr.put("Files", FILES_CLEANED.sum());
+                statsClndFldr.put("Size", BYTES_CLEANED.sum());
+                statsClndFldr.put("Folders", FOLDERS_REMOVED.sum());
+                statsClndFldr.put("Failures", FAILURES.sum());
+                return statsClndFldr;
+            }
+
+            /**
+             * Getter for folders having something cleaned since last reset
+             * @return List of CleanedFolderRecord sorted by folder
+             */
+            public static List<CleanedFolderRecord> getCleanedFolderReport() {
+                return CLEANED_FOLDERS.stream()
+                        .sorted(Comparator.comparing(CleanedFolderRecord::folder))
+                        .toList();
+            }
+
+            /**
+             * Removes files older than given days from a folder and all its sub-folders
+             *
+             * @param strFolderName folder name to look into
+             * @param intOlderLimit older days limit
+             * @return cutoff time in milliseconds (files last modified up to it are removed)
+             */
+            public static long deleteFilesOlderThanGivenDays(final String strFolderName, final long intOlderLimit) {
+                final long cutoff = TimingClass.getDaysAgoWithMillisecondsPrecision(Instant.now(), intOlderLimit);
+                final String strFeedback = String.format("Will attempt to remove%s all files older than \"%s\" from within \"%s\" folder...",
+                        bolDryRun ? " (dry run)" : "", Instant.ofEpochMilli(cutoff).toString().replaceAll("[TZ]", " ").trim(), strFolderName);
+                LogExposureClass.LOGGER.debug(strFeedback);
+                try (ForkJoinPool cleaningPool = new ForkJoinPool(cleaningThreads)) {
+                    cleaningPool.invoke(new CleaningTask(Path.of(strFolderName), cutoff, true));
+                }
+                return cutoff;
+            }
+
+            /**
+             * Removes least recently used files from a folder and all its sub-folders until it fits into a quota
+             * (first pass measures folder, second one keeps only the oldest files covering the excess
+             * within a bounded heap, so the full listing is never held in memory)
+             *
+             * @param strFolderName folder name to look into
+             * @param lngQuotaBytes quota in bytes
+             * @param strPolicy MODIFIED (oldest files first) or ACCESSED (least recently accessed files first)
+             */
+            public static void deleteFilesBeyondQuota(final String strFolderName, final long lngQuotaBytes, final String strPolicy) {
+                deleteFilesBeyondQuota(strFolderName, lngQuotaBytes, strPolicy, Long.MIN_VALUE);
+            }
+
+            /**
+             * Removes least recently used files from a folder and all its sub-folders until it fits into a quota
+             * leaving out files already removed by age (in dry run these are still there, but must not be counted twice)
+             *
+             * @param strFolderName folder name to look into
+             * @param lngQuotaBytes quota in bytes
+             * @param strPolicy MODIFIED (oldest files first) or ACCESSED (least recently accessed files first)
+             * @param lngOlderCutoff cutoff time in milliseconds as returned by deleteFilesOlderThanGivenDays
+             */
+            public static void deleteFilesBeyondQuota(final String strFolderName, final long lngQuotaBytes, final String strPolicy, final long lngOlderCutoff) {
+                final Path folder = Path.of(strFolderName);
+                final boolean isByAccess = "ACCESSED".equals(strPolicy);
+                final long[] totalSize = {0};
+                walkRegularFiles(folder, (_, attrs) -> {
+                    if (attrs.lastModifiedTime().toMillis() > lngOlderCutoff) {
+                        totalSize[0] += attrs.size();
+                    }
+                });
+                final long excess = totalSize[0] - lngQuotaBytes;
+                final String strFeedback = String.format("Folder \"%s\" holds %d bytes against a quota of %d bytes, so %d bytes have to be removed%s...",
+                        strFolderName, totalSize[0], lngQuotaBytes, Math.max(0, excess), bolDryRun ? " (dry run)" : "");
+                LogExposureClass.LOGGER.debug(strFeedback);
+                if (excess > 0) {
+                    // newest candidate on top, so it is the first one dropped once older candidates cover the excess
+                    final PriorityQueue<EvictionCandidateRecord> candidates = new PriorityQueue<>(Comparator.comparingLong(EvictionCandidateRecord::lastUsed).reversed());
+                    final long[] candidateBytes = {0};
+                    walkRegularFiles(folder, (file, attrs) -> {
+                        final long lastUsed = (isByAccess ? attrs.lastAccessTime() : attrs.lastModifiedTime()).toMillis();
+                        if (attrs.lastModifiedTime().toMillis() > lngOlderCutoff
+                                && (candidateBytes[0] < excess || lastUsed < candidates.element().lastUsed())) {
+                            candidates.add(new EvictionCandidateRecord(file, attrs.size(), lastUsed));
+                            candidateBytes[0] += attrs.size();
+                            while (candidateBytes[0] - candidates.element().size() >= excess) {
+                                candidateBytes[0] -= candidates.remove().size();
+                            }
+                        }
+                    });
+                    evictCandidates(candidates);
+                }
+            }
+
+            /**
+             * Removes quota eviction candidates, oldest first
+             * (so an interrupted cleaning still leaves the most recently used files in place)
+             * @param candidates eviction candidates
+             */
+            private static void evictCandidates(final Collection<EvictionCandidateRecord> candidates) {
+                final List<EvictionCandidateRecord> evictions = new ArrayList<>(candidates);
+                evictions.sort(Comparator.comparingLong(EvictionCandidateRecord::lastUsed));
+                final Map<Path, long[]> cleanedByFolder = new TreeMap<>();
+                for (final EvictionCandidateRecord eviction : evictions) {
+                    if (deleteOlderFile(eviction.file())) {
+                        final long[] cleaned = cleanedByFolder.computeIfAbsent(eviction.file().getParent(), _ -> new long[2]);
+                        cleaned[0]++;
+                        cleaned[1] += eviction.size();
+                    }
+                }
+                cleanedByFolder.forEach((cleanedFolder, cleaned) -> {
+                    if (bolClnFldrStats) {
+                        FILES_CLEANED.add(cleaned[0]);
+                        BYTES_CLEANED.add(cleaned[1]);
+                    }
+                    CLEANED_FOLDERS.add(new CleanedFolderRecord(cleanedFolder.toString(), cleaned[0], cleaned[1], false));
+                });
+            }
+
+            /**
+             * Walks a folder and all its sub-folders handing every regular file to a consumer
+             * @param folder folder to walk
+             * @param fileConsumer consumer of file and its attributes
+             */
+            private static void walkRegularFiles(final Path folder, final BiConsumer<Path, BasicFileAttributes> fileConsumer) {
+                try {
+                    Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                            if (attrs.isRegularFile()) {
+                                fileConsumer.accept(file, attrs);
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                            final String strFeedback = String.format(I18N_FILE_FND_ERR, file.getFileName(), file.getParent());
+                            LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(exc.getStackTrace()));
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+                } catch (IOException ex) {
+                    final String strFeedbackErr = String.format("Error encountered when attempting to get sub-folders from %s folder... %s", folder, Arrays.toString(ex.getStackTrace()));
+                    LogExposureClass.LOGGER.error(strFeedbackErr);
+                }
+            }
+
+            /**
+             * Remove an older file (or only report it in dry run)
+             * @param file Path to file
+             * @return true when file is (or would be) removed
+             */
+            private static boolean deleteOlderFile(final Path file) {
+                boolean isDeleted = true;
+                if (bolDryRun) {
+                    final String strFeedback = String.format("File %s would be deleted", file);
+                    LogExposureClass.LOGGER.debug(strFeedback);
+                } else {
+                    try {
+                        Files.delete(file);
+                    } catch (IOException e) {
+                        final String strFeedbackErr = String.format("Error encountered when attempting to delete %s file... %s", file, Arrays.toString(e.getStackTrace()));
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
+                        FAILURES.increment();
+                        isDeleted = false;
+                    }
+                }
+                return isDeleted;
+            }
+
+            /**
+             * Remove a folder left empty (or only report it in dry run)
+             * @param folder Path to folder
+             * @return true when folder is (or would be) removed
+             */
+            private static boolean deleteEmptyFolder(final Path folder) {
+                boolean isDeleted = true;
+                if (bolDryRun) {
+                    final String strFeedback = String.format("Folder %s would be deleted", folder);
+                    LogExposureClass.LOGGER.debug(strFeedback);
+                } else {
+                    try {
+                        Files.delete(folder);
+                    } catch (IOException e) {
+                        // something might have been written into folder meanwhile
+                        final String strFeedbackErr = String.format("Error encountered when attempting to delete %s folder... %s", folder, Arrays.toString(e.getStackTrace()));
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
+                        FAILURES.increment();
+                        isDeleted = false;
+                    }
+                }
+                if (isDeleted && bolClnFldrStats) {
+                    FOLDERS_REMOVED.increment();
+                }
+                return isDeleted;
+            }
+
+            /**
+             * Setter for Cleaned Folder Statistics
+             * @param inStats boolean
+             */
+            public static void setCleanedFolderStatistics(final boolean inStats) {
+                if (bolClnFldrStats != inStats) {
+                    setOrResetCleanedFolderStatistics();
+                }
+                bolClnFldrStats = inStats;
+            }
+
+            /**
+             * Setter/Resetter for Cleaned Folder Statistics
+             */
+            public static void setOrResetCleanedFolderStatistics() {
+                FILES_CLEANED.reset();
+                BYTES_CLEANED.reset();
+                FOLDERS_REMOVED.reset();
+                FAILURES.reset();
+                CLEANED_FOLDERS.clear();
+            }
+
+            /**
+             * Setter for Dry Run
+             * @param inDryRun true to only report what would be removed
+             */
+            public static void setDryRun(final boolean inDryRun) {
+                bolDryRun = inDryRun;
+            }
+
+            /**
+             * Setter for removal of folders left empty
+             * @param inRemoveEmptyFolders true to remove folders emptied by cleaning
+             */
+            public static void setRemoveEmptyFolders(final boolean inRemoveEmptyFolders) {
+                bolRemoveEmptyFolders = inRemoveEmptyFolders;
+            }
+
+            /**
+             * Setter for number of threads cleaning folders in parallel
+             * @param inThreads number of threads
+             */
+            public static void setCleaningThreads(final int inThreads) {
+                cleaningThreads = inThreads;
+            }
+
+            /**
+             * Constructor
+             */
+            private OlderClass() {
+                // intentionally blank
+            }
+
+        }
+
+        /**
+         * Constructor
+         */
+        private DeletingSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    /**
+     * Duplicate files finding (staged, so that most of the data is never read):
+     * files are grouped by size, then by a cheap checksum of their first and last blocks,
+     * and only files still colliding are fully hashed
+     */
+    public static final class DuplicatesSubClass {
+        /**
+         * Size of first and last blocks used for cheap checksum
+         */
+        private static final int EDGE_BLOCK_SIZE = 64 * 1024;
+        /**
+         * Reusable buffer for first and last blocks (one per thread)
+         */
+        private static final ThreadLocal<ByteBuffer> EDGE_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(EDGE_BLOCK_SIZE));
+        /**
+         * Algorithm used for full hashing
+         */
+        private static final String FULL_HASH_ALGORITHM = "SHA-256";
+
+        /**
+         * A simple record to hold duplicates finding results
+         */
+        /* default */ record DuplicatesSummaryRecord(long scannedFiles, long scannedBytes, long duplicateGroups, long duplicateFiles, long reclaimableBytes, long bytesRead) {
+            /* default */ static DuplicatesSummaryRecord empty() { return new DuplicatesSummaryRecord(0, 0, 0, 0, 0, 0); }
+        }
+
+        /**
+         * A simple record to hold a group of identical files
+         */
+        private record DuplicateGroupRecord(String checksum, long fileSize, List<Path> files) {
+            private long reclaimableBytes() {
+                return fileSize * (files.size() - 1);
+            }
+        }
+
+        /**
+         * Finds duplicate files across given folders and writes them into a CSV file
+         * (one row for each file, largest reclaimable groups first)
+         * @param strFolderNames folders to scan
+         * @param lngMinimumSize smallest file size (in bytes) worth considering
+         * @param outCsvFile output CSV file
+         * @return DuplicatesSummaryRecord
+         */
+        public static DuplicatesSummaryRecord captureDuplicateFilesIntoCsvFile(final String[] strFolderNames, final long lngMinimumSize, final String outCsvFile) {
+            DuplicatesSummaryRecord summary = DuplicatesSummaryRecord.empty();
+            final Map<Long, List<Path>> filesBySize = new HashMap<>();
+            final long[] scanned = gatherFilesBySize(strFolderNames, lngMinimumSize, filesBySize);
+            // only sizes shared by several files can hold duplicates
+            final List<DuplicateGroupRecord> sameSizeGroups = filesBySize.entrySet().stream()
+                    .filter(sameSizeFiles -> sameSizeFiles.getValue().size() > 1)
+                    .map(sameSizeFiles -> new DuplicateGroupRecord("", sameSizeFiles.getKey(), sameSizeFiles.getValue()))
+                    .toList();
+            filesBySize.clear();
+            final LongAdder bytesRead = new LongAdder();
+            final List<DuplicateGroupRecord> duplicateGroups = new ArrayList<>();
+            try (ExecutorService hashPool = Executors.newFixedThreadPool(StatisticsSubClass.getHashingThreads())) {
+                final List<DuplicateGroupRecord> sameEdgesGroups = refineGroups(sameSizeGroups, hashPool, (file, fileSize) -> computeEdgesChecksum(file, fileSize, bytesRead));
+                // edges of small files cover their whole content, so they already are full checksums
+                final Map<Boolean, List<DuplicateGroupRecord>> sameEdgesGroupsBySmallness = sameEdgesGroups.stream()
+                        .collect(Collectors.partitioningBy(group -> group.fileSize() <= EDGE_BLOCK_SIZE));
+                duplicateGroups.addAll(sameEdgesGroupsBySmallness.get(true));
+                duplicateGroups.addAll(refineGroups(sameEdgesGroupsBySmallness.get(false), hashPool, (file, fileSize) -> computeFullChecksum(file, fileSize, bytesRead)));
+            }
+            duplicateGroups.sort(Comparator.comparingLong(DuplicateGroupRecord::reclaimableBytes).reversed());
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(outCsvFile), StandardCharsets.UTF_8)) {
+                writer.write("Group;" + FULL_HASH_ALGORITHM + ";Size;Copies;Reclaimable Bytes;Folder;File");
+                writer.newLine();
+                long duplicateFiles = 0;
+                long reclaimableBytes = 0;
+                int intGroup = 0;
+                for (final DuplicateGroupRecord group : duplicateGroups) {
+                    intGroup++;
+                    for (final Path file : group.files()) {
+                        writer.write(intGroup + ";" + group.checksum() + ';' + group.fileSize() + ';' + group.files().size()
+                                + ';' + group.reclaimableBytes() + ';' + file.getParent() + ';' + file.getFileName());
+                        writer.newLine();
+                    }
+                    duplicateFiles += group.files().size();
+                    reclaimableBytes += group.reclaimableBytes();
+                }
+                summary = new DuplicatesSummaryRecord(scanned[0], scanned[1], duplicateGroups.size(), duplicateFiles, reclaimableBytes, bytesRead.sum());
+            } catch (IOException ei) {
+                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+            }
+            return summary;
+        }
+
+        /**
+         * Cheap checksum of first and last blocks of a file
+         * (a file not larger than one block is read whole, so it gets its full checksum right away)
+         * @param file file in scope
+         * @param fileSize file size in bytes (already known from walking)
+         * @param bytesRead counter of bytes read
+         * @return String (null if file could not be read)
+         */
+        private static String computeEdgesChecksum(final Path file, final long fileSize, final LongAdder bytesRead) {
+            String strChecksum = null;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final ByteBuffer firstBlock = readBlock(channel, 0);
+                bytesRead.add(firstBlock.remaining());
+                if (fileSize <= EDGE_BLOCK_SIZE) {
+                    final MessageDigest digest = MessageDigest.getInstance(FULL_HASH_ALGORITHM);
+                    digest.update(firstBlock);
+                    strChecksum = HexFormat.of().formatHex(digest.digest());
+                } else {
+                    final CRC32C crc = new CRC32C();
+                    crc.update(firstBlock);
+                    // last block never overlaps first one
+                    final ByteBuffer lastBlock = readBlock(channel, Math.max(EDGE_BLOCK_SIZE, fileSize - EDGE_BLOCK_SIZE));
+                    bytesRead.add(lastBlock.remaining());
+                    crc.update(lastBlock);
+                    strChecksum = Long.toHexString(crc.getValue());
+                }
+            } catch (IOException ei) {
+                final String strFeedback = String.format(I18N_FILE_FND_ERR, file.getFileName(), file.getParent());
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+            } catch (NoSuchAlgorithmException e) {
+                final String strFeedbackErr = String.format("Checksum algorithm %s is not available.... %s", FULL_HASH_ALGORITHM, Arrays.toString(e.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            return strChecksum;
+        }
+
+        /**
+         * Full checksum of a file
+         * @param file file in scope
+         * @param fileSize file size in bytes (already known from walking)
+         * @param bytesRead counter of bytes read
+         * @return String (null if file could not be read)
+         */
+        private static String computeFullChecksum(final Path file, final long fileSize, final LongAdder bytesRead) {
+            final String strChecksum = StatisticsSubClass.computeFileChecksums(file, fileSize, FULL_HASH_ALGORITHM).getProperty(FULL_HASH_ALGORITHM, "");
+            bytesRead.add(fileSize);
+            return strChecksum.isEmpty() ? null : strChecksum;
+        }
+
+        /**
+         * Walks given folders grouping regular files by their size
+         * (hard links and files reached through overlapping folders are considered only once)
+         * @param strFolderNames folders to scan
+         * @param lngMinimumSize smallest file size (in bytes) worth considering
+         * @param filesBySize map to fill
+         * @return array with number of files and number of bytes scanned
+         */
+        private static long[] gatherFilesBySize(final String[] strFolderNames, final long lngMinimumSize, final Map<Long, List<Path>> filesBySize) {
+            final long[] scanned = {0, 0};
+            final Set<Object> knownFiles = new HashSet<>();
+            for (final String strFolderName : strFolderNames) {
+                try {
+                    Files.walkFileTree(Path.of(strFolderName), new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                            final Object fileKey = attrs.fileKey() == null ? file.toAbsolutePath().normalize() : attrs.fileKey();
+                            if (attrs.isRegularFile() && attrs.size() >= lngMinimumSize && knownFiles.add(fileKey)) {
+                                filesBySize.computeIfAbsent(attrs.size(), _ -> new ArrayList<>()).add(file);
+                                scanned[0]++;
+                                scanned[1] += attrs.size();
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                            final String strFeedback = String.format(I18N_FILE_FND_ERR, file.getFileName(), file.getParent());
+                            LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(exc.getStackTrace()));
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+                } catch (IOException ei) {
+                    final String strFeedback = String.format(I18N_FILE_FND_ERR, "*", strFolderName);
+                    LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+                }
+            }
+            return scanned;
+        }
+
+        /**
+         * Reads a block of file
+         * @param channel file channel
+         * @param lngPosition starting position of block
+         * @return ByteBuffer ready to be consumed (reused by next read of same thread)
+         * @throws IOException in case of reading error
+         */
+        private static ByteBuffer readBlock(final FileChannel channel, final long lngPosition) throws IOException {
+            final ByteBuffer buffer = EDGE_BUFFER.get();
+            buffer.clear();
+            int bytesRead = channel.read(buffer, lngPosition);  // Initialize the variable outside the loop
+            while (bytesRead > 0 && buffer.hasRemaining()) {
+                bytesRead = channel.read(buffer, lngPosition + buffer.position());  // Update the variable within the loop, not in the condition
+            }
+            buffer.flip();
+            return buffer;
+        }
+
+        /**
+         * Splits every group of files by a key computed in parallel,
+         * keeping only sub-groups still having several files
+         * @param groups groups of files possibly identical
+         * @param hashPool executor computing keys
+         * @param keyFunction key to split by, from file and its size (null for unreadable files, which are dropped)
+         * @return List of refined groups (each one having its key as checksum)
+         */
+        private static List<DuplicateGroupRecord> refineGroups(final List<DuplicateGroupRecord> groups, final ExecutorService hashPool, final BiFunction<Path, Long, String> keyFunction) {
+            final List<List<Future<String>>> pendingKeys = new ArrayList<>(groups.size());
+            for (final DuplicateGroupRecord group : groups) {
+                final List<Future<String>> pendingGroupKeys = new ArrayList<>(group.files().size());
+                for (final Path file : group.files()) {
+                    pendingGroupKeys.add(hashPool.submit(() -> keyFunction.apply(file, group.fileSize())));
+                }
+                pendingKeys.add(pendingGroupKeys);
+            }
+            final List<DuplicateGroupRecord> refinedGroups = new ArrayList<>();
+            try {
+                for (int intGroup = 0; intGroup < groups.size(); intGroup++) {
+                    final Map<String, List<Path>> filesByKey = new LinkedHashMap<>();
+                    final DuplicateGroupRecord group = groups.get(intGroup);
+                    for (int intFile = 0; intFile < group.files().size(); intFile++) {
+                        final String strKey = getComputedKey(pendingKeys.get(intGroup).get(intFile));
+                        if (strKey != null) {
+                            filesByKey.computeIfAbsent(strKey, _ -> new ArrayList<>()).add(group.files().get(intFile));
+                        }
+                    }
+                    filesByKey.forEach((strKey, sameKeyFiles) -> {
+                        if (sameKeyFiles.size() > 1) {
+                            refinedGroups.add(new DuplicateGroupRecord(strKey, group.fileSize(), sameKeyFiles));
+                        }
+                    });
+                }
+            } catch (InterruptedException ei) {
+                LogExposureClass.LOGGER.warn("Duplicate files finding was interrupted...");
+                hashPool.shutdownNow();
+                /* Clean up whatever needs to be handled before interrupting  */
+                Thread.currentThread().interrupt();
+            }
+            return refinedGroups;
+        }
+
+        /**
+         * Get computed key once available
+         * @param pendingKey key being computed
+         * @return String (null if computation has failed)
+         * @throws InterruptedException when waiting was interrupted
+         */
+        private static String getComputedKey(final Future<String> pendingKey) throws InterruptedException {
+            String strKey = null;
+            try {
+                strKey = pendingKey.get();
+            } catch (ExecutionException ee) {
+                final String strFeedbackErr = String.format("Error when comparing files... %s", Arrays.toString(ee.getCause().getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            return strKey;
+        }
+
+        /**
+         * Constructor
+         */
+        private DuplicatesSubClass() {
+            // intentionally blank
+        }
+    }
+
+    /**
+     * File Mass Change logic
+     * (many literal and/or regular expression replacements applied in a single pass over each file,
+     * files being processed in parallel)
+     */
+    public static final class MassChangeSubClass {
+        /**
+         * holding characters being replaced
+         */
+        private static String existingContent;
+        /**
+         * holding characters to replace it with
+         */
+        private static String replacedContent;
+        /**
+         * variable for folder
+         */
+        private static String strFolder;
+        /**
+         * variable for pattern
+         */
+        private static String strPattern;
+        /**
+         * Replacements to apply (in priority order for matches starting at same position)
+         */
+        private static final List<ReplacementRecord> REPLACEMENTS = new ArrayList<>();
+        /**
+         * Character set used to read and write files
+         */
+        private static Charset fileCharset = StandardCharsets.UTF_8;
+        /**
+         * Number of threads changing files in parallel
+         */
+        private static int changingThreads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * A simple record to hold a replacement
+         * @param search literal text or regular expression
+         * @param replacement replacement (may refer to groups when search is a regular expression)
+         * @param pattern compiled regular expression (null for literal)
+         * @param priority order in which replacement was given, shared by literals and regular expressions
+         */
+        private record ReplacementRecord(String search, String replacement, Pattern pattern, int priority) {}
+
+        /**
+         * A simple record to hold a match to be replaced
+         * @param start start index (inclusive)
+         * @param end end index (exclusive)
+         * @param priority replacement priority (lower wins for same start and length)
+         * @param replacement replacement text
+         */
+        private record ReplacementSpanRecord(int start, int end, int priority, String replacement) {}
+
+        /**
+         * A simple record to hold mass change results
+         * @param scannedFiles number of files matching file pattern
+         * @param changedFiles number of files rewritten
+         * @param replacements number of replacements done
+         * @param skippedFiles number of files not decodable with configured character set
+         */
+        /* default */ record MassChangeSummaryRecord(long scannedFiles, long changedFiles, long replacements, long skippedFiles) {}
+
+        /**
+         * Aho-Corasick automaton finding every literal within a text in a single pass
+         */
+        private static final class LiteralAutomatonClass {
+            /**
+             * Transitions for each state
+             */
+            private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+            /**
+             * Literal indexes ending in each state (including those reached through failure links)
+             */
+            private final List<List<Integer>> outputs = new ArrayList<>();
+            /**
+             * Failure link for each state
+             */
+            private final int[] failures;
+            /**
+             * Literals (indexed as given)
+             */
+            private final List<String> literals;
+
+            /**
+             * Constructor building automaton
+             * @param inLiterals literals to find
+             */
+            private LiteralAutomatonClass(final List<String> inLiterals) {
+                literals = inLiterals;
+                addState();
+                for (int intLiteral = 0; intLiteral < literals.size(); intLiteral++) {
+                    int state = 0;
+                    for (final char chr : literals.get(intLiteral).toCharArray()) {
+                        Integer next = transitions.get(state).get(chr);
+                        if (next == null) {
+                            next = addState();
+                            transitions.get(state).put(chr, next);
+                        }
+                        state = next;
+                    }
+                    outputs.get(state).add(intLiteral);
+                }
+                failures = new int[transitions.size()];
+                // breadth first, so failure state of every parent is known before its children
+                final Deque<Integer> pendingStates = new ArrayDeque<>(transitions.getFirst().values());
+                while (!pendingStates.isEmpty()) {
+                    final int state = pendingStates.removeFirst();
+                    for (final Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                        final int child = transition.getValue();
+                        failures[child] = step(failures[state], transition.getKey());
+                        outputs.get(child).addAll(outputs.get(failures[child]));
+                        pendingStates.addLast(child);
+                    }
+                }
+            }
+
+            /**
+             * Adds an empty state
+             * @return new state index
+             */
+            private int addState() {
+                transitions.add(new HashMap<>());
+                outputs.add(new ArrayList<>());
+                return transitions.size() - 1;
+            }
+
+            /**
+             * Next state for a character following failure links
+             * @param inState current state
+             * @param chr character
+             * @return next state
+             */
+            private int step(final int inState, final char chr) {
+                int state = inState;
+                Integer next = transitions.get(state).get(chr);
+                while (next == null && state != 0) {
+                    state = failures[state];
+                    next = transitions.get(state).get(chr);
+                }
+                return next == null ? 0 : next;
+            }
+
+            /**
+             * Finds every literal occurrence (overlapping ones included)
+             * @param text text to search
+             * @param replacements replacement for each literal
+             * @param spans list receiving found matches
+             */
+            private void findAll(final String text, final List<ReplacementRecord> replacements, final List<ReplacementSpanRecord> spans) {
+                int state = 0;
+                for (int intPosition = 0; intPosition < text.length(); intPosition++) {
+                    state = step(state, text.charAt(intPosition));
+                    for (final int intLiteral : outputs.get(state)) {
+                        final ReplacementRecord replacement = replacements.get(intLiteral);
+                        spans.add(new ReplacementSpanRecord(intPosition + 1 - literals.get(intLiteral).length(), intPosition + 1, replacement.priority(), replacement.replacement()));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Adds a literal replacement
+         * @param inSearch literal text to be replaced
+         * @param inReplacement text to replace it with
+         */
+        public static void addLiteralReplacement(final String inSearch, final String inReplacement) {
+            REPLACEMENTS.add(new ReplacementRecord(inSearch, inReplacement, null, REPLACEMENTS.size()));
+        }
+
+        /**
+         * Adds a regular expression replacement
+         * @param inRegularExpression regular expression to be replaced
+         * @param inReplacement replacement (may refer to groups as $1 or ${name})
+         */
+        public static void addRegexReplacement(final String inRegularExpression, final String inReplacement) {
+            REPLACEMENTS.add(new ReplacementRecord(inRegularExpression, inReplacement, Pattern.compile(inRegularExpression), REPLACEMENTS.size()));
+        }
+
+        /**
+         * Removes all replacements (including the one given through setOldContent/setNewContent)
+         */
+        public static void clearReplacements() {
+            REPLACEMENTS.clear();
+            existingContent = null;
+            replacedContent = null;
+        }
+
+        /**
+         * Change String to all files within a folder based on a pattern
+         * @return MassChangeSummaryRecord
+         */
+        public static MassChangeSummaryRecord massChangeToFilesWithinFolder() {
+            final List<ReplacementRecord> replacements = new ArrayList<>(REPLACEMENTS);
+            if (existingContent != null && !existingContent.isEmpty()) {
+                replacements.add(new ReplacementRecord(existingContent, Objects.requireNonNullElse(replacedContent, ""), null, replacements.size()));
+            }
+            final List<ReplacementRecord> literalReplacements = replacements.stream()
+                    .filter(replacement -> replacement.pattern() == null && !replacement.search().isEmpty())
+                    .toList();
+            final List<String> literals = literalReplacements.stream()
+                    .map(ReplacementRecord::search)
+                    .toList();
+            final LiteralAutomatonClass automaton = new LiteralAutomatonClass(literals);
+            final List<ReplacementRecord> regexReplacements = replacements.stream()
+                    .filter(replacement -> replacement.pattern() != null)
+                    .toList();
+            final String strFeedback = String.format("I will attempt to mass change all matched files based on %s pattern from folder %s with %d literal and %d regular expression replacements...", strPattern, strFolder, literals.size(), regexReplacements.size());
+            LogExposureClass.LOGGER.info(strFeedback);
+            // files are listed before any change, so temporary files are never picked up by walking
+            final List<Path> matchedFiles = new ArrayList<>();
+            try {
+                Files.walkFileTree(Path.of(strFolder), new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        if (attrs.isRegularFile() && file.getFileName().toString().matches(strPattern)) {
+                            matchedFiles.add(file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException ei) {
+                final String strFeedbackErr = String.format("Inout/Output exception on... %s", Arrays.toString(ei.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            final LongAdder changedFiles = new LongAdder();
+            final LongAdder replacementCount = new LongAdder();
+            final LongAdder skippedFiles = new LongAdder();
+            try (ExecutorService changePool = Executors.newFixedThreadPool(changingThreads)) {
+                for (final Path file : matchedFiles) {
+                    changePool.submit(() -> {
+                        final long fileReplacements = secureModify(file, automaton, literalReplacements, regexReplacements);
+                        if (fileReplacements > 0) {
+                            changedFiles.increment();
+                            replacementCount.add(fileReplacements);
+                        } else if (fileReplacements < 0) {
+                            skippedFiles.increment();
+                        }
+                    });
+                }
+            }
+            return new MassChangeSummaryRecord(matchedFiles.size(), changedFiles.sum(), replacementCount.sum(), skippedFiles.sum());
+        }
+
+        /**
+         * secure modification
+         * (file content is decoded as a whole, so line endings are kept as they are,
+         * and file is rewritten through a temporary file only when something matched,
+         * temporary file getting permissions of original one and being removed when replacing fails)
+         * @param file file to write to
+         * @param automaton literal matcher
+         * @param literalReplacements replacement for each literal
+         * @param regexReplacements regular expression replacements
+         * @return number of replacements done (-1 when file could not be decoded)
+         */
+        private static long secureModify(final Path file, final LiteralAutomatonClass automaton, final List<ReplacementRecord> literalReplacements, final List<ReplacementRecord> regexReplacements) {
+            long replacements = 0;
+            try {
+                final String content = fileCharset.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT)
+                        .decode(ByteBuffer.wrap(Files.readAllBytes(file)))
+                        .toString();
+                final List<ReplacementSpanRecord> spans = new ArrayList<>();
+                automaton.findAll(content, literalReplacements, spans);
+                for (final ReplacementRecord regexReplacement : regexReplacements) {
+                    findRegexMatches(content, regexReplacement, spans);
+                }
+                final String newContent = applyReplacements(content, spans);
+                if (newContent != null) {
+                    final Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+                    boolean isMoved = false;
+                    try {
+                        Files.write(tempFile, newContent.getBytes(fileCharset));
+                        copyPosixAttributes(file, tempFile);
+                        // Replace the original file with the modified content
+                        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+                        isMoved = true;
+                    } finally {
+                        if (!isMoved) {
+                            Files.deleteIfExists(tempFile);
+                        }
+                    }
+                    replacements = spans.size();
+                    final String strFeedback = String.format("File %s has been modified...", file);
+                    LogExposureClass.LOGGER.debug(strFeedback);
+                }
+            } catch (CharacterCodingException ec) {
+                final String strFeedback = String.format("File %s is not %s encoded, so it will not be modified...", file, fileCharset);
+                LogExposureClass.LOGGER.warn(strFeedback);
+                replacements = -1;
+            } catch (IOException ei) {
+                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+            }
+            return replacements;
+        }
+
+        /**
+         * Copies POSIX permissions, owner and group of a file onto another one
+         * (nothing to do on file systems without POSIX attributes;
+         * owner and group are kept only where current user is allowed to set them)
+         * @param source file whose attributes are copied
+         * @param target file receiving attributes
+         * @throws IOException when permissions cannot be read or set
+         */
+        private static void copyPosixAttributes(final Path source, final Path target) throws IOException {
+            final PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+            if (sourceView != null) {
+                final PosixFileAttributes sourceAttributes = sourceView.readAttributes();
+                final PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+                try {
+                    targetView.setGroup(sourceAttributes.group());
+                    targetView.setOwner(sourceAttributes.owner());
+                } catch (IOException ei) {
+                    final String strFeedback = String.format("Owner or group of file %s could not be kept: %s", source, ei.getLocalizedMessage());
+                    LogExposureClass.LOGGER.debug(strFeedback);
+                }
+                // permissions are set last, as changing owner might reset some of them
+                targetView.setPermissions(sourceAttributes.permissions());
+            }
+        }
+
+        /**
+         * Finds every match of a regular expression
+         * @param content text to search
+         * @param regexReplacement regular expression replacement
+         * @param spans list receiving found matches
+         */
+        private static void findRegexMatches(final String content, final ReplacementRecord regexReplacement, final List<ReplacementSpanRecord> spans) {
+            final Matcher matcher = regexReplacement.pattern().matcher(content);
+            final StringBuilder expanded = new StringBuilder();
+            int previousEnd = 0;
+            while (matcher.find()) {
+                if (matcher.end() > matcher.start()) {
+                    // appendReplacement adds text since previous match followed by expanded replacement
+                    expanded.setLength(0);
+                    matcher.appendReplacement(expanded, regexReplacement.replacement());
+                    spans.add(new ReplacementSpanRecord(matcher.start(), matcher.end(), regexReplacement.priority(), expanded.substring(matcher.start() - previousEnd)));
+                    previousEnd = matcher.end();
+                }
+            }
+        }
+
+        /**
+         * Applies leftmost (then longest, then first given) non-overlapping matches
+         * @param content original text
+         * @param spans all matches found (only kept ones remain afterwards)
+         * @return new text (null when there is nothing to replace)
+         */
+        private static String applyReplacements(final String content, final List<ReplacementSpanRecord> spans) {
+            String newContent = null;
+            if (!spans.isEmpty()) {
+                spans.sort(Comparator.comparingInt(ReplacementSpanRecord::start)
+                        .thenComparing(Comparator.comparingInt(ReplacementSpanRecord::end).reversed())
+                        .thenComparingInt(ReplacementSpanRecord::priority));
+                final StringBuilder result = new StringBuilder(content.length());
+                int position = 0;
+                final Iterator<ReplacementSpanRecord> iterator = spans.iterator();
+                while (iterator.hasNext()) {
+                    final ReplacementSpanRecord span = iterator.next();
+                    if (span.start() < position) {
+                        iterator.remove();
+                    } else {
+                        result.append(content, position, span.start()).append(span.replacement());
+                        position = span.end();
+                    }
+                }
+                newContent = result.append(content, position, content.length()).toString();
+            }
+            return newContent;
+        }
+
+        /**
+         * Setter for character set used to read and write files
+         * @param inCharset character set
+         */
+        public static void setCharset(final Charset inCharset) {
+            fileCharset = inCharset;
+        }
+
+        /**
+         * Setter for number of threads changing files in parallel
+         * @param inThreads number of threads
+         */
+        public static void setChangingThreads(final int inThreads) {
+            changingThreads = inThreads;
+        }
+
+        /**
+         * Setter for replacedContent
+         * @param inNewContent new content
+         */
+        public static void setNewContent(final String inNewContent) {
+            replacedContent = inNewContent;
+        }
+
+        /**
+         * Setter for existingContent
+         * @param inOldContent old content
+         */
+        public static void setOldContent(final String inOldContent) {
+            existingContent = inOldContent;
+        }
+
+        /**
+         * Setter for strPattern
+         * @param inPattern pattern for file matching
+         */
+        public static void setPattern(final String inPattern) {
+            strPattern = inPattern;
+        }
+
+        /**
+         * Setter for strDestinationFolder
+         * @param inFolder destination folder
+         */
+        public static void setSearchingFolder(final String inFolder) {
+            strFolder = inFolder;
+        }
+
+        /**
+         * Constructor
+         */
+        private MassChangeSubClass() {
+            // intentionally blank
+        }
+    }
+
+    /**
+     * File Moving logic
+     */
+    public static final class MovingSubClass {
+
+        /**
+         * Archives single file to new location
+         * 
+         * @param strFileName file name in scope for archival
+         * @param strDestFolder destination folder
+         */
+        public static void moveFileToNewLocation(final String strFileName, final String strDestFolder) {
+            try {
+                final String strFeedbackBefore = String.format("Will attempt to move \"%s\" file to \"%s\" folder", strFileName, strDestFolder);
+                LogExposureClass.LOGGER.info(strFeedbackBefore);
+                Files.move(Path.of(strFileName), Path.of(strDestFolder), StandardCopyOption.REPLACE_EXISTING);
+                final String strFeedbackAfter = String.format("Success file \"%s\" has been moved to \"%s\" folder", strFileName, strDestFolder);
+                LogExposureClass.LOGGER.info(strFeedbackAfter);
+            } catch (IOException ex) {
+                final String strFeedback = String.format("Error when attempting to move \"%s\" file to \"%s\": %s", strFileName, strDestFolder, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+        }
+
+        /**
+         * Constructor
+         */
+        private MovingSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    /**
+     * File Content Reading
+     */
+    public static final class RetrievingSubClass {
+        /**
+         * Known sub-folder inventory output formats
+         */
+        public static final List<String> LST_SUB_FOLDER_FORMATS = Arrays.asList("CSV", "JSON");
+        /**
+         * Number of threads discovering sub-folders in parallel
+         */
+        private static int discoveryThreads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Sub-folder with counts of its direct content
+         * @param folder folder name
+         * @param depth depth below folder given (1 for direct sub-folders)
+         * @param files number of files directly within folder
+         * @param folders number of sub-folders directly within folder
+         * @param bytes size of files directly within folder
+         */
+        public record SubFolderRecord(String folder, int depth, long files, long folders, long bytes) {}
+
+        /**
+         * Folder handed over by folder walking
+         * @param folder folder walked
+         * @param depth depth below folder given (0 for folder given)
+         * @param directFiles number of files directly within folder
+         * @param directFolders number of sub-folders directly within folder
+         * @param directBytes size of files directly within folder
+         * @param files number of files within walked sub-tree
+         * @param folders number of sub-folders within walked sub-tree
+         * @param bytes size of files within walked sub-tree
+         */
+        /* default */ record WalkedFolderRecord(Path folder, int depth, long directFiles, long directFolders, long directBytes,
+                long files, long folders, long bytes) {}
+
+        /**
+         * What a folder walk does with entries it meets
+         * @param maxDepth depth up to which sub-folders are walked
+         * @param fileVisitor receives each file with its size (null when not needed)
+         * @param folderVisitor receives each folder once its sub-tree is walked (must be safe for concurrent use)
+         */
+        /* default */ record FolderWalkContextRecord(int maxDepth, ObjLongConsumer<Path> fileVisitor, Consumer<WalkedFolderRecord> folderVisitor) {}
+
+        /**
+         * Walk of a single folder, forking one task for each sub-folder within depth limit
+         * (attributes handed over by folder walking are used, so no extra file system call is made per entry,
+         * result holds number of files, number of sub-folders and size of files within walked sub-tree)
+         */
+        /* default */ static final class FolderWalkTask extends RecursiveTask<long[]> {
+            private static final long serialVersionUID = 1L;
+            /**
+             * Folder to walk
+             */
+            private final transient Path folder;
+            /**
+             * Depth below folder given
+             */
+            private final int depth;
+            /**
+             * What folder walk does with entries it meets
+             */
+            private final transient FolderWalkContextRecord context;
+
+            /**
+             * Constructor
+             * @param inFolder folder to walk
+             * @param inDepth depth below folder given
+             * @param inContext what folder walk does with entries it meets
+             */
+            /* default */ FolderWalkTask(final Path inFolder, final int inDepth, final FolderWalkContextRecord inContext) {
+                super();
+                folder = inFolder;
+                depth = inDepth;
+                context = inContext;
+            }
+
+            @Override
+            protected long[] compute() {
+                final List<FolderWalkTask> subTasks = new ArrayList<>();
+                // files, folders, bytes
+                final long[] counts = new long[3];
+                try {
+                    // depth 1 means sub-folders are handed to visitFile together with their attributes
+                    Files.walkFileTree(folder, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                            if (attrs.isDirectory()) {
+                                counts[1]++;
+                                if (depth < context.maxDepth()) {
+                                    subTasks.add(new FolderWalkTask(file, depth + 1, context));
+                                }
+                            } else {
+                                counts[0]++;
+                                counts[2] += attrs.size();
+                                if (context.fileVisitor() != null) {
+                                    context.fileVisitor().accept(file, attrs.size());
+                                }
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                            final String strFeedbackErr = String.format("Error encountered when attempting to walk %s folder... %s", file, exc.getLocalizedMessage());
+                            LogExposureClass.LOGGER.debug(strFeedbackErr);
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+                } catch (IOException ei) {
+                    final String strFeedback = String.format(I18N_FILE_FND_ERR, folder.getFileName(), folder.getParent());
+                    LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+                }
+                final long[] totals = counts.clone();
+                for (final FolderWalkTask subTask : invokeAll(subTasks)) {
+                    final long[] subTotals = subTask.join();
+                    totals[0] += subTotals[0];
+                    totals[1] += subTotals[1];
+                    totals[2] += subTotals[2];
+                }
+                context.folderVisitor().accept(new WalkedFolderRecord(folder, depth, counts[0], counts[1], counts[2], totals[0], totals[1], totals[2]));
+                return totals;
+            }
+        }
+
+        /**
+         * Checking if a file exists and is readable
+         * @param fileSize file size
+         * @param strFileName file name
+         * @return Properties
+         */
+        public static Properties checkFileExistanceAndReadability(final long fileSize, final String strFileName) {
+            final Properties propertiesReturn = new Properties();
+            switch(String.valueOf(fileSize)) {
+                case "-1":
+                    propertiesReturn.put("NOT_READABLE", String.format("Given file %s is NOT a readable file...", strFileName));
+                    break;
+                case "-2":
+                    propertiesReturn.put("NOT_A_FILE", String.format("Given file %s is not really a file...", strFileName));
+                    break;
+                case "-3":
+                    propertiesReturn.put("DOES_NOT_EXIST", String.format("Given file %s does NOT exist...", strFileName));
+                    break;
+                case "-99":
+                    propertiesReturn.put("NULL_FILE_NAME", "Given file %s does NOT exist...");
+                    break;
+                default:
+                    propertiesReturn.put("OK", strFileName);
+                    break;
+            }
+            return propertiesReturn;
+        }
+
+        /**
+         * Checking if a file exists and is readable
+         * @param strFileName file name
+         * @return Properties
+         */
+        public static Properties checkFileExistanceAndReadability(final String strFileName) {
+            final long fileSize = getFileSizeIfFileExistsAndIsReadable(strFileName);
+            return checkFileExistanceAndReadability(fileSize, strFileName);
+        }
+
+        /**
+         * Getting current user
+         * 
+         * @return File
+         */
+        public static File getCurrentUserFolder() {
+            return new File(System.getProperty("user.home"));
+        }
+
+        /**
+         * Gets file size if exits and is readable
+         * @param strFileName file name
+         * @return long
+         */
+        public static long getFileSizeIfFileExistsAndIsReadable(final String strFileName) {
+            final long fileSize;
+            if (strFileName == null) {
+                fileSize = -99;
+            } else {
+                final File fileGiven = new File(strFileName);
+                if (fileGiven.exists()) {
+                    if (fileGiven.isFile()) {
+                        if (fileGiven.canRead()) {
+                            fileSize = fileGiven.length();
+                        } else {
+                            fileSize = -1;
+                        }
+                    } else {
+                        fileSize = -2;
                     }
-                });
-                final String strFeedback = String.format("Writing list to %s file completed successfully!", strFileName);
-                LogExposureClass.LOGGER.debug(strFeedback);
-            } catch (IOException ex) {
-                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedback);
+                } else {
+                    fileSize = -3;
+                }
             }
+            return fileSize;
         }
 
         /**
-         * Write list of Properties to CSV File
-         *
-         * @param strFileName target File
-         * @param propertiesList list of Properties
+         * get internal file size from Disk or inside Jar
+         * @param strFilePath  input Path
+         * @return size of the file
          */
-        public static void writePropertiesListToCsvFile(final String strFileName, final List<Properties> propertiesList) {
-            // Collect all unique keys
-            final Set<String> allKeys = new LinkedHashSet<>();
-            for (final Properties properties : propertiesList) {
-                allKeys.addAll(properties.stringPropertyNames());
+        public static long getInternalFileSize(final String strFilePath) {
+            final String strFilePathDisk = ProjectClass.getCurrentFolder() + "/src/main/resources" + strFilePath;
+            long fileSizeActual = getFileSizeIfFileExistsAndIsReadable(strFilePathDisk);
+            if (ProjectClass.isRunningFromJar()
+                    || fileSizeActual < 0) {
+                try (InputStream inStream = Objects.requireNonNull(DatabaseOperationsClass.class.getResourceAsStream(strFilePath), "Resource not found: " + strFilePath)) {
+                    // transferTo returns the number of bytes transferred (Java 9+)
+                    fileSizeActual = inStream.transferTo(OutputStream.nullOutputStream());
+                } catch (IOException ei) {
+                    LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+                }
             }
-            final String strClmnSeparator = String.valueOf(chCsvColSeparator);
-            try (BufferedWriter bwr = Files.newBufferedWriter(Path.of(strFileName), StandardCharsets.UTF_8)) {
-                // Write the header
-                bwr.write(String.join(strClmnSeparator, allKeys));
-                bwr.newLine();
-                final Set<String> row = new LinkedHashSet<>();
-                // Write each row
-                for (final Properties properties : propertiesList) {
-                    row.clear();
-                    for (final String key : allKeys) {
-                        row.add(properties.getProperty(key, "")); // Supply default value "" if key is absent
+            return fileSizeActual;
+        }
+
+        /**
+         * Get list of files from a given folder that may have sub-folders
+         * @param inFolderName folder name to look into
+         * @param strExtension extension to isolate
+         * @return List of Strings
+         */
+        public static List<Path> getSpecificFilesFromFolderRecursive(final Path inFolderName, final String strExtension) {
+            List<Path> arrayFiles = List.of();
+            try (Stream<Path> stream = Files.walk(inFolderName)) {
+                arrayFiles = stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(strExtension))
+                    .toList();
+            } catch (IOException ei) {
+                final String strFeedbackErr = String.format(I18N_FILE_FND_ERR, strExtension, inFolderName);
+                LogExposureClass.exposeInputOutputException(strFeedbackErr, Arrays.toString(ei.getStackTrace()));
+            }
+            return arrayFiles;
+        }
+
+        /**
+         * Get list of sub-folders from a given folder
+         * 
+         * @param strFolderName folder name to look into
+         * @return List of String
+         */
+        public static List<String> getSubFoldersFromFolder(final String strFolderName) {
+            final String strFeedbackAtmpt = String.format("Will attempt to get all sub-folders from within \"%s\" folder...", strFolderName);
+            LogExposureClass.LOGGER.debug(strFeedbackAtmpt);
+            final List<String> arraySubFolders = new ArrayList<>();
+            final Path directory = Paths.get(strFolderName);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (final Path entry : stream) {
+                    if (Files.isDirectory(entry)) {
+                        arraySubFolders.add(entry.toString());
                     }
-                    bwr.write(String.join(strClmnSeparator, row));
-                    bwr.newLine();
                 }
             } catch (IOException ex) {
-                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedback);
+                final String strFeedbackErr = String.format("Error encountered when attempting to get sub-folders from %s folder... %s", strFolderName, Arrays.toString(ex.getStackTrace()));
+                LogExposureClass.LOGGER.debug(strFeedbackErr);
             }
+            return arraySubFolders;
         }
 
         /**
-         * Store small content into file
-         * @param strFileName destination file name
-         * @param strRawText content
+         * Streams sub-folders of given folders up to a given depth
+         * (folders given are walked in parallel, so sub-folders reach sink in no particular order
+         * and sink has to be safe for concurrent use)
+         * @param strFolderNames folder names
+         * @param intMaxDepth depth up to which sub-folders are discovered (1 for direct sub-folders only)
+         * @param sink receiver of discovered sub-folders
          */
-        public static void writeRawTextToFile(final String strFileName, final String strRawText) {
-            DeletingSubClass.deleteFileIfExists(strFileName);
-            try (BufferedWriter bwr = Files.newBufferedWriter(Path.of(strFileName), StandardCharsets.UTF_8)) {
-                bwr.write(strRawText);
-                final String strFeedback = String.format("Writing list to %s file completed successfully!", strFileName);
-                LogExposureClass.LOGGER.debug(strFeedback);
-            } catch (IOException ex) {
-                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedback);
+        public static void streamSubFoldersFromFolders(final String[] strFolderNames, final int intMaxDepth, final Consumer<SubFolderRecord> sink) {
+            final FolderWalkContextRecord context = new FolderWalkContextRecord(intMaxDepth, null, walked -> {
+                if (walked.depth() > 0) {
+                    sink.accept(new SubFolderRecord(walked.folder().toString(), walked.depth(), walked.directFiles(), walked.directFolders(), walked.directBytes()));
+                }
+            });
+            final List<FolderWalkTask> rootTasks = new ArrayList<>();
+            for (final String strFolderName : strFolderNames) {
+                final Path directory = Paths.get(strFolderName);
+                if (Files.isDirectory(directory)) {
+                    rootTasks.add(new FolderWalkTask(directory, 0, context));
+                } else {
+                    final String strFeedbackErr = String.format("Error encountered when attempting to get sub-folders from %s folder... not a folder", strFolderName);
+                    LogExposureClass.LOGGER.error(strFeedbackErr);
+                }
+            }
+            try (ForkJoinPool discoveryPool = new ForkJoinPool(discoveryThreads)) {
+                discoveryPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(rootTasks)));
+            }
+        }
+
+        /**
+         * Captures sub-folders of given folders up to a given depth into CSV or JSON file
+         * (each sub-folder is written as soon as it is discovered)
+         * @param strFolderNames folder names
+         * @param intMaxDepth depth up to which sub-folders are discovered (1 for direct sub-folders only)
+         * @param strOutFileName file to write results into
+         * @param strFormat CSV or JSON
+         * @return number of sub-folders written
+         */
+        public static long captureSubFoldersFromFoldersIntoFile(final String[] strFolderNames, final int intMaxDepth, final String strOutFileName, final String strFormat) {
+            final boolean isJson = "JSON".equals(strFormat);
+            final LongAdder writtenFolders = new LongAdder();
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(strOutFileName), StandardCharsets.UTF_8)) {
+                writer.write(isJson ? "[" : "Folder;Depth;Files;Folders;Size [bytes]");
+                writer.newLine();
+                streamSubFoldersFromFolders(strFolderNames, intMaxDepth, subFolder -> {
+                    synchronized (writer) {
+                        try {
+                            if (isJson) {
+                                writer.write((writtenFolders.sum() == 0 ? "" : ",")
+                                        + "{\"Folder\":\"" + subFolder.folder().replace("\\", "\\\\").replace("\"", "\\\"")
+                                        + "\",\"Depth\":" + subFolder.depth() + ",\"Files\":" + subFolder.files()
+                                        + ",\"Folders\":" + subFolder.folders() + ",\"SizeBytes\":" + subFolder.bytes() + '}');
+                            } else {
+                                writer.write(subFolder.folder() + ';' + subFolder.depth() + ';' + subFolder.files() + ';' + subFolder.folders() + ';' + subFolder.bytes());
+                            }
+                            writer.newLine();
+                            writtenFolders.increment();
+                        } catch (IOException ei) {
+                            final String strFeedback = String.format("Error writing sub-folder %s", subFolder.folder());
+                            LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+                        }
+                    }
+                });
+                if (isJson) {
+                    writer.write("]");
+                    writer.newLine();
+                }
+            } catch (IOException ei) {
+                final String strFeedback = "Error writing sub-folders";
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+            }
+            return writtenFolders.sum();
+        }
+
+        /**
+         * Setter for number of threads discovering sub-folders in parallel
+         * @param inThreads number of threads (at least 1)
+         */
+        public static void setDiscoveryThreads(final int inThreads) {
+            discoveryThreads = Math.max(1, inThreads);
+        }
+
+        /**
+         * Constructor
+         */
+        private RetrievingSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    /**
+     * File Content Reading
+     */
+    public static final class RetrievingCompactOrRegularFileSubClass {
+        /**
+         * String constant Minified
+         */
+        private static final String STR_MINIFIED = "Minified";
+        /**
+         * String constant PrettyPrint
+         */
+        private static final String STR_PRTY_PRNT = "PrettyPrint";
+
+        /**
+         * Establish pre-extensions for Regular and Compact file name
+         * @param strFilePattern file pattern to use
+         * @return Properties
+         */
+        private static Properties establishRegularOrCompactFileName(final String strFilePattern) {
+            final Properties propsFile = new Properties();
+            propsFile.put(STR_MINIFIED, String.format(strFilePattern, ".min"));
+            propsFile.put(STR_PRTY_PRNT, String.format(strFilePattern, ""));
+            return propsFile;
+        }
+
+        /**
+         * read Main configuration file
+         * @param strFilePattern file pattern to use
+         * @return String
+         */
+        public static String getJsonConfigurationFile(final String strFilePattern) {
+            final Properties propsFile = establishRegularOrCompactFileName(strFilePattern);
+            String strFileJson = null;
+            final Properties propsMinified = RetrievingSubClass.checkFileExistanceAndReadability(propsFile.getProperty(STR_MINIFIED));
+            for(final Entry<Object, Object> eMinified : propsMinified.entrySet()) {
+                final boolean isItOk = "OK".equals(eMinified.getKey());
+                if (isItOk) {
+                    strFileJson = eMinified.getValue().toString();
+                } else {
+                    final Properties propsPreety = RetrievingSubClass.checkFileExistanceAndReadability(propsFile.getProperty(STR_PRTY_PRNT));
+                    for(final Entry<Object, Object> ePreety : propsPreety.entrySet()) {
+                        final boolean isItOk2 = "OK".equals(ePreety.getKey());
+                        strFileJson = getJsonFileName(isItOk2, ePreety, propsFile);
+                    }
+                }
             }
+            return strFileJson;
         }
 
         /**
-         * storing into a CSV file a LinkedHashMap
-         * @param strFileName target file name to be written to
-         * @param strHeader header values
-         * @param listStrings List of String
+         * Getting JSON file name
+         * @param isItOk2 file check result
+         * @param ePreety file name
+         * @param propsFile file Properties
+         * @return String
          */
-        public static void writeStringListToCsvFile(final String strFileName, final String strHeader, final List<String> listStrings) {
-            try {
-                final List<String> strLines;
-                final File strFile = new File(strFileName);
-                if (strFile.exists()) {
-                    strLines = listStrings.stream()
-                            .map(value -> strCsvLinePrefix + value)
-                            .toList();
-                } else {
-                    strLines = Stream.concat(
-                            Stream.of(strHeader), // header
-                            listStrings.stream()
-                                    .map(value -> strCsvLinePrefix + value)
-                    ).toList();
-                }
-                Files.write(Path.of(strFileName), strLines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-            } catch (IOException ex) {
-                final String strFeedback = LogExposureClass.getFileErrorMessage(strFileName, Arrays.toString(ex.getStackTrace()));
+        private static String getJsonFileName(final boolean isItOk2, final Entry<Object, Object> ePreety, final Properties propsFile) {
+            final String strFileJson;
+            if (isItOk2) {
+                strFileJson = ePreety.getValue().toString();
+            } else {
+                final String strFeedback = String.format("Configuration file was NOT found (not as %s, nor %s)..."
+                    , propsFile.getProperty(STR_MINIFIED, "")
+                    , propsFile.getProperty(STR_PRTY_PRNT, ""));
                 LogExposureClass.LOGGER.error(strFeedback);
+                throw new IllegalArgumentException(strFeedback);
             }
+            return strFileJson;
         }
 
         /**
          * Constructor
          */
-        private ContentWritingSubClass() {
+        private RetrievingCompactOrRegularFileSubClass() {
             // intentionally blank
         }
 
     }
 
     /**
-     * File Deletion logic
+     * Statistics
      */
-    public static final class DeletingSubClass {
+    public static final class StatisticsSubClass {
+        /**
+         * Checksum algorithms
+         */
+        private static String[] listAlgorithms = {"SHA-256", "SHA-512", "SHA3-256", "SHA3-512"};
+        /**
+         * Size of buffer used to read files for checksum computation
+         */
+        private static final int CHECKSUM_BUFFER_SIZE = 1024 * 1024;
+        /**
+         * Reusable reading buffer (one per thread)
+         */
+        private static final ThreadLocal<byte[]> CHECKSUM_BUFFER = ThreadLocal.withInitial(() -> new byte[CHECKSUM_BUFFER_SIZE]);
+        /**
+         * Reusable direct reading buffer (one per thread, allocated outside heap)
+         */
+        private static final ThreadLocal<ByteBuffer> CHECKSUM_DIRECT_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(CHECKSUM_BUFFER_SIZE));
+        /**
+         * Size of a memory-mapped region (files larger than that are mapped region after region)
+         */
+        private static final long MAPPED_REGION_SIZE = 256L * 1024 * 1024;
+        /**
+         * Known checksum reading modes:
+         * STREAM = input stream into heap buffer,
+         * CHANNEL = file channel into direct buffer or memory-mapped regions (above threshold)
+         */
+        public static final List<String> LST_READ_MODES = Arrays.asList("STREAM", "CHANNEL");
+        /**
+         * Checksum reading mode
+         */
+        private static String checksumReadMode = "STREAM";
+        /**
+         * File size (in bytes) from which CHANNEL reading mode uses memory-mapped regions
+         */
+        private static long mappedReadThreshold = 16L * 1024 * 1024;
+        /**
+         * File size (in bytes) from which digests are updated in parallel
+         */
+        private static long parallelDigestThreshold = 64L * 1024 * 1024;
+        /**
+         * Known storage types (determining default width of hashing pool)
+         */
+        public static final List<String> LST_STORAGE_TYPES = Arrays.asList("SSD", "HDD");
+        /**
+         * Number of threads computing checksums in parallel (width of hashing pool)
+         */
+        private static int hashingThreads = getDefaultHashingThreads("SSD");
+        /**
+         * Number of files which can wait to be written for each hashing thread
+         * (keeps memory bounded when writing is slower than hashing)
+         */
+        private static final int QUEUED_FILES_PER_THREAD = 4;
+        /**
+         * Marker placed into hashing queue once folder walking is completed
+         */
+        private static final Future<Properties> END_OF_WALK = CompletableFuture.completedFuture(new Properties());
+        /**
+         * Key for file size
+         */
+        private static final String STR_SIZE = "Size [bytes]";
+        /**
+         * SQLite database file holding checksum cache (no cache when null)
+         */
+        private static String checksumCacheDatabase;
 
         /**
-         * Removes a files if already exists
-         *
-         * @param strFileName file name to search
+         * Number of threads walking sub-folders in parallel for folder statistics
          */
-        public static void deleteFileIfExists(final String strFileName) {
-            try {
-                final Path filePath = Path.of(strFileName);
-                Files.deleteIfExists(filePath);
-            } catch (IOException e) {
-                final String strFeedback = String.format("Error encountered when attempting to write to %s file... %s", strFileName, Arrays.toString(e.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedback);
+        private static int walkingThreads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Statistics of a folder (totals of its whole sub-tree, folder itself not counted)
+         * @param folder folder name
+         * @param depth depth below folder given (0 for folder given)
+         * @param files number of files
+         * @param folders number of sub-folders
+         * @param bytes size of files
+         */
+        public record FolderLevelStatsRecord(String folder, int depth, long files, long folders, long bytes) {}
+
+        /**
+         * Largest files and folders
+         * @param files largest files with their size, largest first
+         * @param folders largest sub-folders with size of their whole sub-tree, largest first
+         */
+        public record LargestEntriesRecord(SequencedMap<String, Long> files, SequencedMap<String, Long> folders) {}
+
+        /**
+         * Offers a size to largest entries (path is turned into String only when size can be kept)
+         * @param largest largest entries
+         * @param path file or folder
+         * @param size size in bytes
+         */
+        private static void offerSize(final BasicStructuresClass.TopValuesSubClass largest, final Path path, final long size) {
+            if (largest.isCandidate(size)) {
+                largest.offer(path.toString(), size);
             }
         }
 
         /**
-         * Deletes all files matching given pattern from folder
-         * @param strFolder input folder
-         * @param strPattern input pattern
+         * A simple record to hold hashing throughput
          */
-        public static void deleteFilesMatchingPatternFromFolder(final String strFolder, final String strPattern) {
-            try {
-                final String strFeedback = String.format("I will attempt to removed all matched files based on %s pattern from folder %s...", strPattern, strFolder);
-                LogExposureClass.LOGGER.info(strFeedback);
-                final Path dir = Path.of(strFolder);
-                Files.walkFileTree(dir, new SimpleFileVisitor<>() {
-                    @Override
-                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                        if (file.getFileName().toString().matches(strPattern)) {
-                            Files.delete(file);
-                            final String strFeedbackD = String.format("File %s has been deleted", file);
-                            LogExposureClass.LOGGER.info(strFeedbackD);
-                        }
-                        return FileVisitResult.CONTINUE;
-                    }
-                });
-            } catch (IOException ei) {
-                final String strFeedbackErr = String.format("Inout/Output exception on... %s", Arrays.toString(ei.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedbackErr);
+        /* default */ record HashingThroughputRecord(long fileCount, long byteCount, long cacheHits, long cacheMisses, Duration duration) {
+            /* default */ static HashingThroughputRecord empty() { return new HashingThroughputRecord(0, 0, 0, 0, Duration.ZERO); }
+            /* default */ double filesPerSecond() {
+                return fileCount / getSeconds();
+            }
+            /* default */ double megabytesPerSecond() {
+                return byteCount / (1024.0 * 1024.0) / getSeconds();
+            }
+            private double getSeconds() {
+                return Math.max(duration.toNanos(), 1L) / 1_000_000_000.0;
             }
         }
 
         /**
-         * File deleting logic
+         * Single file as recorded into a checksum manifest
+         * @param folder folder as recorded
+         * @param file file name
+         * @param fileSize file size in bytes
+         * @param lastModified last modified time as recorded
+         * @param checksums recorded checksums
          */
-        public static final class OlderClass {
+        private record ManifestEntryRecord(String folder, String file, long fileSize, String lastModified, Properties checksums) {}
+
+        /**
+         * Outcome of verifying folders against a checksum manifest
+         * @param manifestFiles number of files recorded into manifest(s)
+         * @param unchanged number of files identical to manifest
+         * @param touched number of files having only last modified time changed
+         * @param changed number of files having size or content changed
+         * @param added number of files not recorded into manifest(s)
+         * @param missing number of manifest files no longer found
+         * @param rehashed number of files having their content read
+         */
+        /* default */ record VerificationSummaryRecord(long manifestFiles, long unchanged, long touched, long changed, long added, long missing, long rehashed) {}
+
+        /**
+         * Outcome of comparing a target folder against a source folder
+         * @param unchanged number of files identical on both sides
+         * @param touched number of files having only last modified time different
+         * @param changed number of files having size or content different
+         * @param added number of files found only within target folder
+         * @param removed number of files found only within source folder
+         * @param hashed number of file pairs having their content read
+         */
+        /* default */ record FolderComparisonSummaryRecord(long unchanged, long touched, long changed, long added, long removed, long hashed) {}
+
+        /**
+         * Entry of a folder listing
+         * @param name file or sub-folder name
+         * @param attrs attributes read while listing
+         */
+        private record FolderEntryRecord(String name, BasicFileAttributes attrs) {}
+
+        /**
+         * Persistent checksum cache stored into a SQLite table keyed by absolute path and algorithm;
+         * a cached checksum is used only while file size and last modified time are unchanged
+         */
+        public static final class ChecksumCacheClass implements AutoCloseable {
             /**
-             * Cleaned Folder Statistics
+             * Number of cache entries written within a single transaction
              */
-            private static boolean bolClnFldrStats;
+            private static final int CACHE_BATCH_SIZE = 500;
             /**
-             * Counter for removed files
+             * Cache table definition
              */
-            private static long lngFilesClnd;
+            private static final String QRY_CREATE = "CREATE TABLE IF NOT EXISTS checksum_cache (file_path TEXT NOT NULL, algorithm TEXT NOT NULL, file_size INTEGER NOT NULL, last_modified INTEGER NOT NULL, checksum TEXT NOT NULL, PRIMARY KEY (file_path, algorithm))";
             /**
-             * Size in bytes for removed files
+             * Cache entries removal for a given file
+             */
+            private static final String QRY_DELETE = "DELETE FROM checksum_cache WHERE file_path = ?";
+            /**
+             * Cache entries lookup for a given file
+             */
+            private static final String QRY_LOOKUP = "SELECT algorithm, checksum FROM checksum_cache WHERE file_path = ? AND file_size = ? AND last_modified = ?";
+            /**
+             * Every cached file
+             */
+            private static final String QRY_SCAN = "SELECT DISTINCT file_path, file_size, last_modified FROM checksum_cache";
+            /**
+             * Cache entry storing
+             */
+            private static final String QRY_STORE = "INSERT OR REPLACE INTO checksum_cache (file_path, algorithm, file_size, last_modified, checksum) VALUES (?, ?, ?, ?, ?)";
+            /**
+             * Connection to cache database (null when cache is disabled)
+             */
+            private Connection connection;
+            /**
+             * Prepared lookup
+             */
+            private PreparedStatement lookupStatement;
+            /**
+             * Prepared storing
+             */
+            private PreparedStatement storeStatement;
+            /**
+             * Entries stored but not yet committed
+             */
+            private int pendingEntries;
+            /**
+             * Files having all checksums cached
+             */
+            private final LongAdder cacheHits = new LongAdder();
+            /**
+             * Files needing at least one checksum computed
              */
-            private static long lngByteSizeClnd;
+            private final LongAdder cacheMisses = new LongAdder();
 
             /**
-             * Getter for Cleaned Folder Statistics
-             * @return Map with folder statistics
+             * Opens checksum cache
+             * @param strCacheDatabase SQLite database file (null means cache is disabled)
+             * @return ChecksumCacheClass
              */
-            public static Map<String, Long> getCleanedFolderStatistics() {
-                final Map<String, Long> statsClndFldr = new ConcurrentHashMap<>();
-                statsClndFldr.put("Files", lngFilesClnd);
-                statsClndFldr.put("Size", lngByteSizeClnd);
-                return statsClndFldr;
+            public static ChecksumCacheClass open(final String strCacheDatabase) {
+                final ChecksumCacheClass cache = new ChecksumCacheClass();
+                if (strCacheDatabase != null) {
+                    cache.prepare(DatabaseOperationsClass.SpecificSqLiteSubClass.getSqLiteConnection(strCacheDatabase));
+                }
+                return cache;
             }
 
             /**
-             * Get list of sub-folders from a given folder
-             *
-             * @param strFolderName folder name to look into
-             * @param intOlderLimit older days limit
+             * Creates cache table (if not there already) and prepares statements
+             * @param inConnection connection to cache database
              */
-            public static void deleteFilesOlderThanGivenDays(final String strFolderName, final long intOlderLimit) {
-                final long cutoff = TimingClass.getDaysAgoWithMillisecondsPrecision(Instant.now(), intOlderLimit);
-                final String strFeedback = String.format("Will attempt to remove all files older than \"%s\" from within \"%s\" folder...",
-                        Instant.ofEpochMilli(cutoff).toString().replaceAll("[TZ]", " ").trim(), strFolderName);
-                LogExposureClass.LOGGER.debug(strFeedback);
-                final Path directory = Path.of(strFolderName);
-                try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
-                    for (final Path entry : stream) {
-                        if (Files.isDirectory(entry)) {
-                            deleteFilesOlderThanGivenDays(entry.toString(), intOlderLimit);
-                        } else if (Files.isRegularFile(entry)) {
-                            deleteFilesOlderThanGivenDaysWithoutChecks(entry, cutoff);
+            private void prepare(final Connection inConnection) {
+                if (inConnection != null) {
+                    try (Statement statement = inConnection.createStatement()) {
+                        // WAL lets concurrent runs (i.e. web page loads) read while another one writes
+                        statement.execute("PRAGMA journal_mode=WAL");
+                        statement.execute("PRAGMA busy_timeout=10000");
+                        statement.execute(QRY_CREATE);
+                        inConnection.setAutoCommit(false);
+                        lookupStatement = inConnection.prepareStatement(QRY_LOOKUP);
+                        storeStatement = inConnection.prepareStatement(QRY_STORE);
+                        connection = inConnection;
+                    } catch (SQLException e) {
+                        final String strFeedbackErr = String.format("Checksum cache could not be prepared, will compute every checksum... %s", e.getLocalizedMessage());
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
+                        closeQuietly(inConnection);
+                    }
+                }
+            }
+
+            /**
+             * Closes a connection when cache cannot be used
+             * @param inConnection connection to close
+             */
+            private static void closeQuietly(final Connection inConnection) {
+                try {
+                    inConnection.close();
+                } catch (SQLException e) {
+                    LogExposureClass.LOGGER.debug(e.getLocalizedMessage());
+                }
+            }
+
+            /**
+             * Key of a file within cache
+             * @param file file in scope
+             * @return String
+             */
+            private static String getFileKey(final Path file) {
+                return file.toAbsolutePath().normalize().toString();
+            }
+
+            /**
+             * Last modified time as stored within cache
+             * @param attrs file attributes
+             * @return long
+             */
+            private static long getLastModified(final BasicFileAttributes attrs) {
+                return attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+            }
+
+            /**
+             * Get cached checksums still valid for a given file
+             * @param file file in scope
+             * @param attrs current file attributes
+             * @param algorithms checksum algorithm names
+             * @return Properties with cached checksums (only for requested algorithms)
+             */
+            public synchronized Properties lookup(final Path file, final BasicFileAttributes attrs, final String... algorithms) {
+                final Properties cachedChecksums = new Properties();
+                if (connection != null) {
+                    try {
+                        lookupStatement.setString(1, getFileKey(file));
+                        lookupStatement.setLong(2, attrs.size());
+                        lookupStatement.setLong(3, getLastModified(attrs));
+                        try (ResultSet resultSet = lookupStatement.executeQuery()) {
+                            final List<String> requested = Arrays.asList(algorithms);
+                            while (resultSet.next()) {
+                                final String algorithm = resultSet.getString(1);
+                                if (requested.contains(algorithm)) {
+                                    cachedChecksums.put(algorithm, resultSet.getString(2));
+                                }
+                            }
                         }
+                    } catch (SQLException e) {
+                        final String strFeedbackErr = String.format("Checksum cache lookup for %s has failed... %s", file, e.getLocalizedMessage());
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
+                    }
+                    if (cachedChecksums.size() == algorithms.length) {
+                        cacheHits.increment();
+                    } else {
+                        cacheMisses.increment();
                     }
-                } catch (IOException ex) {
-                    final String strFeedbackErr = String.format("Error encountered when attempting to get sub-folders from %s folder... %s", strFolderName, Arrays.toString(ex.getStackTrace()));
-                    LogExposureClass.LOGGER.error(strFeedbackErr);
                 }
+                return cachedChecksums;
             }
 
             /**
-             * Remove files older than given days without checks
-             * @param entry Path to file
-             * @param cutoff cutoff time in milliseconds
-             * @throws IOException check exception
+             * Stores computed checksums of a given file
+             * @param file file in scope
+             * @param attrs file attributes at the time checksums were computed
+             * @param checksums checksums keyed by algorithm name
              */
-            private static void deleteFilesOlderThanGivenDaysWithoutChecks(final Path entry, final long cutoff) throws IOException {
-                final BasicFileAttributes attr = Files.readAttributes(entry, BasicFileAttributes.class);
-                final long modifTime = attr.lastModifiedTime().toMillis();
-                if (modifTime <= cutoff) {
-                    Files.delete(entry);
-                    if (bolClnFldrStats) {
-                        lngFilesClnd = lngFilesClnd + 1;
-                        lngByteSizeClnd = lngByteSizeClnd + attr.size();
+            public synchronized void store(final Path file, final BasicFileAttributes attrs, final Properties checksums) {
+                if (connection != null) {
+                    try {
+                        for (final String algorithm : checksums.stringPropertyNames()) {
+                            storeStatement.setString(1, getFileKey(file));
+                            storeStatement.setString(2, algorithm);
+                            storeStatement.setLong(3, attrs.size());
+                            storeStatement.setLong(4, getLastModified(attrs));
+                            storeStatement.setString(5, checksums.getProperty(algorithm));
+                            storeStatement.addBatch();
+                            pendingEntries++;
+                        }
+                        if (pendingEntries >= CACHE_BATCH_SIZE) {
+                            flush();
+                        }
+                    } catch (SQLException e) {
+                        final String strFeedbackErr = String.format("Checksum cache storing for %s has failed... %s", file, e.getLocalizedMessage());
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
                     }
                 }
             }
 
             /**
-             * Setter for Cleaned Folder Statistics
-             * @param inStats boolean
+             * Writes pending entries into cache
+             * @throws SQLException in case of writing error
              */
-            public static void setCleanedFolderStatistics(final boolean inStats) {
-                if (bolClnFldrStats != inStats) {
-                    setOrResetCleanedFolderStatistics();
+            private void flush() throws SQLException {
+                if (pendingEntries > 0) {
+                    storeStatement.executeBatch();
+                    connection.commit();
+                    pendingEntries = 0;
                 }
-                bolClnFldrStats = inStats;
             }
 
             /**
-             * Setter/Resetter for Cleaned Folder Statistics
+             * Removes cache entries of files which no longer exist or have changed since being cached
+             * @return number of files removed from cache
              */
-            public static void setOrResetCleanedFolderStatistics() {
-                lngFilesClnd = 0;
-                lngByteSizeClnd = 0;
+            public synchronized long purgeStaleEntries() {
+                long removedFiles = 0;
+                if (connection != null) {
+                    final List<String> staleFiles = new ArrayList<>();
+                    try {
+                        flush();
+                        try (Statement statement = connection.createStatement();
+                                ResultSet resultSet = statement.executeQuery(QRY_SCAN)) {
+                            while (resultSet.next()) {
+                                final String strFile = resultSet.getString(1);
+                                if (isCachedFileStale(Path.of(strFile), resultSet.getLong(2), resultSet.getLong(3))) {
+                                    staleFiles.add(strFile);
+                                }
+                            }
+                        }
+                        try (PreparedStatement deleteStatement = connection.prepareStatement(QRY_DELETE)) {
+                            for (final String strFile : staleFiles) {
+                                deleteStatement.setString(1, strFile);
+                                deleteStatement.addBatch();
+                            }
+                            deleteStatement.executeBatch();
+                        }
+                        connection.commit();
+                        removedFiles = staleFiles.size();
+                    } catch (SQLException e) {
+                        final String strFeedbackErr = String.format("Checksum cache purging has failed... %s", e.getLocalizedMessage());
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
+                    }
+                }
+                return removedFiles;
+            }
+
+            /**
+             * Checks whether a cached file still matches its cache entries
+             * @param file cached file
+             * @param cachedSize size at the time of caching
+             * @param cachedModified last modified time at the time of caching
+             * @return boolean
+             */
+            private static boolean isCachedFileStale(final Path file, final long cachedSize, final long cachedModified) {
+                boolean isStale = true;
+                try {
+                    final BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                    isStale = !attrs.isRegularFile() || attrs.size() != cachedSize || getLastModified(attrs) != cachedModified;
+                } catch (IOException e) {
+                    final String strFeedback = String.format("Cached file %s is gone... %s", file, e.getLocalizedMessage());
+                    LogExposureClass.LOGGER.debug(strFeedback);
+                }
+                return isStale;
+            }
+
+            /**
+             * Getter for number of files having all checksums cached
+             * @return long
+             */
+            public long getCacheHits() {
+                return cacheHits.sum();
+            }
+
+            /**
+             * Getter for number of files needing at least one checksum computed
+             * @return long
+             */
+            public long getCacheMisses() {
+                return cacheMisses.sum();
+            }
+
+            @Override
+            public synchronized void close() {
+                if (connection != null) {
+                    try {
+                        flush();
+                        lookupStatement.close();
+                        storeStatement.close();
+                        connection.close();
+                    } catch (SQLException e) {
+                        final String strFeedbackErr = String.format("Checksum cache closing has failed... %s", e.getLocalizedMessage());
+                        LogExposureClass.LOGGER.error(strFeedbackErr);
+                    }
+                    connection = null;
+                }
             }
 
             /**
              * Constructor
              */
-            private OlderClass() {
+            private ChecksumCacheClass() {
                 // intentionally blank
             }
-
         }
 
         /**
-         * Constructor
+         * Get statistics for all files within a given folder
+         * (rows are written in folder walking order as soon as their checksums are computed)
+         * @param strFolderName input folder name
+         * @param outCsvFile output CSV file
+         * @return HashingThroughputRecord
          */
-        private DeletingSubClass() {
-            // intentionally blank
+        public static HashingThroughputRecord captureFileStatisticsFromFolder(final String strFolderName, final String outCsvFile) {
+            HashingThroughputRecord throughput = HashingThroughputRecord.empty();
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(outCsvFile), StandardCharsets.UTF_8)) {
+                // algorithms are taken once, so header and rows always agree
+                final String[] algorithms = listAlgorithms;
+                writeFileStatisticsHeaderIntoFile(writer, algorithms);
+                throughput = streamFileStatisticsFromFolder(strFolderName, algorithms, fileProperties -> writeFileStatisticIntoFile(fileProperties, writer, algorithms));
+            } catch (IOException ei) {
+                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+            }
+            return throughput;
         }
 
-    }
-
-    /**
-     * File Mass Change logic
-     */
-    public static final class MassChangeSubClass {
-        /**
-         * holding characters being replaced
-         */
-        private static String existingContent;
         /**
-         * holding characters to replace it with
+         * Compute checksum for a given file
+         * @param file input file
+         * @param algorithm checksum algorithm name
+         * @return String
          */
-        private static String replacedContent;
+        public static String computeSingleChecksum(final Path file, final String algorithm) {
+            return computeFileChecksums(file, algorithm).getProperty(algorithm, "");
+        }
+
         /**
-         * variable for folder
+         * Compute several checksums for a given file reading its content only once
+         * (every configured digest is fed from the same buffer,
+         * large files get their digests updated in parallel)
+         * @param file input file
+         * @param algorithms checksum algorithm names
+         * @return Properties checksum values
          */
-        private static String strFolder;
+        public static Properties computeFileChecksums(final Path file, final String... algorithms) {
+            final Properties checksums = new Properties();
+            try {
+                checksums.putAll(computeFileChecksums(file, Files.size(file), algorithms));
+            } catch (IOException e) {
+                final String strFeedbackErr = String.format("Error when attempting to get size of file \"%s\": %s", file, Arrays.toString(e.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            return checksums;
+        }
+
         /**
-         * variable for pattern
+         * Compute several checksums for a given file of known size reading its content only once
+         * @param file input file
+         * @param fileSize file size in bytes (already known by caller)
+         * @param algorithms checksum algorithm names
+         * @return Properties checksum values
          */
-        private static String strPattern;
+        private static Properties computeFileChecksums(final Path file, final long fileSize, final String... algorithms) {
+            final Properties checksums = new Properties();
+            final Map<String, MessageDigest> digests = getMessageDigests(algorithms);
+            if (!digests.isEmpty()) {
+                try {
+                    feedDigests(file, fileSize, checksumReadMode, digests.values().toArray(new MessageDigest[0]));
+                    digests.forEach((algorithm, digest) -> checksums.put(algorithm, HexFormat.of().formatHex(digest.digest())));
+                } catch (IOException e) {
+                    final String strFeedbackErr = String.format("Error when attempting to get content of file \"%s\": %s", file, Arrays.toString(e.getStackTrace()));
+                    LogExposureClass.LOGGER.error(strFeedbackErr);
+                }
+            }
+            return checksums;
+        }
 
         /**
-         * Build new file from existing one
-         * @param existingFile existing file as Path
-         * @return Path
+         * Instantiates digests for given checksum algorithms (unavailable ones are logged and skipped)
+         * @param algorithms checksum algorithm names
+         * @return Map of digests by algorithm name (in given order)
          */
-        private static Path getNewFile(final Path existingFile) {
-            final String newPath = existingFile.getParent().toString();
-            final String newFileName = existingFile.getFileName().toString().replace(".json", "-new.json");
-            return Path.of(newPath).resolve(newFileName);
+        private static Map<String, MessageDigest> getMessageDigests(final String... algorithms) {
+            final Map<String, MessageDigest> digests = new LinkedHashMap<>();
+            for (final String algorithm : algorithms) {
+                try {
+                    digests.put(algorithm, MessageDigest.getInstance(algorithm));
+                } catch (NoSuchAlgorithmException e) {
+                    final String strFeedbackErr = String.format("Checksum algorithm %s is not available.... %s", algorithm, Arrays.toString(e.getStackTrace()));
+                    LogExposureClass.LOGGER.error(strFeedbackErr);
+                }
+            }
+            return digests;
         }
 
         /**
-         * Change String to all files within a folder based on a pattern
+         * Benchmarks every checksum reading mode against a given file
+         * (first round also brings file into operating system cache, so best round is kept)
+         * @param file input file
+         * @param intRounds number of rounds for each reading mode
+         * @param algorithms checksum algorithm names
+         * @return Map with best throughput (in MB/s) for each reading mode
          */
-        public static void massChangeToFilesWithinFolder() {
+        public static Map<String, Double> benchmarkChecksumReadModes(final Path file, final int intRounds, final String... algorithms) {
+            final Map<String, Double> bestThroughput = new LinkedHashMap<>();
             try {
-                final String strFeedback = String.format("I will attempt to mass change all matched files based on %s pattern from folder %s...", strPattern, strFolder);
-                LogExposureClass.LOGGER.info(strFeedback);
-                final Path dir = Path.of(strFolder);
-                Files.walkFileTree(dir, new SimpleFileVisitor<>() {
-                    @Override
-                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
-                        if (file.getFileName().toString().matches(strPattern)) {
-                            secureModify(file);
+                final long fileSize = Files.size(file);
+                for (final String readMode : LST_READ_MODES) {
+                    double bestMegabytesPerSecond = 0;
+                    for (int intRound = 0; intRound < intRounds; intRound++) {
+                        final MessageDigest[] digests = new MessageDigest[algorithms.length];
+                        for (int intDigest = 0; intDigest < algorithms.length; intDigest++) {
+                            digests[intDigest] = MessageDigest.getInstance(algorithms[intDigest]);
                         }
-                        return FileVisitResult.CONTINUE;
+                        final long startTime = System.nanoTime();
+                        feedDigests(file, fileSize, readMode, digests);
+                        final double seconds = Math.max(System.nanoTime() - startTime, 1L) / 1_000_000_000.0;
+                        bestMegabytesPerSecond = Math.max(bestMegabytesPerSecond, fileSize / (1024.0 * 1024.0) / seconds);
                     }
-                });
+                    bestThroughput.put(readMode, bestMegabytesPerSecond);
+                }
             } catch (IOException ei) {
-                final String strFeedbackErr = String.format("Inout/Output exception on... %s", Arrays.toString(ei.getStackTrace()));
+                final String strFeedbackErr = String.format("Error when benchmarking checksums of file \"%s\": %s", file, Arrays.toString(ei.getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            } catch (NoSuchAlgorithmException e) {
+                final String strFeedbackErr = String.format("Checksum algorithm is not available.... %s", Arrays.toString(e.getStackTrace()));
                 LogExposureClass.LOGGER.error(strFeedbackErr);
             }
+            return bestThroughput;
         }
 
         /**
-         * secure modification
-         * @param file file to write to
+         * Feeds all digests from a single read of the file using given reading mode
+         * @param file input file
+         * @param fileSize file size in bytes
+         * @param readMode reading mode (STREAM or CHANNEL)
+         * @param digests digests to update
+         * @throws IOException in case of reading error
          */
-        private static void secureModify(final Path file) {
-            final Path newFile = getNewFile(file);
-            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
-                BufferedWriter writer = Files.newBufferedWriter(newFile, StandardCharsets.UTF_8)) {
-                String line = reader.readLine();  // Initialize the variable outside the loop
-                while (Objects.nonNull(line)) {
-                    writer.write(line.replace(existingContent, replacedContent));
-                    writer.newLine(); // Reintroduce the line separator
-                    line = reader.readLine();  // Update the variable within the loop, not in the condition
-                }
-                // Replace the original file with the modified content
-                Files.move(newFile, file, StandardCopyOption.REPLACE_EXISTING);
-                final String strFeedback = String.format("File %s has been modified...", file);
-                LogExposureClass.LOGGER.debug(strFeedback);
-            } catch (IOException ei) {
-                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+        private static void feedDigests(final Path file, final long fileSize, final String readMode, final MessageDigest... digests) throws IOException {
+            if ("CHANNEL".equals(readMode)) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    if (fileSize >= mappedReadThreshold) {
+                        feedDigestsFromMappedRegions(channel, fileSize, digests);
+                    } else {
+                        feedDigestsFromDirectBuffer(channel, digests);
+                    }
+                }
+            } else if (digests.length > 1 && fileSize >= parallelDigestThreshold) {
+                feedDigestsInParallel(file, digests);
+            } else {
+                feedDigestsSequentially(file, digests);
             }
         }
 
         /**
-         * Setter for replacedContent
-         * @param inNewContent new content
+         * Feeds all digests from a file channel through a reusable direct buffer (current thread only)
+         * @param channel input file channel
+         * @param digests digests to update
+         * @throws IOException in case of reading error
          */
-        public static void setNewContent(final String inNewContent) {
-            replacedContent = inNewContent;
+        private static void feedDigestsFromDirectBuffer(final FileChannel channel, final MessageDigest... digests) throws IOException {
+            final ByteBuffer buffer = CHECKSUM_DIRECT_BUFFER.get();
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                for (final MessageDigest digest : digests) {
+                    // every digest consumes the buffer, so each one starts from its beginning
+                    buffer.rewind();
+                    digest.update(buffer);
+                }
+                buffer.clear();
+            }
         }
 
         /**
-         * Setter for existingContent
-         * @param inOldContent old content
+         * Feeds all digests from memory-mapped regions of a file channel,
+         * each digest being updated by its own thread when file is large enough
+         * @param channel input file channel
+         * @param fileSize file size in bytes
+         * @param digests digests to update
+         * @throws IOException in case of reading error
          */
-        public static void setOldContent(final String inOldContent) {
-            existingContent = inOldContent;
+        private static void feedDigestsFromMappedRegions(final FileChannel channel, final long fileSize, final MessageDigest... digests) throws IOException {
+            final boolean isParallel = digests.length > 1 && fileSize >= parallelDigestThreshold;
+            // a null executor is simply skipped by try-with-resources
+            try (ExecutorService executor = isParallel ? Executors.newFixedThreadPool(digests.length) : null) {
+                long position = 0;
+                while (position < fileSize) {
+                    final long regionSize = Math.min(MAPPED_REGION_SIZE, fileSize - position);
+                    // region is unmapped as soon as its arena is closed (instead of whenever garbage collector decides)
+                    try (Arena arena = Arena.ofShared()) {
+                        final MemorySegment region = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize, arena);
+                        if (executor == null) {
+                            for (final MessageDigest digest : digests) {
+                                digest.update(region.asByteBuffer());
+                            }
+                        } else {
+                            final List<Future<?>> pendingUpdates = new ArrayList<>(digests.length);
+                            for (final MessageDigest digest : digests) {
+                                pendingUpdates.add(executor.submit(() -> digest.update(region.asByteBuffer())));
+                            }
+                            waitForDigestUpdates(pendingUpdates);
+                        }
+                    }
+                    position += regionSize;
+                }
+            }
         }
 
         /**
-         * Setter for strPattern
-         * @param inPattern pattern for file matching
+         * Feeds all digests from a single read of the file (current thread only)
+         * @param file input file
+         * @param digests digests to update
+         * @throws IOException in case of reading error
          */
-        public static void setPattern(final String inPattern) {
-            strPattern = inPattern;
+        private static void feedDigestsSequentially(final Path file, final MessageDigest... digests) throws IOException {
+            final byte[] buffer = CHECKSUM_BUFFER.get();
+            try (InputStream istrmFile = Files.newInputStream(file)) {
+                int bytesRead = istrmFile.read(buffer);  // Initialize the variable outside the loop
+                while (bytesRead != -1) {
+                    for (final MessageDigest digest : digests) {
+                        digest.update(buffer, 0, bytesRead);
+                    }
+                    bytesRead = istrmFile.read(buffer);  // Update the variable within the loop, not in the condition
+                }
+            }
         }
 
         /**
-         * Setter for strDestinationFolder
-         * @param inFolder destination folder
+         * Feeds all digests from a single read of the file,
+         * each digest being updated by its own thread while next chunk is read
+         * @param file input file
+         * @param digests digests to update
+         * @throws IOException in case of reading error
          */
-        public static void setSearchingFolder(final String inFolder) {
-            strFolder = inFolder;
+        private static void feedDigestsInParallel(final Path file, final MessageDigest... digests) throws IOException {
+            final byte[][] buffers = {new byte[CHECKSUM_BUFFER_SIZE], new byte[CHECKSUM_BUFFER_SIZE]};
+            try (InputStream istrmFile = Files.newInputStream(file);
+                    ExecutorService executor = Executors.newFixedThreadPool(digests.length)) {
+                List<Future<?>> pendingUpdates = List.of();
+                int crtBuffer = 0;
+                int bytesRead = istrmFile.readNBytes(buffers[crtBuffer], 0, CHECKSUM_BUFFER_SIZE);
+                while (bytesRead > 0) {
+                    // previous chunk has to be digested before next one is submitted (and its buffer re-used)
+                    waitForDigestUpdates(pendingUpdates);
+                    pendingUpdates = submitDigestUpdates(executor, buffers[crtBuffer], bytesRead, digests);
+                    crtBuffer = 1 - crtBuffer;
+                    bytesRead = istrmFile.readNBytes(buffers[crtBuffer], 0, CHECKSUM_BUFFER_SIZE);
+                }
+                waitForDigestUpdates(pendingUpdates);
+            }
         }
 
         /**
-         * Constructor
+         * Submit a chunk to every digest
+         * @param executor executor to use
+         * @param buffer chunk content
+         * @param bytesRead number of meaningful bytes within chunk
+         * @param digests digests to update
+         * @return List of Futures
          */
-        private MassChangeSubClass() {
-            // intentionally blank
+        private static List<Future<?>> submitDigestUpdates(final ExecutorService executor, final byte[] buffer, final int bytesRead, final MessageDigest... digests) {
+            final List<Future<?>> pendingUpdates = new ArrayList<>(digests.length);
+            for (final MessageDigest digest : digests) {
+                pendingUpdates.add(executor.submit(() -> digest.update(buffer, 0, bytesRead)));
+            }
+            return pendingUpdates;
         }
-    }
-
-    /**
-     * File Moving logic
-     */
-    public static final class MovingSubClass {
 
         /**
-         * Archives single file to new location
-         * 
-         * @param strFileName file name in scope for archival
-         * @param strDestFolder destination folder
+         * Wait for digest updates to complete
+         * @param pendingUpdates List of Futures
+         * @throws IOException in case digest update failed or was interrupted
          */
-        public static void moveFileToNewLocation(final String strFileName, final String strDestFolder) {
+        private static void waitForDigestUpdates(final List<Future<?>> pendingUpdates) throws IOException {
             try {
-                final String strFeedbackBefore = String.format("Will attempt to move \"%s\" file to \"%s\" folder", strFileName, strDestFolder);
-                LogExposureClass.LOGGER.info(strFeedbackBefore);
-                Files.move(Path.of(strFileName), Path.of(strDestFolder), StandardCopyOption.REPLACE_EXISTING);
-                final String strFeedbackAfter = String.format("Success file \"%s\" has been moved to \"%s\" folder", strFileName, strDestFolder);
-                LogExposureClass.LOGGER.info(strFeedbackAfter);
-            } catch (IOException ex) {
-                final String strFeedback = String.format("Error when attempting to move \"%s\" file to \"%s\": %s", strFileName, strDestFolder, Arrays.toString(ex.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedback);
+                for (final Future<?> pendingUpdate : pendingUpdates) {
+                    pendingUpdate.get();
+                }
+            } catch (InterruptedException ei) {
+                /* Clean up whatever needs to be handled before interrupting  */
+                Thread.currentThread().interrupt();
+                throw (InterruptedIOException) new InterruptedIOException("Checksum computation was interrupted").initCause(ei);
+            } catch (ExecutionException ee) {
+                throw new IOException("Checksum computation has failed", ee.getCause());
             }
         }
 
         /**
-         * Constructor
+         * Default number of hashing threads for a given storage type
+         * (spinning disks lose more on seeking than they gain on parallel reading)
+         * @param strStorageType storage type (SSD or HDD)
+         * @return int
          */
-        private MovingSubClass() {
-            // intentionally blank
+        public static int getDefaultHashingThreads(final String strStorageType) {
+            int intThreads = Runtime.getRuntime().availableProcessors();
+            if ("HDD".equalsIgnoreCase(strStorageType)) {
+                intThreads = Math.min(2, intThreads);
+            }
+            return intThreads;
         }
 
-    }
-
-    /**
-     * File Content Reading
-     */
-    public static final class RetrievingSubClass {
-
         /**
-         * Checking if a file exists and is readable
-         * @param fileSize file size
-         * @param strFileName file name
-         * @return Properties
+         * Get hashed file statistic once its computation is completed
+         * @param pendingFile file statistic being computed
+         * @return Properties (empty if computation has failed)
+         * @throws InterruptedException when waiting was interrupted
          */
-        public static Properties checkFileExistanceAndReadability(final long fileSize, final String strFileName) {
-            final Properties propertiesReturn = new Properties();
-            switch(String.valueOf(fileSize)) {
-                case "-1":
-                    propertiesReturn.put("NOT_READABLE", String.format("Given file %s is NOT a readable file...", strFileName));
-                    break;
-                case "-2":
-                    propertiesReturn.put("NOT_A_FILE", String.format("Given file %s is not really a file...", strFileName));
-                    break;
-                case "-3":
-                    propertiesReturn.put("DOES_NOT_EXIST", String.format("Given file %s does NOT exist...", strFileName));
-                    break;
-                case "-99":
-                    propertiesReturn.put("NULL_FILE_NAME", "Given file %s does NOT exist...");
-                    break;
-                default:
-                    propertiesReturn.put("OK", strFileName);
-                    break;
+        private static Properties getHashedFileStatistic(final Future<Properties> pendingFile) throws InterruptedException {
+            Properties fileProperties = new Properties();
+            try {
+                fileProperties = pendingFile.get();
+            } catch (ExecutionException ee) {
+                final String strFeedbackErr = String.format("Error when computing file statistics... %s", Arrays.toString(ee.getCause().getStackTrace()));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
             }
-            return propertiesReturn;
+            return fileProperties;
         }
 
         /**
-         * Checking if a file exists and is readable
-         * @param strFileName file name
-         * @return Properties
+         * Streams statistics for all files within a given folder through a pipeline:
+         * walking (own thread) -> hashing (pool of configured width) -> sink (calling thread, walking order)
+         * @param strFolderName input folder name
+         * @param fileSink consumer receiving statistics for each file
+         * @return HashingThroughputRecord
          */
-        public static Properties checkFileExistanceAndReadability(final String strFileName) {
-            final long fileSize = getFileSizeIfFileExistsAndIsReadable(strFileName);
-            return checkFileExistanceAndReadability(fileSize, strFileName);
+        public static HashingThroughputRecord streamFileStatisticsFromFolder(final String strFolderName, final Consumer<Properties> fileSink) {
+            return streamFileStatisticsFromFolder(strFolderName, listAlgorithms, fileSink);
         }
 
         /**
-         * Getting current user
-         * 
-         * @return File
+         * Streams statistics for all files within a given folder through a pipeline
+         * computing given checksums (configured ones are left untouched)
+         * @param strFolderName input folder name
+         * @param algorithms checksum algorithm names
+         * @param fileSink consumer receiving statistics for each file
+         * @return HashingThroughputRecord
          */
-        public static File getCurrentUserFolder() {
-            return new File(System.getProperty("user.home"));
+        public static HashingThroughputRecord streamFileStatisticsFromFolder(final String strFolderName, final String[] algorithms, final Consumer<Properties> fileSink) {
+            return streamFileStatisticsFromFolder(strFolderName, algorithms, (_, _) -> new Properties(), checksumCacheDatabase, fileSink);
         }
 
         /**
-         * Gets file size if exits and is readable
-         * @param strFileName file name
-         * @return long
+         * Streams statistics for all files within a given folder through a pipeline
+         * skipping computation of checksums already known by caller
+         * @param strFolderName input folder name
+         * @param algorithms checksum algorithm names
+         * @param knownChecksums provider of checksums already known for a file (only missing ones are computed)
+         * @param strCacheDatabase checksum cache database (null means cache is bypassed)
+         * @param fileSink consumer receiving statistics for each file
+         * @return HashingThroughputRecord
          */
-        public static long getFileSizeIfFileExistsAndIsReadable(final String strFileName) {
-            final long fileSize;
-            if (strFileName == null) {
-                fileSize = -99;
-            } else {
-                final File fileGiven = new File(strFileName);
-                if (fileGiven.exists()) {
-                    if (fileGiven.isFile()) {
-                        if (fileGiven.canRead()) {
-                            fileSize = fileGiven.length();
-                        } else {
-                            fileSize = -1;
+        private static HashingThroughputRecord streamFileStatisticsFromFolder(final String strFolderName, final String[] algorithms,
+                final BiFunction<Path, BasicFileAttributes, Properties> knownChecksums, final String strCacheDatabase, final Consumer<Properties> fileSink) {
+            final long startTime = System.nanoTime();
+            final BlockingQueue<Future<Properties>> pendingFiles = new ArrayBlockingQueue<>(hashingThreads * QUEUED_FILES_PER_THREAD);
+            long fileCount = 0;
+            long byteCount = 0;
+            HashingThroughputRecord throughput = HashingThroughputRecord.empty();
+            // resources are closed in reverse order, so cache is closed only once hashing is over
+            try (ChecksumCacheClass cache = ChecksumCacheClass.open(strCacheDatabase);
+                    ExecutorService walker = Executors.newSingleThreadExecutor();
+                    ExecutorService hashPool = Executors.newFixedThreadPool(hashingThreads)) {
+                final Future<?> walking = walker.submit(() -> walkFolderIntoHashingQueue(Path.of(strFolderName), algorithms, hashPool, pendingFiles,
+                        (file, attrs) -> {
+                            final Properties checksums = knownChecksums.apply(file, attrs);
+                            return checksums.size() == algorithms.length ? checksums : cache.lookup(file, attrs, algorithms);
+                        }, cache));
+                try {
+                    Future<Properties> pendingFile = pendingFiles.take();
+                    while (pendingFile != END_OF_WALK) {
+                        final Properties fileProperties = getHashedFileStatistic(pendingFile);
+                        if (!fileProperties.isEmpty()) {
+                            fileSink.accept(fileProperties);
+                            fileCount++;
+                            byteCount += (Long) fileProperties.get(STR_SIZE);
                         }
-                    } else {
-                        fileSize = -2;
+                        pendingFile = pendingFiles.take();
                     }
-                } else {
-                    fileSize = -3;
+                } catch (InterruptedException ei) {
+                    final String strFeedback = String.format("Statistics for files within %s folder were interrupted...", strFolderName);
+                    LogExposureClass.LOGGER.warn(strFeedback);
+                    hashPool.shutdownNow();
+                    /* Clean up whatever needs to be handled before interrupting  */
+                    Thread.currentThread().interrupt();
+                } finally {
+                    // walker might be blocked on a full queue if sink has stopped early
+                    walking.cancel(true);
                 }
+                throughput = new HashingThroughputRecord(fileCount, byteCount, cache.getCacheHits(), cache.getCacheMisses(), Duration.ofNanos(System.nanoTime() - startTime));
             }
-            return fileSize;
+            return throughput;
         }
 
         /**
-         * get internal file size from Disk or inside Jar
-         * @param strFilePath  input Path
-         * @return size of the file
+         * Walks a folder submitting every regular file to hashing pool
+         * (queue is bounded, so walking waits whenever results are not consumed fast enough)
+         * @param folder input folder
+         * @param algorithms checksum algorithm names
+         * @param hashPool executor computing file statistics
+         * @param pendingFiles queue of file statistics being computed (in walking order)
+         * @param knownChecksums provider of checksums already known for a file
+         * @param cache checksum cache
          */
-        public static long getInternalFileSize(final String strFilePath) {
-            final String strFilePathDisk = ProjectClass.getCurrentFolder() + "/src/main/resources" + strFilePath;
-            long fileSizeActual = getFileSizeIfFileExistsAndIsReadable(strFilePathDisk);
-            if (ProjectClass.isRunningFromJar()
-                    || fileSizeActual < 0) {
-                try (InputStream inStream = Objects.requireNonNull(DatabaseOperationsClass.class.getResourceAsStream(strFilePath), "Resource not found: " + strFilePath)) {
-                    // transferTo returns the number of bytes transferred (Java 9+)
-                    fileSizeActual = inStream.transferTo(OutputStream.nullOutputStream());
-                } catch (IOException ei) {
-                    LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+        private static void walkFolderIntoHashingQueue(final Path folder, final String[] algorithms, final ExecutorService hashPool, final BlockingQueue<Future<Properties>> pendingFiles,
+                final BiFunction<Path, BasicFileAttributes, Properties> knownChecksums, final ChecksumCacheClass cache) {
+            try {
+                Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        FileVisitResult result = FileVisitResult.CONTINUE;
+                        if (attrs.isRegularFile()) {
+                            final Properties cachedChecksums = knownChecksums.apply(file, attrs);
+                            try {
+                                if (cachedChecksums.size() == algorithms.length) {
+                                    // nothing to compute, so no need to bother hashing pool
+                                    pendingFiles.put(CompletableFuture.completedFuture(getSingleFileStatistic(file, attrs, algorithms, cachedChecksums, cache)));
+                                } else {
+                                    pendingFiles.put(hashPool.submit(() -> getSingleFileStatistic(file, attrs, algorithms, cachedChecksums, cache)));
+                                }
+                            } catch (InterruptedException ei) {
+                                /* Clean up whatever needs to be handled before interrupting  */
+                                Thread.currentThread().interrupt();
+                                result = FileVisitResult.TERMINATE;
+                            }
+                        }
+                        return result;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                        final String strFeedback = String.format(I18N_FILE_FND_ERR, file.getFileName(), file.getParent());
+                        LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(exc.getStackTrace()));
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException ei) {
+                final String strFeedback = String.format(I18N_FILE_FND_ERR, "*", folder);
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+            } finally {
+                try {
+                    pendingFiles.put(END_OF_WALK);
+                } catch (InterruptedException ei) {
+                    // walking was cancelled, so nobody is waiting for the marker anymore
+                    Thread.currentThread().interrupt();
                 }
             }
-            return fileSizeActual;
         }
 
         /**
-         * Get list of files from a given folder that may have sub-folders
-         * @param inFolderName folder name to look into
-         * @param strExtension extension to isolate
-         * @return List of Strings
+         * Writes header of file statistics CSV file (checksum manifest)
+         * @param writer CSV file writer
+         * @param algorithms checksum algorithm names
+         * @throws IOException when writing fails
          */
-        public static List<Path> getSpecificFilesFromFolderRecursive(final Path inFolderName, final String strExtension) {
-            List<Path> arrayFiles = List.of();
-            try (Stream<Path> stream = Files.walk(inFolderName)) {
-                arrayFiles = stream
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(strExtension))
-                    .toList();
-            } catch (IOException ei) {
-                final String strFeedbackErr = String.format(I18N_FILE_FND_ERR, strExtension, inFolderName);
-                LogExposureClass.exposeInputOutputException(strFeedbackErr, Arrays.toString(ei.getStackTrace()));
+        private static void writeFileStatisticsHeaderIntoFile(final BufferedWriter writer, final String... algorithms) throws IOException {
+            writer.write("Folder;File;Size;Last Modified Time");
+            for(final String crtAlgo: algorithms) {
+                writer.write(';' + crtAlgo);
             }
-            return arrayFiles;
+            writer.newLine();
         }
 
         /**
-         * Get list of sub-folders from a given folder
-         * 
-         * @param strFolderName folder name to look into
-         * @return List of String
+         * Writes statistics of a single file into CSV file
+         * @param fileProperties file statistics
+         * @param writer CSV file writer
+         * @param algorithms checksum algorithm names
          */
-        public static List<String> getSubFoldersFromFolder(final String strFolderName) {
-            final String strFeedbackAtmpt = String.format("Will attempt to get all sub-folders from within \"%s\" folder...", strFolderName);
-            LogExposureClass.LOGGER.debug(strFeedbackAtmpt);
-            final List<String> arraySubFolders = new ArrayList<>();
-            final Path directory = Paths.get(strFolderName);
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
-                for (final Path entry : stream) {
-                    if (Files.isDirectory(entry)) {
-                        arraySubFolders.add(entry.toString());
-                    }
+        private static void writeFileStatisticIntoFile(final Properties fileProperties, final BufferedWriter writer, final String... algorithms) {
+            try {
+                writer.write(fileProperties.get("Folder").toString()
+                        + ';' + fileProperties.get("File").toString()
+                        + ';' + fileProperties.get(STR_SIZE).toString()
+                        + ';' + fileProperties.get("Last Modified Time").toString());
+                for (final String algo : algorithms) {
+                    writer.write(';' + fileProperties.getProperty(algo, ""));
                 }
-            } catch (IOException ex) {
-                final String strFeedbackErr = String.format("Error encountered when attempting to get sub-folders from %s folder... %s", strFolderName, Arrays.toString(ex.getStackTrace()));
-                LogExposureClass.LOGGER.debug(strFeedbackErr);
+                writer.newLine();
+            } catch (IOException ei) {
+                final String strFeedback = "Error writing files statistics";
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+            }
+        }
+
+        /**
+         * get Folder statistics recursively
+         * @param strFolderName folder name
+         * @param pathProps path properties
+         * @return Properties
+         */
+        public static Properties getFolderStatisticsRecursive(final String strFolderName, final Properties pathProps) {
+            final List<FolderLevelStatsRecord> levels = getFolderStatisticsByLevel(strFolderName, 0);
+            if (!levels.isEmpty()) {
+                final FolderLevelStatsRecord stats = levels.getFirst();
+                pathProps.put("TOTAL_OBJECTS", stats.folders() + stats.files());
+                pathProps.put("DIRECTORIES", stats.folders());
+                pathProps.put("FILES", stats.files());
+                pathProps.put("SIZE_BYTES", stats.bytes());
             }
-            return arraySubFolders;
+            return pathProps;
         }
 
         /**
-         * Constructor
+         * get Folder statistics for given folder and each of its sub-folders up to a given depth
+         * (single walk with sub-folders measured in parallel, each folder holding totals of its whole sub-tree)
+         * @param strFolderName folder name
+         * @param intMaxDepth depth up to which sub-folders are reported (0 for given folder only)
+         * @return List of FolderLevelStatsRecord sorted by folder name (given folder first)
          */
-        private RetrievingSubClass() {
-            // intentionally blank
+        public static List<FolderLevelStatsRecord> getFolderStatisticsByLevel(final String strFolderName, final int intMaxDepth) {
+            final Path directory = Paths.get(strFolderName.replace("\"", ""));
+            final List<FolderLevelStatsRecord> levels = new ArrayList<>();
+            if (Files.isDirectory(directory)) {
+                final Queue<FolderLevelStatsRecord> collectedLevels = new ConcurrentLinkedQueue<>();
+                try (ForkJoinPool walkingPool = new ForkJoinPool(walkingThreads)) {
+                    walkingPool.invoke(new RetrievingSubClass.FolderWalkTask(directory, 0, new RetrievingSubClass.FolderWalkContextRecord(Integer.MAX_VALUE, null, walked -> {
+                        if (walked.depth() <= intMaxDepth) {
+                            collectedLevels.add(new FolderLevelStatsRecord(walked.folder().toString(), walked.depth(), walked.files(), walked.folders(), walked.bytes()));
+                        }
+                    })));
+                }
+                levels.addAll(collectedLevels);
+                levels.sort(Comparator.comparing(FolderLevelStatsRecord::folder));
+            } else {
+                final String strFeedback = String.format(I18N_FILE_FND_ERR, directory.getFileName(), directory.getParent());
+                LogExposureClass.LOGGER.error(strFeedback);
+            }
+            return levels;
         }
 
-    }
-
-    /**
-     * File Content Reading
-     */
-    public static final class RetrievingCompactOrRegularFileSubClass {
         /**
-         * String constant Minified
+         * get largest files and sub-folders from given folders
+         * (single walk, folder sizes summed bottom-up while bounded heaps keep only top entries,
+         * so memory does not grow with number of files)
+         * @param strFolderNames folder names
+         * @param intTopEntries number of files and of sub-folders to keep
+         * @return LargestEntriesRecord
          */
-        private static final String STR_MINIFIED = "Minified";
+        public static LargestEntriesRecord getLargestEntries(final String[] strFolderNames, final int intTopEntries) {
+            final BasicStructuresClass.TopValuesSubClass largestFiles = new BasicStructuresClass.TopValuesSubClass(intTopEntries);
+            final BasicStructuresClass.TopValuesSubClass largestFolders = new BasicStructuresClass.TopValuesSubClass(intTopEntries);
+            final RetrievingSubClass.FolderWalkContextRecord context = new RetrievingSubClass.FolderWalkContextRecord(Integer.MAX_VALUE,
+                    (file, size) -> offerSize(largestFiles, file, size), walked -> {
+                        if (walked.depth() > 0) {
+                            offerSize(largestFolders, walked.folder(), walked.bytes());
+                        }
+                    });
+            try (ForkJoinPool walkingPool = new ForkJoinPool(walkingThreads)) {
+                for (final String strFolderName : strFolderNames) {
+                    final Path directory = Paths.get(strFolderName.replace("\"", ""));
+                    if (Files.isDirectory(directory)) {
+                        walkingPool.invoke(new RetrievingSubClass.FolderWalkTask(directory, 0, context));
+                    } else {
+                        final String strFeedback = String.format(I18N_FILE_FND_ERR, directory.getFileName(), directory.getParent());
+                        LogExposureClass.LOGGER.error(strFeedback);
+                    }
+                }
+            }
+            return new LargestEntriesRecord(largestFiles.getSortedValues(), largestFolders.getSortedValues());
+        }
+
         /**
-         * String constant PrettyPrint
+         * Capture largest files and sub-folders from given folders into CSV file
+         * @param strFolderNames folder names
+         * @param intTopEntries number of files and of sub-folders to report
+         * @param strOutCsvFile CSV file to write results into
          */
-        private static final String STR_PRTY_PRNT = "PrettyPrint";
+        public static void captureLargestEntriesIntoCsvFile(final String[] strFolderNames, final int intTopEntries, final String strOutCsvFile) {
+            final LargestEntriesRecord largest = getLargestEntries(strFolderNames, intTopEntries);
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(strOutCsvFile), StandardCharsets.UTF_8)) {
+                writer.write("Type;Rank;Path;" + STR_SIZE);
+                writer.newLine();
+                writeLargestEntries(writer, "File", largest.files());
+                writeLargestEntries(writer, "Folder", largest.folders());
+            } catch (IOException ei) {
+                final String strFeedback = "Error writing largest files and folders";
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+            }
+        }
 
         /**
-         * Establish pre-extensions for Regular and Compact file name
-         * @param strFilePattern file pattern to use
-         * @return Properties
+         * Writes largest entries of a given type
+         * @param writer CSV writer
+         * @param strType entry type
+         * @param entries entries with their size, largest first
+         * @throws IOException in case of writing error
          */
-        private static Properties establishRegularOrCompactFileName(final String strFilePattern) {
-            final Properties propsFile = new Properties();
-            propsFile.put(STR_MINIFIED, String.format(strFilePattern, ".min"));
-            propsFile.put(STR_PRTY_PRNT, String.format(strFilePattern, ""));
-            return propsFile;
+        private static void writeLargestEntries(final BufferedWriter writer, final String strType, final SequencedMap<String, Long> entries) throws IOException {
+            int intRank = 0;
+            for (final Entry<String, Long> entry : entries.entrySet()) {
+                intRank++;
+                writer.write(strType + ';' + intRank + ';' + entry.getKey() + ';' + entry.getValue());
+                writer.newLine();
+            }
         }
 
         /**
-         * read Main configuration file
-         * @param strFilePattern file pattern to use
-         * @return String
+         * Capture Folder statistics for given folders and each of their sub-folders up to a given depth into CSV file
+         * @param strFolderNames folder names
+         * @param intMaxDepth depth up to which sub-folders are reported (0 for given folders only)
+         * @param strOutCsvFile CSV file to write results into
          */
-        public static String getJsonConfigurationFile(final String strFilePattern) {
-            final Properties propsFile = establishRegularOrCompactFileName(strFilePattern);
-            String strFileJson = null;
-            final Properties propsMinified = RetrievingSubClass.checkFileExistanceAndReadability(propsFile.getProperty(STR_MINIFIED));
-            for(final Entry<Object, Object> eMinified : propsMinified.entrySet()) {
-                final boolean isItOk = "OK".equals(eMinified.getKey());
-                if (isItOk) {
-                    strFileJson = eMinified.getValue().toString();
-                } else {
-                    final Properties propsPreety = RetrievingSubClass.checkFileExistanceAndReadability(propsFile.getProperty(STR_PRTY_PRNT));
-                    for(final Entry<Object, Object> ePreety : propsPreety.entrySet()) {
-                        final boolean isItOk2 = "OK".equals(ePreety.getKey());
-                        strFileJson = getJsonFileName(isItOk2, ePreety, propsFile);
+        public static void captureFolderStatisticsByLevelIntoCsvFile(final String[] strFolderNames, final int intMaxDepth, final String strOutCsvFile) {
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(strOutCsvFile), StandardCharsets.UTF_8)) {
+                writer.write("Folder;Depth;Files;Folders;" + STR_SIZE);
+                writer.newLine();
+                for (final String strFolderName : strFolderNames) {
+                    for (final FolderLevelStatsRecord level : getFolderStatisticsByLevel(strFolderName, intMaxDepth)) {
+                        writer.write(level.folder() + ';' + level.depth() + ';' + level.files() + ';' + level.folders() + ';' + level.bytes());
+                        writer.newLine();
                     }
                 }
+            } catch (IOException ei) {
+                final String strFeedback = "Error writing folder statistics";
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
             }
-            return strFileJson;
         }
 
         /**
-         * Getting JSON file name
-         * @param isItOk2 file check result
-         * @param ePreety file name
-         * @param propsFile file Properties
-         * @return String
+         * Determining single file statistics
+         * @param file in scope
+         * @param attrs file attributes (already read while walking)
+         * @param algorithms checksum algorithm names
+         * @param cachedChecksums checksums already known (only missing ones are computed)
+         * @param cache checksum cache receiving computed checksums
+         * @return Properties with relevant statistics
          */
-        private static String getJsonFileName(final boolean isItOk2, final Entry<Object, Object> ePreety, final Properties propsFile) {
-            final String strFileJson;
-            if (isItOk2) {
-                strFileJson = ePreety.getValue().toString();
-            } else {
-                final String strFeedback = String.format("Configuration file was NOT found (not as %s, nor %s)..."
-                    , propsFile.getProperty(STR_MINIFIED, "")
-                    , propsFile.getProperty(STR_PRTY_PRNT, ""));
-                LogExposureClass.LOGGER.error(strFeedback);
-                throw new IllegalArgumentException(strFeedback);
+        private static Properties getSingleFileStatistic(final Path file, final BasicFileAttributes attrs, final String[] algorithms, final Properties cachedChecksums, final ChecksumCacheClass cache) {
+            final Properties fileProperties = getFileStatistic(file, attrs, cachedChecksums);
+            final String[] missingAlgorithms = Arrays.stream(algorithms)
+                    .filter(algorithm -> !cachedChecksums.containsKey(algorithm))
+                    .toArray(String[]::new);
+            if (missingAlgorithms.length > 0) {
+                final Properties computedChecksums = computeFileChecksums(file, attrs.size(), missingAlgorithms);
+                cache.store(file, attrs, computedChecksums);
+                fileProperties.putAll(computedChecksums);
             }
-            return strFileJson;
+            return fileProperties;
         }
 
         /**
-         * Constructor
+         * Assembles single file statistics from checksums already computed
+         * @param file in scope
+         * @param attrs file attributes (already read while walking)
+         * @param checksums checksums already computed
+         * @return Properties with relevant statistics
          */
-        private RetrievingCompactOrRegularFileSubClass() {
-            // intentionally blank
+        private static Properties getFileStatistic(final Path file, final BasicFileAttributes attrs, final Properties checksums) {
+            final Properties fileProperties = new Properties();
+            fileProperties.put("Folder", file.getParent().toString());
+            fileProperties.put("File", file.getFileName().toString());
+            fileProperties.put(STR_SIZE, attrs.size());
+            fileProperties.put("Last Modified Time", TimingClass.getFileTimeAsHumanReadableFormat(attrs.lastModifiedTime()));
+            fileProperties.putAll(checksums);
+            return fileProperties;
         }
 
-    }
-
-    /**
-     * Statistics
-     */
-    public static final class StatisticsSubClass {
-        /**
-         * Checksum algorithms
-         */
-        private static String[] listAlgorithms = {"SHA-256", "SHA-512", "SHA3-256", "SHA3-512"};
         /**
-         * file statistics
+         * Removes stale entries from checksum cache (files gone or changed since being cached)
+         * @return number of files removed from cache
          */
-        private static final List<Properties> FILE_STATISTICS = new ArrayList<>();
+        public static long purgeStaleChecksumCacheEntries() {
+            try (ChecksumCacheClass cache = ChecksumCacheClass.open(checksumCacheDatabase)) {
+                return cache.purgeStaleEntries();
+            }
+        }
 
         /**
-         * A simple record to hold our results
+         * Verifies files within given folders against checksum manifest(s) previously captured
+         * (only differences are written into report, as ADDED, CHANGED, MISSING or TOUCHED)
+         * @param strFolderNames input folder names
+         * @param manifestFiles manifest CSV files (as written by captureFileStatisticsFromFolder)
+         * @param isFastMode when true, files with same size and last modified time as recorded are not re-hashed
+         * @param outCsvFile output CSV report file
+         * @return VerificationSummaryRecord (null when manifest(s) cannot be read or have no usable checksum column)
          */
-        /* default */ record FolderStatsRecord(long fileCount, long folderCount, long totalSize) {
-            /* default */ static FolderStatsRecord empty() { return new FolderStatsRecord(0, 0, 0); }
-            /* default */ FolderStatsRecord add(final FolderStatsRecord other) {
-                return new FolderStatsRecord(
-                    this.fileCount + other.fileCount,
-                    this.folderCount + other.folderCount,
-                    this.totalSize + other.totalSize
-                );
+        public static VerificationSummaryRecord verifyFileStatisticsAgainstManifest(final String[] strFolderNames, final String[] manifestFiles, final boolean isFastMode, final String outCsvFile) {
+            final Map<String, ManifestEntryRecord> manifestIndex = new ConcurrentHashMap<>();
+            final String[] manifestAlgorithms = loadManifestsIntoIndex(manifestFiles, manifestIndex);
+            VerificationSummaryRecord summary = null;
+            // without checksums every file would be judged on its size only
+            if (manifestAlgorithms.length == 0 || getMessageDigests(manifestAlgorithms).size() != manifestAlgorithms.length) {
+                final String strFeedbackErr = String.format("Manifest(s) %s cannot be read or have no usable checksum column, hence nothing can be verified...", Arrays.toString(manifestFiles));
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            } else {
+                summary = verifyFileStatisticsAgainstManifestIndex(strFolderNames, manifestIndex, manifestAlgorithms, isFastMode, outCsvFile);
             }
+            return summary;
         }
 
         /**
-         * Get statistics for all files within a given folder
-         * @param strFolderName input folder name
+         * Verifies files within given folders against loaded manifest entries
+         * @param strFolderNames input folder names
+         * @param manifestIndex manifest entries by absolute normalized file path (entries found are removed)
+         * @param manifestAlgorithms algorithms recorded into manifest(s), re-hashing has to produce exactly these
+         * @param isFastMode when true, files with same size and last modified time as recorded are not re-hashed
+         * @param outCsvFile output CSV report file
+         * @return VerificationSummaryRecord
          */
-        public static void captureFileStatisticsFromFolder(final String strFolderName, final String outCsvFile) {
+        private static VerificationSummaryRecord verifyFileStatisticsAgainstManifestIndex(final String[] strFolderNames, final Map<String, ManifestEntryRecord> manifestIndex,
+                final String[] manifestAlgorithms, final boolean isFastMode, final String outCsvFile) {
+            final long manifestCount = manifestIndex.size();
+            final LongAdder rehashed = new LongAdder();
+            // statuses are counted on calling thread only (sink of streaming pipeline)
+            final Map<String, Long> statusCounts = new HashMap<>();
             try (BufferedWriter writer = Files.newBufferedWriter(Path.of(outCsvFile), StandardCharsets.UTF_8)) {
-                writer.write("Folder;File;Size;Last Modified Time");
-                for(final String crtAlgo: listAlgorithms) {
-                    writer.write(';' + crtAlgo);
-                }
+                writer.write("Status;Folder;File;Manifest Size;Actual Size;Manifest Last Modified Time;Actual Last Modified Time");
                 writer.newLine();
-                gatherFileStatisticsFromFolderIntoFile(strFolderName, writer);
+                for (final String strFolderName : strFolderNames) {
+                    // checksum cache is bypassed, as it trusts size and last modified time only, so any checksum not known is read from content
+                    streamFileStatisticsFromFolder(strFolderName, manifestAlgorithms,
+                        (file, attrs) -> {
+                            final Properties knownChecksums = new Properties();
+                            final ManifestEntryRecord entry = isFastMode ? manifestIndex.get(getManifestKey(file)) : null;
+                            if (entry != null && entry.fileSize() == attrs.size()
+                                    && entry.lastModified().equals(TimingClass.getFileTimeAsHumanReadableFormat(attrs.lastModifiedTime()))) {
+                                knownChecksums.putAll(entry.checksums());
+                            }
+                            if (knownChecksums.size() != manifestAlgorithms.length) {
+                                rehashed.increment();
+                            }
+                            return knownChecksums;
+                        }, null,
+                        fileProperties -> {
+                            final Path file = Path.of(fileProperties.get("Folder").toString(), fileProperties.get("File").toString());
+                            final ManifestEntryRecord entry = manifestIndex.remove(getManifestKey(file));
+                            final String strStatus = getVerificationStatus(entry, fileProperties, manifestAlgorithms);
+                            statusCounts.merge(strStatus, 1L, Long::sum);
+                            if (!"UNCHANGED".equals(strStatus)) {
+                                writeVerificationRowIntoFile(writer, strStatus, fileProperties.get("Folder").toString(), fileProperties.get("File").toString(), entry, fileProperties);
+                            }
+                        });
+                }
+                for (final ManifestEntryRecord entry : manifestIndex.values()) {
+                    statusCounts.merge("MISSING", 1L, Long::sum);
+                    writeVerificationRowIntoFile(writer, "MISSING", entry.folder(), entry.file(), entry, null);
+                }
             } catch (IOException ei) {
-                LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+                final String strFeedback = String.format("Error writing verification report into %s file", outCsvFile);
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
             }
+            return new VerificationSummaryRecord(manifestCount, statusCounts.getOrDefault("UNCHANGED", 0L), statusCounts.getOrDefault("TOUCHED", 0L),
+                    statusCounts.getOrDefault("CHANGED", 0L), statusCounts.getOrDefault("ADDED", 0L), statusCounts.getOrDefault("MISSING", 0L), rehashed.sum());
         }
 
         /**
-         * Compute checksum for a given file
-         * @param file input file
-         * @param algorithm checksum algorithm name
-         * @return String
+         * Loads checksum manifest(s) into an index keyed by absolute normalized file path
+         * @param manifestFiles manifest CSV files
+         * @param manifestIndex index to fill
+         * @return algorithms recorded into manifest(s) (empty when any manifest cannot be read)
          */
-        public static String computeSingleChecksum(final Path file, final String algorithm) {
-            java.security.MessageDigest digest = null;
-            try {
-                digest = java.security.MessageDigest.getInstance(algorithm);
-            } catch (java.security.NoSuchAlgorithmException e) {
-                final String strFeedbackErr = String.format("Checksum algorithm %s is not available.... %s", algorithm, Arrays.toString(e.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedbackErr);
-            }
-            final StringBuilder sbChecksumValue = new StringBuilder();
-            try (InputStream istrmFile = Files.newInputStream(file);
-                    java.security.DigestInputStream dis = new java.security.DigestInputStream(istrmFile, digest)) {
-                // Read and discard all data while updating the digest
-                dis.transferTo(OutputStream.nullOutputStream());
-            } catch (IOException e) {
-                final String strFeedbackErr = String.format("Error when attempting to get content of file \"%s\": %s", "*", Arrays.toString(e.getStackTrace()));
-                LogExposureClass.LOGGER.error(strFeedbackErr);
-            }
-            assert digest != null;
-            final byte[] hashBytes = digest.digest();
-            for (final byte byteVar : hashBytes) {
-                sbChecksumValue.append(String.format("%02x", byteVar));
+        private static String[] loadManifestsIntoIndex(final String[] manifestFiles, final Map<String, ManifestEntryRecord> manifestIndex) {
+            String[] manifestAlgorithms = null;
+            boolean isEveryManifestRead = true;
+            for (final String strManifestFile : manifestFiles) {
+                try (BufferedReader reader = Files.newBufferedReader(Path.of(strManifestFile), StandardCharsets.UTF_8)) {
+                    final String[] headers = Objects.requireNonNullElse(reader.readLine(), "").split(";", -1);
+                    // Folder;File;Size;Last Modified Time are followed by one column for each algorithm
+                    final String[] algorithms = Arrays.copyOfRange(headers, Math.min(4, headers.length), headers.length);
+                    if (manifestAlgorithms == null) {
+                        manifestAlgorithms = algorithms;
+                    }
+                    if (Arrays.equals(manifestAlgorithms, algorithms)) {
+                        loadManifestEntries(reader, strManifestFile, algorithms, manifestIndex);
+                    } else {
+                        final String strFeedback = String.format("Manifest %s has different checksum algorithms (%s instead of %s) and will be ignored...", strManifestFile, Arrays.toString(algorithms), Arrays.toString(manifestAlgorithms));
+                        LogExposureClass.LOGGER.warn(strFeedback);
+                    }
+                } catch (IOException ei) {
+                    isEveryManifestRead = false;
+                    final String strFeedback = String.format(I18N_FILE_FND_ERR, Path.of(strManifestFile).getFileName(), Path.of(strManifestFile).getParent());
+                    LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+                }
             }
-            return sbChecksumValue.toString();
+            return manifestAlgorithms == null || !isEveryManifestRead ? new String[0] : manifestAlgorithms;
         }
 
         /**
-         * Compute all known checksums for a given file
-         * @param file input file
-         * @return Properties checksum values
+         * Loads rows of a single manifest into index
+         * @param reader manifest reader (positioned after header)
+         * @param strManifestFile manifest file name (for feedback)
+         * @param algorithms algorithms recorded into manifest
+         * @param manifestIndex index to fill
+         * @throws IOException in case of reading error
          */
-        private static Properties computeFileMultipleChecksumsIntoProperties(final Path file) {
-            final Properties fileProperties = new Properties();
-            try(java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
-                executor.submit(() -> {
-                    for (final String algo : listAlgorithms) {
-                        fileProperties.put(algo, computeSingleChecksum(file, algo));
+        private static void loadManifestEntries(final BufferedReader reader, final String strManifestFile, final String[] algorithms, final Map<String, ManifestEntryRecord> manifestIndex) throws IOException {
+            String strLine = reader.readLine();
+            while (strLine != null) {
+                final String[] values = strLine.split(";", -1);
+                try {
+                    if (values.length != 4 + algorithms.length) {
+                        throw new NumberFormatException("unexpected number of columns");
                     }
-                });
-                executor.shutdown();
-                executor.awaitTermination(Long.MAX_VALUE, java.util.concurrent.TimeUnit.NANOSECONDS);
-            } catch (InterruptedException ei) {
-                final String strFeedback = String.format("Execution was interrupted... %s", Arrays.toString(ei.getStackTrace()));
-                LogExposureClass.LOGGER.warn(strFeedback);
-                /* Clean up whatever needs to be handled before interrupting  */
-                Thread.currentThread().interrupt();
+                    final Properties checksums = new Properties();
+                    for (int intAlgo = 0; intAlgo < algorithms.length; intAlgo++) {
+                        checksums.put(algorithms[intAlgo], values[4 + intAlgo]);
+                    }
+                    manifestIndex.put(getManifestKey(Path.of(values[0], values[1])), new ManifestEntryRecord(values[0], values[1], Long.parseLong(values[2]), values[3], checksums));
+                } catch (NumberFormatException en) {
+                    final String strFeedback = String.format("Manifest %s has an unusable line (%s) which will be ignored: %s", strManifestFile, en.getMessage(), strLine);
+                    LogExposureClass.LOGGER.warn(strFeedback);
+                }
+                strLine = reader.readLine();
             }
-            return fileProperties;
         }
 
         /**
-         * performs statistics for all files within a given folder
-         * @param strFolderName input folder name
+         * Key of a file within manifest index
+         * @param file file
+         * @return absolute normalized path
          */
-        private static void gatherFileStatisticsFromFolder(final String strFolderName) {
-            final Path folder = Paths.get(strFolderName);
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
-                for (final Path file : stream) {
-                    if (Files.isDirectory(file)) {
-                        gatherFileStatisticsFromFolder(file.toString());
-                    } else if (Files.isRegularFile(file)) {
-                        FILE_STATISTICS.add(getSingleFileStatistic(file));
-                    }
+        private static String getManifestKey(final Path file) {
+            return file.toAbsolutePath().normalize().toString();
+        }
+
+        /**
+         * Compares actual file statistics with manifest entry
+         * @param entry manifest entry (null when file was not recorded)
+         * @param fileProperties actual file statistics
+         * @param algorithms checksum algorithm names to compare
+         * @return ADDED, CHANGED, TOUCHED or UNCHANGED
+         */
+        private static String getVerificationStatus(final ManifestEntryRecord entry, final Properties fileProperties, final String... algorithms) {
+            String strStatus = "ADDED";
+            if (entry != null) {
+                boolean isSameContent = entry.fileSize() == (Long) fileProperties.get(STR_SIZE);
+                for (final String algo : algorithms) {
+                    isSameContent &= entry.checksums().getProperty(algo, "").equals(fileProperties.getProperty(algo, ""));
+                }
+                if (!isSameContent) {
+                    strStatus = "CHANGED";
+                } else if (entry.lastModified().equals(fileProperties.get("Last Modified Time"))) {
+                    strStatus = "UNCHANGED";
+                } else {
+                    strStatus = "TOUCHED";
                 }
+            }
+            return strStatus;
+        }
+
+        /**
+         * Writes a single verification difference into CSV report
+         * @param writer CSV report writer
+         * @param strStatus verification status
+         * @param strFolder folder
+         * @param strFile file name
+         * @param entry manifest entry (null when file was not recorded)
+         * @param fileProperties actual file statistics (null when file is missing)
+         */
+        private static void writeVerificationRowIntoFile(final BufferedWriter writer, final String strStatus, final String strFolder, final String strFile,
+                final ManifestEntryRecord entry, final Properties fileProperties) {
+            try {
+                writer.write(strStatus + ';' + strFolder + ';' + strFile
+                        + ';' + (entry == null ? "" : entry.fileSize())
+                        + ';' + (fileProperties == null ? "" : fileProperties.get(STR_SIZE).toString())
+                        + ';' + (entry == null ? "" : entry.lastModified())
+                        + ';' + (fileProperties == null ? "" : fileProperties.get("Last Modified Time").toString()));
+                writer.newLine();
             } catch (IOException ei) {
-                final String strFeedback = String.format(I18N_FILE_FND_ERR, "*", strFolderName);
+                final String strFeedback = "Error writing verification report";
                 LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
             }
         }
 
         /**
-         * performs statistics for all files within a given folder
-         * @param strFolderName input folder name
+         * Compares a target folder against a source folder (i.e. a replica against its source)
+         * walking both at the same time in sorted order like a merge join, one folder level at a time,
+         * so only listings of folders along current path are held in memory;
+         * files having same size but different last modified time are hashed to tell CHANGED from TOUCHED
+         * (only differences are written into report, as ADDED, CHANGED, REMOVED or TOUCHED, sorted by relative path)
+         * @param strSourceFolder source folder
+         * @param strTargetFolder target folder
+         * @param strAlgorithm checksum algorithm used when metadata differs (null means metadata only, every difference being CHANGED)
+         * @param outCsvFile output CSV report file
+         * @return FolderComparisonSummaryRecord (null when source or target is not a readable folder)
          */
-        private static void gatherFileStatisticsFromFolderIntoFile(final String strFolderName, final BufferedWriter writer) {
-            final List<Properties> crtFileStatistics = getFileStatisticsIntoListOfProperties(strFolderName);
-            crtFileStatistics.forEach(fileProperties -> {
-                try {
-                    writer.write(fileProperties.get("Folder").toString()
-                            + ';' + fileProperties.get("File").toString()
-                            + ';' + fileProperties.get("Size").toString()
-                            + ';' + fileProperties.get("Last Modified Time").toString());
-                    for (final String algo : listAlgorithms) {
-                        writer.write(';' + fileProperties.get(algo).toString());
-                    }
+        public static FolderComparisonSummaryRecord compareFoldersIntoCsvFile(final String strSourceFolder, final String strTargetFolder, final String strAlgorithm, final String outCsvFile) {
+            final Path sourceFolder = Path.of(strSourceFolder);
+            final Path targetFolder = Path.of(strTargetFolder);
+            FolderComparisonSummaryRecord summary = null;
+            if (isReadableFolder(sourceFolder) && isReadableFolder(targetFolder)) {
+                final Map<String, Long> statusCounts = new HashMap<>();
+                final LongAdder hashedPairs = new LongAdder();
+                try (BufferedWriter writer = Files.newBufferedWriter(Path.of(outCsvFile), StandardCharsets.UTF_8)) {
+                    writer.write("Status;Relative Path;Source Size;Target Size;Source Last Modified Time;Target Last Modified Time");
                     writer.newLine();
+                    compareFolderLevel(sourceFolder, targetFolder, "", strAlgorithm, hashedPairs, (strStatus, strRelative, sourceAttrs, targetAttrs) -> {
+                        statusCounts.merge(strStatus, 1L, Long::sum);
+                        if (!"UNCHANGED".equals(strStatus)) {
+                            writeComparisonRowIntoFile(writer, strStatus, strRelative, sourceAttrs, targetAttrs);
+                        }
+                    });
                 } catch (IOException ei) {
-                    final String strFeedback = "Error writing files statistics";
+                    final String strFeedback = String.format("Error writing comparison report into %s file", outCsvFile);
                     LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
                 }
-            });
+                summary = new FolderComparisonSummaryRecord(statusCounts.getOrDefault("UNCHANGED", 0L), statusCounts.getOrDefault("TOUCHED", 0L),
+                        statusCounts.getOrDefault("CHANGED", 0L), statusCounts.getOrDefault("ADDED", 0L), statusCounts.getOrDefault("REMOVED", 0L), hashedPairs.sum());
+            } else {
+                final String strFeedbackErr = String.format("Folders %s and %s cannot be compared, as both have to be readable folders...", strSourceFolder, strTargetFolder);
+                LogExposureClass.LOGGER.error(strFeedbackErr);
+            }
+            return summary;
         }
 
         /**
-         * performs statistics for all files within a given folder
-         * @param strFolderName input folder name
+         * Checks a folder exists and can be listed
+         * @param folder folder to check
+         * @return true when folder can be listed
+         */
+        private static boolean isReadableFolder(final Path folder) {
+            return Files.isDirectory(folder) && Files.isReadable(folder);
+        }
+
+        /**
+         * Receiver of compared files
+         */
+        @FunctionalInterface
+        private interface ComparisonSinkInterface {
+            /**
+             * Receives outcome of a single file comparison
+             * @param strStatus ADDED, CHANGED, REMOVED, TOUCHED or UNCHANGED
+             * @param strRelative path relative to compared folders
+             * @param sourceAttrs source attributes (null when file is only within target)
+             * @param targetAttrs target attributes (null when file is only within source)
+             */
+            void accept(String strStatus, String strRelative, BasicFileAttributes sourceAttrs, BasicFileAttributes targetAttrs);
+        }
+
+        /**
+         * Compares a single folder level, merging sorted listings of both sides and descending into sub-folders
+         * @param sourceFolder source folder (null when level exists only within target)
+         * @param targetFolder target folder (null when level exists only within source)
+         * @param strRelative path of level relative to compared folders
+         * @param strAlgorithm checksum algorithm used when metadata differs (null for metadata only)
+         * @param hashedPairs counts file pairs whose content is read
+         * @param sink receiver of compared files
          */
-        public static List<Properties> getFileStatisticsIntoListOfProperties(final String strFolderName) {
-            if (!FILE_STATISTICS.isEmpty()) {
-                FILE_STATISTICS.clear();
+        private static void compareFolderLevel(final Path sourceFolder, final Path targetFolder, final String strRelative, final String strAlgorithm,
+                final LongAdder hashedPairs, final ComparisonSinkInterface sink) {
+            final List<FolderEntryRecord> sourceEntries = getSortedFolderEntries(sourceFolder);
+            final List<FolderEntryRecord> targetEntries = getSortedFolderEntries(targetFolder);
+            int intSource = 0;
+            int intTarget = 0;
+            while (intSource < sourceEntries.size() || intTarget < targetEntries.size()) {
+                final FolderEntryRecord sourceEntry = intSource < sourceEntries.size() ? sourceEntries.get(intSource) : null;
+                final FolderEntryRecord targetEntry = intTarget < targetEntries.size() ? targetEntries.get(intTarget) : null;
+                final int comparison;
+                if (sourceEntry == null) {
+                    comparison = 1;
+                } else if (targetEntry == null) {
+                    comparison = -1;
+                } else {
+                    comparison = sourceEntry.name().compareTo(targetEntry.name());
+                }
+                final String strName = comparison <= 0 ? sourceEntry.name() : targetEntry.name();
+                final String strEntryRelative = strRelative.isEmpty() ? strName : strRelative + '/' + strName;
+                final boolean isSourceFolder = comparison <= 0 && sourceEntry.attrs().isDirectory();
+                final boolean isTargetFolder = comparison >= 0 && targetEntry.attrs().isDirectory();
+                if (isSourceFolder || isTargetFolder) {
+                    // a file on one side and a folder on the other is a removal plus an addition
+                    compareFolderLevel(isSourceFolder ? sourceFolder.resolve(strName) : null, isTargetFolder ? targetFolder.resolve(strName) : null,
+                            strEntryRelative, strAlgorithm, hashedPairs, sink);
+                }
+                final BasicFileAttributes sourceAttrs = comparison <= 0 && !isSourceFolder ? sourceEntry.attrs() : null;
+                final BasicFileAttributes targetAttrs = comparison >= 0 && !isTargetFolder ? targetEntry.attrs() : null;
+                if (sourceAttrs != null && targetAttrs != null) {
+                    sink.accept(getComparisonStatus(sourceFolder.resolve(strName), targetFolder.resolve(strName), sourceAttrs, targetAttrs, strAlgorithm, hashedPairs),
+                            strEntryRelative, sourceAttrs, targetAttrs);
+                } else if (sourceAttrs != null) {
+                    sink.accept("REMOVED", strEntryRelative, sourceAttrs, null);
+                } else if (targetAttrs != null) {
+                    sink.accept("ADDED", strEntryRelative, null, targetAttrs);
+                }
+                if (comparison <= 0) {
+                    intSource++;
+                }
+                if (comparison >= 0) {
+                    intTarget++;
+                }
             }
-            gatherFileStatisticsFromFolder(strFolderName);
-            return FILE_STATISTICS;
         }
 
         /**
-         * get Folder statistics recursively
-         * @param strFolderName folder name
-         * @param pathProps path properties
-         * @return Properties
+         * Lists a single folder level sorted by name (attributes come with listing, so no extra call is made per entry)
+         * @param folder folder to list (null gives empty listing)
+         * @return List of FolderEntryRecord
          */
-        public static Properties getFolderStatisticsRecursive(final String strFolderName, final Properties pathProps) {
-            final Path directory = Paths.get(strFolderName.replace("\"", ""));
-            // use DirectoryStream to list files which are present in specific
-            try (Stream<Path> stream = Files.walk(directory)) {
-                final FolderStatsRecord stats = stream
-                    .map(path -> {
-                        if (Files.isDirectory(path)) {
-                            // Don't count the root directory itself as a sub-folder
-                            return path.equals(directory) ? FolderStatsRecord.empty() : new FolderStatsRecord(0, 1, 0);
-                        } else {
-                            try {
-                                return new FolderStatsRecord(1, 0, Files.size(path));
-                            } catch (IOException e) {
-                                final String strFeedback = String.format("Input/Output exception on %s folder encountered on %s", strFolderName, Arrays.toString(e.getStackTrace()));
-                                LogExposureClass.LOGGER.debug(strFeedback);
-                                return FolderStatsRecord.empty();
-                            }
+        private static List<FolderEntryRecord> getSortedFolderEntries(final Path folder) {
+            final List<FolderEntryRecord> entries = new ArrayList<>();
+            if (folder != null) {
+                try {
+                    Files.walkFileTree(folder, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                            entries.add(new FolderEntryRecord(file.getFileName().toString(), attrs));
+                            return FileVisitResult.CONTINUE;
                         }
-                    })
-                    .reduce(FolderStatsRecord.empty(), FolderStatsRecord::add);
-                pathProps.put("TOTAL_OBJECTS", stats.folderCount() + stats.fileCount());
-                pathProps.put("DIRECTORIES", stats.folderCount());
-                pathProps.put("FILES", stats.fileCount());
-                pathProps.put("SIZE_BYTES", stats.totalSize());
-            } catch (IOException ei) {
-                final Path foderName = Path.of(strFolderName);
-                final String strFeedback = String.format(I18N_FILE_FND_ERR, foderName.getParent(), foderName.getFileName());
-                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+
+                        @Override
+                        public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                            final String strFeedback = String.format(I18N_FILE_FND_ERR, file.getFileName(), file.getParent());
+                            LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(exc.getStackTrace()));
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+                } catch (IOException ei) {
+                    final String strFeedback = String.format(I18N_FILE_FND_ERR, folder.getFileName(), folder.getParent());
+                    LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+                }
+                entries.sort(Comparator.comparing(FolderEntryRecord::name));
             }
-            return pathProps;
+            return entries;
         }
 
         /**
-         * Determining single file statistics
-         * @param file in scope
-         * @return Properties with relevant statistics
+         * Compares a file present on both sides (content is read only when size matches but last modified time does not)
+         * @param sourceFile source file
+         * @param targetFile target file
+         * @param sourceAttrs source attributes
+         * @param targetAttrs target attributes
+         * @param strAlgorithm checksum algorithm (null for metadata only)
+         * @param hashedPairs counts file pairs whose content is read
+         * @return CHANGED, TOUCHED or UNCHANGED
          */
-        private static Properties getSingleFileStatistic(final Path file) {
-            final Properties fileProperties = new Properties();
-            fileProperties.put("Folder", file.getParent().toString());
-            fileProperties.put("File", file.getFileName().toString());
-            fileProperties.put("Size [bytes]", file.toFile().length());
-            fileProperties.put("Last Modified Time", TimingClass.getFileLastModifiedTimeAsHumanReadableFormat(file));
-            fileProperties.putAll(computeFileMultipleChecksumsIntoProperties(file));
-            return fileProperties;
+        private static String getComparisonStatus(final Path sourceFile, final Path targetFile, final BasicFileAttributes sourceAttrs, final BasicFileAttributes targetAttrs,
+                final String strAlgorithm, final LongAdder hashedPairs) {
+            String strStatus = "CHANGED";
+            if (sourceAttrs.size() == targetAttrs.size()) {
+                if (sourceAttrs.lastModifiedTime().toMillis() == targetAttrs.lastModifiedTime().toMillis()) {
+                    strStatus = "UNCHANGED";
+                } else if (strAlgorithm != null) {
+                    hashedPairs.increment();
+                    final Properties sourceChecksums = computeFileChecksums(sourceFile, sourceAttrs.size(), strAlgorithm);
+                    final Properties targetChecksums = computeFileChecksums(targetFile, targetAttrs.size(), strAlgorithm);
+                    if (sourceChecksums.getProperty(strAlgorithm, "").equals(targetChecksums.getProperty(strAlgorithm, "-"))) {
+                        strStatus = "TOUCHED";
+                    }
+                }
+            }
+            return strStatus;
+        }
+
+        /**
+         * Writes a single comparison difference into CSV report
+         * @param writer CSV report writer
+         * @param strStatus comparison status
+         * @param strRelative path relative to compared folders
+         * @param sourceAttrs source attributes (null when file is only within target)
+         * @param targetAttrs target attributes (null when file is only within source)
+         */
+        private static void writeComparisonRowIntoFile(final BufferedWriter writer, final String strStatus, final String strRelative,
+                final BasicFileAttributes sourceAttrs, final BasicFileAttributes targetAttrs) {
+            try {
+                writer.write(strStatus + ';' + strRelative
+                        + ';' + (sourceAttrs == null ? "" : sourceAttrs.size())
+                        + ';' + (targetAttrs == null ? "" : targetAttrs.size())
+                        + ';' + (sourceAttrs == null ? "" : TimingClass.getFileTimeAsHumanReadableFormat(sourceAttrs.lastModifiedTime()))
+                        + ';' + (targetAttrs == null ? "" : TimingClass.getFileTimeAsHumanReadableFormat(targetAttrs.lastModifiedTime())));
+                writer.newLine();
+            } catch (IOException ei) {
+                final String strFeedback = "Error writing comparison report";
+                LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
+            }
         }
 
         /**
@@ -1085,6 +4980,62 @@ public final class FileOperationsClass {
             listAlgorithms = inAlgorithms;
         }
 
+        /**
+         * Setter for checksum reading mode
+         * @param inReadMode reading mode (STREAM or CHANNEL)
+         */
+        public static void setChecksumReadMode(final String inReadMode) {
+            checksumReadMode = inReadMode;
+        }
+
+        /**
+         * Setter for file size from which CHANNEL reading mode uses memory-mapped regions
+         * @param inThreshold size in bytes
+         */
+        public static void setMappedReadThreshold(final long inThreshold) {
+            mappedReadThreshold = inThreshold;
+        }
+
+        /**
+         * Setter for checksum cache database
+         * @param inCacheDatabase SQLite database file (null disables cache)
+         */
+        public static void setChecksumCacheDatabase(final String inCacheDatabase) {
+            checksumCacheDatabase = inCacheDatabase;
+        }
+
+        /**
+         * Getter for number of threads computing checksums in parallel
+         * @return int
+         */
+        public static int getHashingThreads() {
+            return hashingThreads;
+        }
+
+        /**
+         * Setter for number of threads computing checksums in parallel
+         * @param inThreads number of threads (at least 1)
+         */
+        public static void setHashingThreads(final int inThreads) {
+            hashingThreads = Math.max(1, inThreads);
+        }
+
+        /**
+         * Setter for file size from which digests are updated in parallel
+         * @param inThreshold size in bytes
+         */
+        public static void setParallelDigestThreshold(final long inThreshold) {
+            parallelDigestThreshold = inThreshold;
+        }
+
+        /**
+         * Setter for number of threads walking sub-folders in parallel for folder statistics
+         * @param inThreads number of threads (at least 1)
+         */
+        public static void setWalkingThreads(final int inThreads) {
+            walkingThreads = Math.max(1, inThreads);
+        }
+
         /**
          * Constructor
          */
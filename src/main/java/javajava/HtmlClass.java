@@ -17,6 +17,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.SequencedMap;
+import java.util.function.Consumer;
 
 import org.apache.maven.model.Model;
 
@@ -201,38 +202,14 @@ public final class HtmlClass {
          * CSS to align text to right
          */
         private static final String CSS_TEXT_RIGHT = "text-align:right;";
-        /**
-         * variable for Current Tab value
-         */
-        private static String currentTabValue;
-        /**
-         * variable for HTML Table
-         */
-        private static final List<String> LIST_TABLE_LINES = new ArrayList<>();
         /**
          * Time Zone variable
          */
         private static final long LARGE_STRING = 25;
-        /**
-         * variable for Remember Key
-         */
-        private static String rememberKey;
-        /**
-         * variable for row counter
-         */
-        private static int rowCounter;
-        /**
-         * variable for Table Header
-         */
-        private static String strTableHeader = "";
         /**
          * Time Zone variable
          */
         private static String strTimeZone;
-        /**
-         * variable for Counter usage
-         */
-        private static boolean useCounter;
 
         /**
          * Generate HTML from a Map of values
@@ -240,30 +217,13 @@ public final class HtmlClass {
          * @return String
          */
         public static String getListOfSequencedMapIntoHtmlTable(final List<SequencedMap<Object, Object>> inList, final Properties objFeatures) {
-            if (strTimeZone == null) {
-                setTimeZone(System.getProperty("user.timezone"));
-            }
-            LIST_TABLE_LINES.clear();
-            strTableHeader = "";
-            rememberKey = getRememberKey(objFeatures);
-            useCounter = !objFeatures.getOrDefault("Counter", "").toString().isEmpty();
+            final List<String> tableLines = new ArrayList<>();
+            final TableWriterClass tableWriter = new TableWriterClass(objFeatures, tableLines::add);
             for (final SequencedMap<Object, Object> recordMap : inList) {
-                processRecord(recordMap);
-            }
-            finish();
-            return String.join("", LIST_TABLE_LINES);
-        }
-
-        /**
-         * final
-         */
-        public static void finish() {
-            if (!strTableHeader.isEmpty()) {
-                LIST_TABLE_LINES.add("</tbody></table>");
-                if (!rememberKey.isEmpty()) {
-                    LIST_TABLE_LINES.add(String.format("</div><!-- %s --></div><!-- tabStandard -->", currentTabValue));
-                }
+                tableWriter.addRecord(recordMap);
             }
+            tableWriter.finish();
+            return String.join("", tableLines);
         }
 
         /**
@@ -279,47 +239,6 @@ public final class HtmlClass {
             return strRememberKey;
         }
 
-        /**
-         * handle Tab switch
-         * @param recordMap properties of the record to be transformed into HTML row
-         */
-        private static void handleTabSwitch(final SequencedMap<Object, Object> recordMap) {
-            final Object valObj = recordMap.get(rememberKey);
-            final String valueForTab = valObj == null ? "null" : valObj.toString();
-            final String prev = currentTabValue == null ? "" : currentTabValue;
-            if (!valueForTab.equalsIgnoreCase(prev)) {
-                if (LIST_TABLE_LINES.isEmpty()) {
-                    // first tab: open tab container
-                    LIST_TABLE_LINES.add("<div id=\"tabStandard\" class=\"tabber\">");
-                } else if (currentTabValue != null) {
-                    // close previous tab's table
-                    LIST_TABLE_LINES.add(String.format("</tbody></table></div><!-- %s -->", currentTabValue));
-                }
-                // open new tab with header
-                LIST_TABLE_LINES.add(String.format("<div class=\"tabbertab\" title=\"%s\">%s", valueForTab, strTableHeader));
-                currentTabValue = valueForTab;
-                rowCounter = 0;
-            }
-        }
-
-        /**
-         * process each record
-         * @param recordMap map with record content
-         */
-        private static void processRecord(final SequencedMap<Object, Object> recordMap) {
-            HeaderSubSubClass.ensureHeaderExists(recordMap);
-            if (rememberKey.isEmpty()) {
-                HeaderSubSubClass.ensureHeaderAppended();
-            } else {
-                handleTabSwitch(recordMap);
-            }
-            if (useCounter) {
-                rowCounter++;
-                recordMap.put("#", String.valueOf(rowCounter));
-            }
-            LIST_TABLE_LINES.add(RowSubSubClass.buildTableBodyRow(recordMap));
-        }
-
         /**
          * Setter for strTimeZone
          * @param inTimeZone input time zone
@@ -337,9 +256,10 @@ public final class HtmlClass {
             /**
              * Table Body row logic
              * @param recordMap properties of the record to be transformed into HTML row
+             * @param rememberKey key whose values become tabs (not written as cell)
              * @return String
              */
-            private static String buildTableBodyRow(final SequencedMap<Object, Object> recordMap) {
+            private static String buildTableBodyRow(final SequencedMap<Object, Object> recordMap, final String rememberKey) {
                 final StringBuilder strTableRow = new StringBuilder(1000);
                 strTableRow.append("<tr>");
                 recordMap.forEach((strKey, objValue) -> {
@@ -422,9 +342,11 @@ public final class HtmlClass {
             /**
              * Table Body row logic
              * @param recordMap properties of the record to be transformed into HTML row
+             * @param rememberKey key whose values become tabs (not written as column)
+             * @param useCounter when true a counter column is added
              * @return String
              */
-            private static String buildTableHeader(final SequencedMap<Object, Object> recordMap) {
+            private static String buildTableHeader(final SequencedMap<Object, Object> recordMap, final String rememberKey, final boolean useCounter) {
                 final StringBuilder strBuilder = new StringBuilder(100);
                 strBuilder.append("<table><thead>");
                 recordMap.forEach((strKey, _) -> {
@@ -441,32 +363,128 @@ public final class HtmlClass {
             }
 
             /**
-             * ensuring Table Header is appended
+             * constructor
              */
-            private static void ensureHeaderAppended() {
-                if (LIST_TABLE_LINES.isEmpty()) {
-                    LIST_TABLE_LINES.add(strTableHeader);
-                    rowCounter = 0;
+            private HeaderSubSubClass() {
+                // intentionally left blank
+            }
+
+        }
+
+        /**
+         * HTML table being written, fragments being handed over as soon as they are built
+         * (each table keeps its own state, so several tables can be written at the same time)
+         */
+        public static final class TableWriterClass {
+            /**
+             * receiver of HTML Table fragments
+             */
+            private final Consumer<String> tableSink;
+            /**
+             * variable for Remember Key
+             */
+            private final String rememberKey;
+            /**
+             * variable for Counter usage
+             */
+            private final boolean useCounter;
+            /**
+             * variable for Current Tab value
+             */
+            private String currentTabValue;
+            /**
+             * variable for anything already written into HTML Table
+             */
+            private boolean isTableStarted;
+            /**
+             * variable for row counter
+             */
+            private int rowCounter;
+            /**
+             * variable for Table Header
+             */
+            private String strTableHeader = "";
+
+            /**
+             * Starts an HTML table (records are then added one by one and table is closed by finish)
+             * @param objFeatures optional HTML Table features
+             * @param inTableSink receiver of HTML Table fragments
+             */
+            public TableWriterClass(final Properties objFeatures, final Consumer<String> inTableSink) {
+                if (strTimeZone == null) {
+                    setTimeZone(System.getProperty("user.timezone"));
                 }
+                tableSink = inTableSink;
+                rememberKey = getRememberKey(objFeatures);
+                useCounter = !objFeatures.getOrDefault("Counter", "").toString().isEmpty();
             }
 
             /**
-             * initiating Table Header
-             * @param recordMap records to parse
+             * Adds a record to HTML table
+             * @param recordMap map with record content
              */
-            private static void ensureHeaderExists(final SequencedMap<Object, Object> recordMap) {
+            public void addRecord(final SequencedMap<Object, Object> recordMap) {
                 if (strTableHeader.isEmpty()) {
-                    strTableHeader = buildTableHeader(recordMap);
+                    strTableHeader = HeaderSubSubClass.buildTableHeader(recordMap, rememberKey, useCounter);
                 }
+                if (rememberKey.isEmpty()) {
+                    if (!isTableStarted) {
+                        writeTableFragment(strTableHeader);
+                        rowCounter = 0;
+                    }
+                } else {
+                    handleTabSwitch(recordMap);
+                }
+                if (useCounter) {
+                    rowCounter++;
+                    recordMap.put("#", String.valueOf(rowCounter));
+                }
+                writeTableFragment(RowSubSubClass.buildTableBodyRow(recordMap, rememberKey));
             }
 
             /**
-             * constructor
+             * final
              */
-            private HeaderSubSubClass() {
-                // intentionally left blank
+            public void finish() {
+                if (!strTableHeader.isEmpty()) {
+                    writeTableFragment("</tbody></table>");
+                    if (!rememberKey.isEmpty()) {
+                        writeTableFragment(String.format("</div><!-- %s --></div><!-- tabStandard -->", currentTabValue));
+                    }
+                }
             }
 
+            /**
+             * handle Tab switch
+             * @param recordMap properties of the record to be transformed into HTML row
+             */
+            private void handleTabSwitch(final SequencedMap<Object, Object> recordMap) {
+                final Object valObj = recordMap.get(rememberKey);
+                final String valueForTab = valObj == null ? "null" : valObj.toString();
+                final String prev = currentTabValue == null ? "" : currentTabValue;
+                if (!valueForTab.equalsIgnoreCase(prev)) {
+                    if (!isTableStarted) {
+                        // first tab: open tab container
+                        writeTableFragment("<div id=\"tabStandard\" class=\"tabber\">");
+                    } else if (currentTabValue != null) {
+                        // close previous tab's table
+                        writeTableFragment(String.format("</tbody></table></div><!-- %s -->", currentTabValue));
+                    }
+                    // open new tab with header
+                    writeTableFragment(String.format("<div class=\"tabbertab\" title=\"%s\">%s", valueForTab, strTableHeader));
+                    currentTabValue = valueForTab;
+                    rowCounter = 0;
+                }
+            }
+
+            /**
+             * Hands over a fragment of HTML table
+             * @param strFragment HTML fragment
+             */
+            private void writeTableFragment(final String strFragment) {
+                tableSink.accept(strFragment);
+                isTableStarted = true;
+            }
         }
 
         /**
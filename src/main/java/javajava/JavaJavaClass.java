@@ -1,15 +1,24 @@
 package javajava;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 
 import picocli.CommandLine;
 import picocli.CommandLine.Mixin;
@@ -22,16 +31,25 @@ import picocli.CommandLine.Mixin;
     subcommands = {
             AnalyzeColumnsFromCsvFiles.class,
             AnalyzePomFiles.class,
+            ArchiveFoldersIntoZipFiles.class,
+            BenchmarkChecksumReadModesOnFiles.class,
+            BenchmarkSqLiteRegularExpressionFunctions.class,
             CalculateSunriseAndSunset.class,
             CaptureChecksumsOfFilesFromFoldersIntoCsvFile.class,
             CaptureEnvironmentDetailsIntoJsonFile.class,
+            CaptureFolderStatisticsIntoCsvFile.class,
             CaptureImportsFromJavaSourceFilesIntoCsvFile.class,
             CaptureWindowsApplicationsInstalledIntoCsvFile.class,
             CleanOlderFilesFromFolder.class,
+            CompareFilesOfTwoFoldersIntoCsvFile.class,
             ExperimentalFeature.class,
+            FindDuplicateFilesInFolders.class,
             GetInformationFromDatabase.class,
+            GetLargestFilesAndFoldersFromFolders.class,
             GetSubFoldersFromFolders.class,
-            JavaJavaWebUserInterface.class
+            JavaJavaWebUserInterface.class,
+            ProfileColumnsFromCsvFiles.class,
+            VerifyChecksumsOfFilesFromFoldersAgainstCsvFile.class
     }
 )
 public final class JavaJavaClass {
@@ -72,6 +90,34 @@ class AnalyzeColumnsFromCsvFiles implements Runnable {
     @Mixin
     private final CommonInteractiveClass.InFileNameOptionMixinClass optFileNames = new CommonInteractiveClass.InFileNameOptionMixinClass();
 
+    /**
+     * Merging rules for data types
+     */
+    private static final Map<List<String>, String> MERGE_RULES = Map.of(
+            List.of("ARRAY", "OBJECT", "VARIANT"), "COMPOSITE__STRUCTURED",
+            List.of("FLOAT", "NUMBER"), "COMPOSITE__NUMERIC",
+            List.of("DATETIME", "TIMESTAMP", "TIMESTAMP_LTZ", "TIMESTAMP_NTZ", "TIMESTAMP_TZ"), "COMPOSITE__TIMESTAMP",
+            List.of("BINARY", "TEXT", "VARCHAR"), "COMPOSITE__TEXT"
+    );
+
+    /**
+     * Flag for parallel mode
+     */
+    @CommandLine.Option(
+        names = {"-prl", "--parallel"},
+        description = "Analyzes files in parallel streaming their columns, with bounded memory for word counts")
+    private boolean bolParallel;
+
+    /**
+     * Largest number of distinct words counted exactly
+     */
+    @CommandLine.Option(
+        names = {"-maxWrd", "--maxDistinctWords"},
+        description = "Largest number of distinct words kept for each data type in parallel mode; beyond it only most frequent words are kept, with approximate counts",
+        arity = "1",
+        defaultValue = "1000000")
+    private int intMaxDistinctWords;
+
     /**
      *
      * @param strFileName input File
@@ -83,14 +129,7 @@ class AnalyzeColumnsFromCsvFiles implements Runnable {
                                                       final Integer intColToGrpBy) {
         // Group values by category
         final Map<String, List<String>> groupedColumns = FileOperationsClass.ContentReadingSubClass.getListOfValuesFromColumnGroupedByAnotherColumnValuesFromCsvFile(strFileName, intColToEval, intColToGrpBy);
-        // Define merge rules
-        final Map<List<String>, String> mergeRules = Map.of(
-                List.of("ARRAY", "OBJECT", "VARIANT"), "COMPOSITE__STRUCTURED",
-                List.of("FLOAT", "NUMBER"), "COMPOSITE__NUMERIC",
-                List.of("DATETIME", "TIMESTAMP", "TIMESTAMP_LTZ", "TIMESTAMP_NTZ", "TIMESTAMP_TZ"), "COMPOSITE__TIMESTAMP",
-                List.of("BINARY", "TEXT", "VARCHAR"), "COMPOSITE__TEXT"
-        );
-        final Map<String, List<String>> grpCols = BasicStructuresClass.ListAndMapSubClass.mergeKeys(groupedColumns, mergeRules);
+        final Map<String, List<String>> grpCols = BasicStructuresClass.ListAndMapSubClass.mergeKeys(groupedColumns, MERGE_RULES);
         final String strFeedback = "=".repeat(20) + strFileName + "=".repeat(20);
         LogExposureClass.LOGGER.info(strFeedback);
         FileOperationsClass.ContentWritingSubClass.setCsvColumnSeparator(',');
@@ -107,11 +146,71 @@ class AnalyzeColumnsFromCsvFiles implements Runnable {
         });
     }
 
+    /**
+     * Streams columns of a file writing them as they come and counting their words per data type
+     * (nothing but word counters is kept in memory, counters of merged data types being merged at the end)
+     * @param strFileName input File
+     * @param intColToEval number of column to evaluate (starting from 0)
+     * @param intColToGrpBy number of column to group by (starting from 0)
+     * @param intMaxWords largest number of distinct words kept for each data type
+     */
+    private static void streamWordFrequencyIntoCsvFile(final String strFileName, final int intColToEval, final int intColToGrpBy, final int intMaxWords) {
+        final String strColFileName = strFileName.replace(".csv", "__columns.csv");
+        final Map<String, String> mergedDataType = new HashMap<>();
+        MERGE_RULES.forEach((dataTypes, strMerged) -> dataTypes.forEach(dataType -> mergedDataType.put(dataType, strMerged)));
+        final Map<String, BasicStructuresClass.WordCounterSubClass> countersByDataType = new TreeMap<>();
+        try (BufferedWriter writer = Files.newBufferedWriter(Path.of(strColFileName), StandardCharsets.UTF_8)) {
+            writer.write("DataType,Column");
+            writer.newLine();
+            FileOperationsClass.CsvStreamingSubClass.streamCsvColumns(strFileName, ',', true, values -> {
+                try {
+                    writer.write(mergedDataType.getOrDefault(values[1], values[1]) + ',' + values[0]);
+                    writer.newLine();
+                } catch (IOException ei) {
+                    LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+                }
+                countersByDataType.computeIfAbsent(values[1], _ -> new BasicStructuresClass.WordCounterSubClass(intMaxWords)).addWordsOf(values[0]);
+            }, intColToEval, intColToGrpBy);
+        } catch (IOException ei) {
+            LogExposureClass.exposeInputOutputException(Arrays.toString(ei.getStackTrace()));
+        }
+        final Map<String, BasicStructuresClass.WordCounterSubClass> countersByGroup = new TreeMap<>();
+        countersByDataType.forEach((dataType, counter) -> countersByGroup.computeIfAbsent(mergedDataType.getOrDefault(dataType, dataType), _ -> new BasicStructuresClass.WordCounterSubClass(intMaxWords)).mergeFrom(counter));
+        final List<String> wordLines = new ArrayList<>();
+        wordLines.add("DataType,Word,Occurrences");
+        countersByGroup.forEach((strGroup, counter) -> {
+            if (counter.isApproximate()) {
+                final String strFeedbackApprox = String.format("File %s has more than %d distinct words for %s, so only most frequent ones are written with approximate (lower bound) occurrences", strFileName, intMaxWords, strGroup);
+                LogExposureClass.LOGGER.warn(strFeedbackApprox);
+            }
+            counter.getSortedCounts().forEach((strWord, occurrences) -> wordLines.add(strGroup + ',' + strWord + ',' + occurrences));
+        });
+        FileOperationsClass.ContentWritingSubClass.writeListToTextFile(strFileName.replace(".csv", "__words.csv"), wordLines);
+        final String strFeedback = String.format("File %s has been analyzed into %s and %s", strFileName, strColFileName, strFileName.replace(".csv", "__words.csv"));
+        LogExposureClass.LOGGER.info(strFeedback);
+    }
+
     @Override
     public void run() {
         final String[] inFiles = optFileNames.getInFileNames();
-        for (final String strFileName : inFiles) {
-            storeWordFrequencyIntoCsvFile(strFileName, 3, 4);
+        if (intMaxDistinctWords < 1) {
+            throw new CommandLine.ParameterException(new CommandLine(this), "Value for --maxDistinctWords has to be at least 1");
+        }
+        if (bolParallel) {
+            final List<Callable<Void>> fileTasks = new ArrayList<>();
+            for (final String strFileName : inFiles) {
+                fileTasks.add(() -> {
+                    streamWordFrequencyIntoCsvFile(strFileName, 3, 4, intMaxDistinctWords);
+                    return null;
+                });
+            }
+            try (ForkJoinPool analysisPool = new ForkJoinPool()) {
+                analysisPool.invokeAll(fileTasks);
+            }
+        } else {
+            for (final String strFileName : inFiles) {
+                storeWordFrequencyIntoCsvFile(strFileName, 3, 4);
+            }
         }
     }
 
@@ -159,6 +258,176 @@ class AnalyzePomFiles implements Runnable {
 
 }
 
+/**
+ * Archives folders into ZIP files deflating entries in parallel
+ */
+@CommandLine.Command(name = "ArchiveFoldersIntoZipFiles",
+                     description = "Archives each given folder into its own ZIP file within destination folder, deflating files in parallel")
+class ArchiveFoldersIntoZipFiles implements Runnable {
+
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.FolderNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.FolderNameOptionMixinClass optFolderNames = new CommonInteractiveClass.FolderNameOptionMixinClass();
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.FolderDestinationOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.FolderDestinationOptionMixinClass optFolderDestination = new CommonInteractiveClass.FolderDestinationOptionMixinClass();
+
+    /**
+     * Number of threads deflating files
+     */
+    @CommandLine.Option(
+        names = {"-thr", "--threads"},
+        description = "Number of threads deflating files (default is number of processors)",
+        arity = "1")
+    private int intThreads;
+
+    /**
+     * Compression level
+     */
+    @CommandLine.Option(
+        names = {"-cmpLvl", "--compressionLevel"},
+        description = "Deflate compression level from 0 (none) to 9 (best)",
+        arity = "1",
+        defaultValue = "6")
+    private int intCompressionLevel;
+
+    /**
+     * Flag for checksum manifest
+     */
+    @CommandLine.Option(
+        names = {"-mnfst", "--manifest"},
+        description = "Writes a checksum manifest (CSV file next to each archive) computed while files are read for deflating")
+    private boolean bolManifest;
+
+    @Override
+    public void run() {
+        if (intCompressionLevel < 0 || intCompressionLevel > 9) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this),
+                    "Invalid value for --compressionLevel: " + intCompressionLevel + ". Valid values are from 0 to 9"
+            );
+        }
+        if (intThreads > 0) {
+            FileOperationsClass.ArchivingSubClass.setDeflatingThreads(intThreads);
+        }
+        FileOperationsClass.ArchivingSubClass.setCompressionLevel(intCompressionLevel);
+        final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
+        final List<FileOperationsClass.ArchivingSubClass.ArchiveSummaryRecord> summaries = FileOperationsClass.ArchivingSubClass.archiveFoldersIntoZipFiles(optFolderNames.getFolderNames(), optFolderDestination.getFolderDestination(), bolManifest);
+        for (final FileOperationsClass.ArchivingSubClass.ArchiveSummaryRecord summary : summaries) {
+            final String strFeedbackArchive = String.format("Archive %s holds %d files and %d folders, %d bytes being deflated into %d bytes", summary.archive(), summary.files(), summary.folders(), summary.bytes(), summary.compressedBytes());
+            LogExposureClass.LOGGER.info(strFeedbackArchive);
+        }
+        final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+        final String strFeedback = String.format("Archives are stored in the folder %s operation completed in %s (which means %s | %s)", optFolderDestination.getFolderDestination(), objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
+        LogExposureClass.LOGGER.info(strFeedback);
+    }
+
+    /**
+     * Constructor
+     */
+    protected ArchiveFoldersIntoZipFiles() {
+        super();
+    }
+}
+
+/**
+ * Benchmarks checksum reading modes on one or more files
+ */
+@CommandLine.Command(name = "BenchmarkChecksumReadModesOnFiles",
+                     description = "Compares throughput of checksum reading modes (STREAM vs. CHANNEL) on given file(s)")
+class BenchmarkChecksumReadModesOnFiles implements Runnable {
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.FileNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.InFileNameOptionMixinClass optFileNames = new CommonInteractiveClass.InFileNameOptionMixinClass();
+
+    /**
+     * Number of rounds for each reading mode
+     */
+    @CommandLine.Option(
+        names = {"-rnd", "--rounds"},
+        description = "Number of rounds for each reading mode (best one is reported)",
+        arity = "1",
+        defaultValue = "3")
+    private int intRounds;
+
+    @Override
+    public void run() {
+        final String[] inAlgorithms = {"SHA-256", "SHA3-256"};
+        final String[] inFiles = optFileNames.getInFileNames();
+        for (final String strFileName : inFiles) {
+            final Map<String, Double> bestThroughput = FileOperationsClass.StatisticsSubClass.benchmarkChecksumReadModes(Path.of(strFileName), intRounds, inAlgorithms);
+            bestThroughput.forEach((strReadMode, dblThroughput) -> {
+                final String strFeedback = String.format(Locale.US, "For the file %s checksums %s read in %s mode reached %.2f MB/s", strFileName, Arrays.toString(inAlgorithms), strReadMode, dblThroughput);
+                LogExposureClass.LOGGER.info(strFeedback);
+            });
+        }
+    }
+
+    /**
+     * Constructor
+     */
+    protected BenchmarkChecksumReadModesOnFiles() {
+        // intentionally blank
+    }
+
+}
+
+/**
+ * Benchmarks custom SQLite regular expression functions
+ */
+@CommandLine.Command(name = "BenchmarkSqLiteRegularExpressionFunctions",
+                     description = "Measures per-row cost of SQLite regular expression functions (REGEXP_LIKE, REGEXP_REPLACE, REGEXP_SUBSTR, REGEXP_COUNT)")
+class BenchmarkSqLiteRegularExpressionFunctions implements Runnable {
+    /**
+     * Number of rows functions are evaluated on
+     */
+    @CommandLine.Option(
+        names = {"-rws", "--rows"},
+        description = "Number of rows functions are evaluated on",
+        arity = "1",
+        defaultValue = "100000")
+    private int intRows;
+
+    /**
+     * Number of rounds for each function
+     */
+    @CommandLine.Option(
+        names = {"-rnd", "--rounds"},
+        description = "Number of rounds for each function (best one is reported)",
+        arity = "1",
+        defaultValue = "3")
+    private int intRounds;
+
+    @Override
+    public void run() {
+        if (intRows < 1 || intRounds < 1) {
+            throw new CommandLine.ParameterException(new CommandLine(this), "Number of rows and rounds must be at least 1");
+        }
+        final Map<String, Double> bestCost = DatabaseOperationsClass.SpecificSqLiteSubClass.benchmarkRegularExpressionFunctions(intRows, intRounds);
+        bestCost.forEach((strFunction, dblCost) -> {
+            final String strFeedback = String.format(Locale.US, "Over %d rows %s cost %.1f ns per row", intRows, strFunction, dblCost);
+            LogExposureClass.LOGGER.info(strFeedback);
+        });
+    }
+
+    /**
+     * Constructor
+     */
+    protected BenchmarkSqLiteRegularExpressionFunctions() {
+        // intentionally blank
+    }
+
+}
+
 /**
  * clean files older than a given number of days
  */
@@ -249,18 +518,111 @@ class CaptureChecksumsOfFilesFromFoldersIntoCsvFile implements Runnable {
     @Mixin
     private final CommonInteractiveClass.OutFileNameOptionMixinClass optOutFileName = new CommonInteractiveClass.OutFileNameOptionMixinClass();
 
+    /**
+     * Number of threads computing checksums
+     */
+    @CommandLine.Option(
+        names = {"-thr", "--threads"},
+        description = "Number of threads computing checksums (default depends on storage type)",
+        arity = "1")
+    private int intThreads;
+
+    /**
+     * String for Storage Type
+     */
+    @CommandLine.Option(
+        names = {"-strgTp", "--storageType"},
+        description = "Type of storage holding the folders: SSD (as many threads as processors) or HDD (2 threads)",
+        arity = "1",
+        defaultValue = "SSD",
+        completionCandidates = StorageTypes.class)
+    private String strStorageType;
+
+    /**
+     * String for Read Mode
+     */
+    @CommandLine.Option(
+        names = {"-rdMd", "--readMode"},
+        description = "How files are read for checksums: STREAM (heap buffer) or CHANNEL (direct buffer, memory-mapped for large files)",
+        arity = "1",
+        defaultValue = "STREAM",
+        completionCandidates = ReadModes.class)
+    private String strReadMode;
+
+    /**
+     * String for Checksum Cache database
+     */
+    @CommandLine.Option(
+        names = {"-chkCch", "--checksumCache"},
+        description = "SQLite database file caching checksums of unchanged files between runs",
+        arity = "1")
+    private String strChecksumCache;
+
+    /**
+     * Flag for purging stale Checksum Cache entries
+     */
+    @CommandLine.Option(
+        names = {"-prgCch", "--purgeChecksumCache"},
+        description = "Removes cached checksums of files which are gone or have changed")
+    private boolean bolPurgeChecksumCache;
+
+    /**
+     * Listing available options
+     */
+    /* default */ static class StorageTypes implements Iterable<String> {
+        @Override
+        public Iterator<String> iterator() {
+            return FileOperationsClass.StatisticsSubClass.LST_STORAGE_TYPES.iterator();
+        }
+    }
+
+    /**
+     * Listing available options
+     */
+    /* default */ static class ReadModes implements Iterable<String> {
+        @Override
+        public Iterator<String> iterator() {
+            return FileOperationsClass.StatisticsSubClass.LST_READ_MODES.iterator();
+        }
+    }
+
     @Override
     public void run() {
+        if (!FileOperationsClass.StatisticsSubClass.LST_STORAGE_TYPES.contains(strStorageType)) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this),
+                    "Invalid value for --storageType: " + strStorageType + ". Valid values are: " + FileOperationsClass.StatisticsSubClass.LST_STORAGE_TYPES
+            );
+        }
+        if (!FileOperationsClass.StatisticsSubClass.LST_READ_MODES.contains(strReadMode)) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this),
+                    "Invalid value for --readMode: " + strReadMode + ". Valid values are: " + FileOperationsClass.StatisticsSubClass.LST_READ_MODES
+            );
+        }
         final String[] inAlgorithms = {"SHA-256", "SHA3-256"};
         FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms(inAlgorithms);
+        FileOperationsClass.StatisticsSubClass.setHashingThreads(intThreads > 0 ? intThreads : FileOperationsClass.StatisticsSubClass.getDefaultHashingThreads(strStorageType));
+        FileOperationsClass.StatisticsSubClass.setChecksumCacheDatabase(strChecksumCache);
+        FileOperationsClass.StatisticsSubClass.setChecksumReadMode(strReadMode);
         final String[] inFolders = optFolderNames.getFolderNames();
         final String outCsvFile = optOutFileName.getOutFileName();
         for (final String strFolder : inFolders) {
-            final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
-            FileOperationsClass.StatisticsSubClass.captureFileStatisticsFromFolder(strFolder, outCsvFile);
-            final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+            final FileOperationsClass.StatisticsSubClass.HashingThroughputRecord throughput = FileOperationsClass.StatisticsSubClass.captureFileStatisticsFromFolder(strFolder, outCsvFile);
+            final Duration objDuration = throughput.duration();
             final String strFeedback = String.format("For the folder %s calculated checksums are stored in the file %s operation completed in %s (which means %s | %s)", strFolder, outCsvFile, objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
             LogExposureClass.LOGGER.info(strFeedback);
+            final String strFeedbackSpeed = String.format(Locale.US, "%d files (%d bytes) hashed, which means %.2f files/s and %.2f MB/s", throughput.fileCount(), throughput.byteCount(), throughput.filesPerSecond(), throughput.megabytesPerSecond());
+            LogExposureClass.LOGGER.info(strFeedbackSpeed);
+            if (strChecksumCache != null) {
+                final String strFeedbackCache = String.format("Checksum cache had %d hits and %d misses", throughput.cacheHits(), throughput.cacheMisses());
+                LogExposureClass.LOGGER.info(strFeedbackCache);
+            }
+        }
+        if (strChecksumCache != null && bolPurgeChecksumCache) {
+            final long purgedFiles = FileOperationsClass.StatisticsSubClass.purgeStaleChecksumCacheEntries();
+            final String strFeedbackPurge = String.format("%d stale files were purged from checksum cache %s", purgedFiles, strChecksumCache);
+            LogExposureClass.LOGGER.info(strFeedbackPurge);
         }
     }
 
@@ -303,6 +665,66 @@ class CaptureEnvironmentDetailsIntoJsonFile implements Runnable {
 
 }
 
+/**
+ * Captures folder statistics (files, sub-folders and size) per sub-folder level into CSV file
+ */
+@CommandLine.Command(name = "CaptureFolderStatisticsIntoCsvFile",
+                     description = "Captures number of files, sub-folders and size of given folder(s) and their sub-folders up to a given depth into a CSV file")
+class CaptureFolderStatisticsIntoCsvFile implements Runnable {
+
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.FolderNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.FolderNameOptionMixinClass optFolderNames = new CommonInteractiveClass.FolderNameOptionMixinClass();
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.OutFileNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.OutFileNameOptionMixinClass optOutFileName = new CommonInteractiveClass.OutFileNameOptionMixinClass();
+
+    /**
+     * Depth up to which sub-folders are reported
+     */
+    @CommandLine.Option(
+        names = {"-mxDpth", "--maxDepth"},
+        description = "Depth up to which sub-folders are reported (0 for given folder(s) only)",
+        arity = "1",
+        defaultValue = "1")
+    private int intMaxDepth;
+
+    /**
+     * Number of threads walking sub-folders
+     */
+    @CommandLine.Option(
+        names = {"-thr", "--threads"},
+        description = "Number of threads walking sub-folders in parallel (default is number of processors)",
+        arity = "1")
+    private int intThreads;
+
+    @Override
+    public void run() {
+        if (intThreads > 0) {
+            FileOperationsClass.StatisticsSubClass.setWalkingThreads(intThreads);
+        }
+        final String outCsvFile = optOutFileName.getOutFileName();
+        final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
+        FileOperationsClass.StatisticsSubClass.captureFolderStatisticsByLevelIntoCsvFile(optFolderNames.getFolderNames(), intMaxDepth, outCsvFile);
+        final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+        final String strFeedback = String.format("Folder statistics are stored in the file %s operation completed in %s (which means %s | %s)", outCsvFile, objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
+        LogExposureClass.LOGGER.info(strFeedback);
+    }
+
+    /**
+     * Constructor
+     */
+    protected CaptureFolderStatisticsIntoCsvFile() {
+        super();
+    }
+}
+
 /**
  * clean files older than a given number of days
  */
@@ -323,12 +745,43 @@ class CaptureImportsFromJavaSourceFilesIntoCsvFile implements Runnable {
     @Mixin
     private final CommonInteractiveClass.OutFileNameOptionMixinClass optionOut = new CommonInteractiveClass.OutFileNameOptionMixinClass();
 
+    /**
+     * String for Imports Cache file
+     */
+    @CommandLine.Option(
+        names = {"-impCch", "--importsCache"},
+        description = "File caching imports of unchanged Java source files (by size and last modified time) between runs",
+        arity = "1")
+    private String strImportsCache;
+
+    /**
+     * Flag for package dependency graph
+     */
+    @CommandLine.Option(
+        names = {"-grph", "--dependencyGraph"},
+        description = "Also writes package fan-in/fan-out, cycles and most imported types (__packages.csv, __types.csv and __graph.json next to output file)")
+    private boolean bolDependencyGraph;
+
+    /**
+     * Number of most imported types to report
+     */
+    @CommandLine.Option(
+        names = {"-topTp", "--topTypes"},
+        description = "Number of most imported types reported within dependency graph",
+        arity = "1",
+        defaultValue = "50")
+    private int intTopTypes;
+
     @Override
     public void run() {
         final String[] inFolders = optFolderNames.getFolderNames();
         final String outCsvFile = optionOut.getOutFileName();
-        for (final String strFolder : inFolders) {
-            FileOperationsClass.ContentReadingSubClass.extractImportStatementsFromJavaSourceFilesIntoCsvFile(Path.of(strFolder), Path.of(outCsvFile));
+        final Path cacheFile = strImportsCache == null ? null : Path.of(strImportsCache);
+        final List<Path> folders = Arrays.stream(inFolders).map(Path::of).toList();
+        final List<FileOperationsClass.ContentReadingSubClass.JavaSourceHeaderRecord> headers = FileOperationsClass.ContentReadingSubClass.extractImportStatementsFromJavaSourceFilesIntoCsvFile(folders, Path.of(outCsvFile), cacheFile);
+        if (bolDependencyGraph) {
+            final String strOutPrefix = outCsvFile.endsWith(".csv") ? outCsvFile.substring(0, outCsvFile.length() - ".csv".length()) : outCsvFile;
+            FileOperationsClass.ContentReadingSubClass.capturePackageDependencyGraphIntoFiles(headers, strOutPrefix, intTopTypes);
         }
     }
 
@@ -371,7 +824,7 @@ class CaptureWindowsApplicationsInstalledIntoCsvFile implements Runnable {
  * clean files older than a given number of days
  */
 @CommandLine.Command(name = "CleanOlderFilesFromFolder",
-                     description = "Clean files older than a given number of days")
+                     description = "Clean files older than a given number of days and/or least recently used files beyond a quota")
 class CleanOlderFilesFromFolder implements Runnable {
 
     /**
@@ -387,35 +840,199 @@ class CleanOlderFilesFromFolder implements Runnable {
             names = {"-dLmt", "--daysOlderLimit"},
             description = "Limit number of days to remove files from",
             arity = "1",
-            required = true)
+            defaultValue = "-1")
     private int intDaysOlderLimit;
 
-    @Override
-    public void run() {
-        FileOperationsClass.DeletingSubClass.OlderClass.setCleanedFolderStatistics(true);
-        final String[] inFolders = optFolderNames.getFolderNames();
-        for (final String strFolder : inFolders) {
-            FileOperationsClass.DeletingSubClass.OlderClass.setOrResetCleanedFolderStatistics();
-            FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesOlderThanGivenDays(strFolder, intDaysOlderLimit);
-            final Map<String, Long> statsClndFldr = FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderStatistics();
-            final String strFeedback = String.format("Folder %s has been cleaned eliminating %s files and freeing %s bytes in terms of disk space...", strFolder, statsClndFldr.get("Files"), statsClndFldr.get("Size"));
-            LogExposureClass.LOGGER.info(strFeedback);
-        }
-    }
+    /**
+     * Quota in bytes
+     */
+    @CommandLine.Option(
+            names = {"-qtB", "--quotaBytes"},
+            description = "Keeps every folder under given size (in bytes) removing least recently used files first",
+            arity = "1",
+            defaultValue = "-1")
+    private long lngQuotaBytes;
 
     /**
-     * Constructor
+     * String for Eviction Policy
      */
-    protected CleanOlderFilesFromFolder() {
-        super();
-    }
-}
+    @CommandLine.Option(
+            names = {"-evPlc", "--evictionPolicy"},
+            description = "Which files are least recently used for quota: MODIFIED (oldest last modified time) or ACCESSED (oldest last access time)",
+            arity = "1",
+            defaultValue = "MODIFIED",
+            completionCandidates = EvictionPolicies.class)
+    private String strEvictionPolicy;
 
-/**
- * clean files older than a given number of days
- */
-@CommandLine.Command(name = "ExperimentalFeature",
-                     description = "Run the experimental new feature")
+    /**
+     * Flag for Dry Run
+     */
+    @CommandLine.Option(
+            names = {"-dRn", "--dryRun"},
+            description = "Only reports what would be removed, without removing anything")
+    private boolean bolDryRun;
+
+    /**
+     * Flag for removing folders left empty
+     */
+    @CommandLine.Option(
+            names = {"-rmEmFld", "--removeEmptyFolders"},
+            description = "Removes sub-folders left empty once their older files are removed")
+    private boolean bolRemoveEmptyFolders;
+
+    /**
+     * Number of threads cleaning folders
+     */
+    @CommandLine.Option(
+            names = {"-thr", "--threads"},
+            description = "Number of threads cleaning folders in parallel (default is number of processors)",
+            arity = "1")
+    private int intThreads;
+
+    /**
+     * String for report FileName
+     */
+    @CommandLine.Option(
+            names = {"-rptFl", "--reportFile"},
+            description = "CSV file receiving one row for each folder having something cleaned",
+            arity = "1")
+    private String strReportFile;
+
+    /**
+     * Listing available options
+     */
+    /* default */ static class EvictionPolicies implements Iterable<String> {
+        @Override
+        public Iterator<String> iterator() {
+            return FileOperationsClass.DeletingSubClass.OlderClass.LST_EVICTION_POLICIES.iterator();
+        }
+    }
+
+    @Override
+    public void run() {
+        if (intDaysOlderLimit < 0 && lngQuotaBytes < 0) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this),
+                    "At least one of --daysOlderLimit or --quotaBytes has to be given"
+            );
+        }
+        if (!FileOperationsClass.DeletingSubClass.OlderClass.LST_EVICTION_POLICIES.contains(strEvictionPolicy)) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this),
+                    "Invalid value for --evictionPolicy: " + strEvictionPolicy + ". Valid values are: " + FileOperationsClass.DeletingSubClass.OlderClass.LST_EVICTION_POLICIES
+            );
+        }
+        FileOperationsClass.DeletingSubClass.OlderClass.setCleanedFolderStatistics(true);
+        FileOperationsClass.DeletingSubClass.OlderClass.setDryRun(bolDryRun);
+        FileOperationsClass.DeletingSubClass.OlderClass.setRemoveEmptyFolders(bolRemoveEmptyFolders);
+        if (intThreads > 0) {
+            FileOperationsClass.DeletingSubClass.OlderClass.setCleaningThreads(intThreads);
+        }
+        final List<FileOperationsClass.DeletingSubClass.OlderClass.CleanedFolderRecord> cleanedFolders = new ArrayList<>();
+        final String[] inFolders = optFolderNames.getFolderNames();
+        for (final String strFolder : inFolders) {
+            FileOperationsClass.DeletingSubClass.OlderClass.setOrResetCleanedFolderStatistics();
+            long lngOlderCutoff = Long.MIN_VALUE;
+            if (intDaysOlderLimit >= 0) {
+                lngOlderCutoff = FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesOlderThanGivenDays(strFolder, intDaysOlderLimit);
+            }
+            // files selected by age are left out, as in dry run these are still there
+            if (lngQuotaBytes >= 0) {
+                FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesBeyondQuota(strFolder, lngQuotaBytes, strEvictionPolicy, lngOlderCutoff);
+            }
+            final Map<String, Long> statsClndFldr = FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderStatistics();
+            final String strFeedback = String.format("Folder %s %s cleaned eliminating %s files and %s empty sub-folders and freeing %s bytes in terms of disk space (%s failures)...", strFolder, bolDryRun ? "would have been" : "has been", statsClndFldr.get("Files"), statsClndFldr.get("Folders"), statsClndFldr.get("Size"), statsClndFldr.get("Failures"));
+            LogExposureClass.LOGGER.info(strFeedback);
+            cleanedFolders.addAll(FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderReport());
+        }
+        if (strReportFile != null) {
+            final List<String> reportLines = new ArrayList<>();
+            reportLines.add("Folder;Files;Size;Folder Removed");
+            for (final FileOperationsClass.DeletingSubClass.OlderClass.CleanedFolderRecord cleanedFolder : cleanedFolders) {
+                reportLines.add(cleanedFolder.folder() + ';' + cleanedFolder.files() + ';' + cleanedFolder.bytes() + ';' + cleanedFolder.isFolderRemoved());
+            }
+            FileOperationsClass.ContentWritingSubClass.writeListToTextFile(strReportFile, reportLines);
+        }
+    }
+
+    /**
+     * Constructor
+     */
+    protected CleanOlderFilesFromFolder() {
+        super();
+    }
+}
+
+/**
+ * Compares files of a target folder against a source folder
+ */
+@CommandLine.Command(name = "CompareFilesOfTwoFoldersIntoCsvFile",
+                     description = "Compares files of a target folder against a source folder by size, last modified time and (when these differ) content, reporting added, changed, removed and touched files into a CSV file")
+class CompareFilesOfTwoFoldersIntoCsvFile implements Runnable {
+
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.OutFileNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.OutFileNameOptionMixinClass optOutFileName = new CommonInteractiveClass.OutFileNameOptionMixinClass();
+
+    /**
+     * String for source folder
+     */
+    @CommandLine.Option(
+        names = {"-srcFld", "--sourceFolder"},
+        description = "Source folder (i.e. the original)",
+        arity = "1",
+        required = true)
+    private String strSourceFolder;
+
+    /**
+     * String for target folder
+     */
+    @CommandLine.Option(
+        names = {"-trgFld", "--targetFolder"},
+        description = "Target folder (i.e. the replica)",
+        arity = "1",
+        required = true)
+    private String strTargetFolder;
+
+    /**
+     * Flag for metadata only comparison
+     */
+    @CommandLine.Option(
+        names = {"-nHsh", "--noHashing"},
+        description = "Compares only size and last modified time, never reading file content")
+    private boolean bolNoHashing;
+
+    @Override
+    public void run() {
+        final String outCsvFile = optOutFileName.getOutFileName();
+        final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
+        final FileOperationsClass.StatisticsSubClass.FolderComparisonSummaryRecord summary = FileOperationsClass.StatisticsSubClass.compareFoldersIntoCsvFile(strSourceFolder, strTargetFolder, bolNoHashing ? null : "SHA-256", outCsvFile);
+        if (summary == null) {
+            throw new CommandLine.ParameterException(new CommandLine(this), "Source and target have to be readable folders");
+        }
+        final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+        final String strFeedback = String.format("Comparison differences are stored in the file %s operation completed in %s (which means %s | %s)", outCsvFile, objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
+        LogExposureClass.LOGGER.info(strFeedback);
+        final String strFeedbackSummary = String.format("Compared to source, %d files are unchanged, %d touched and %d changed, while %d files were added and %d removed; %d file pairs had to be hashed", summary.unchanged(), summary.touched(), summary.changed(), summary.added(), summary.removed(), summary.hashed());
+        LogExposureClass.LOGGER.info(strFeedbackSummary);
+    }
+
+    /**
+     * Constructor
+     */
+    protected CompareFilesOfTwoFoldersIntoCsvFile() {
+        super();
+    }
+}
+
+/**
+ * clean files older than a given number of days
+ */
+@CommandLine.Command(name = "ExperimentalFeature",
+                     description = "Run the experimental new feature")
 class ExperimentalFeature implements Runnable {
 
     @Override
@@ -447,6 +1064,68 @@ class ExperimentalFeature implements Runnable {
     }
 }
 
+/**
+ * Finds duplicate files across one or more folders
+ */
+@CommandLine.Command(name = "FindDuplicateFilesInFolders",
+                     description = "Finds duplicate files across given folder(s) into a CSV file, reading as little as possible")
+class FindDuplicateFilesInFolders implements Runnable {
+
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.FolderNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.FolderNameOptionMixinClass optFolderNames = new CommonInteractiveClass.FolderNameOptionMixinClass();
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.OutFileNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.OutFileNameOptionMixinClass optOutFileName = new CommonInteractiveClass.OutFileNameOptionMixinClass();
+
+    /**
+     * Number of threads computing checksums
+     */
+    @CommandLine.Option(
+        names = {"-thr", "--threads"},
+        description = "Number of threads computing checksums (default is number of processors)",
+        arity = "1")
+    private int intThreads;
+
+    /**
+     * Smallest file size to consider
+     */
+    @CommandLine.Option(
+        names = {"-minSz", "--minSize"},
+        description = "Smallest file size (in bytes) worth considering",
+        arity = "1",
+        defaultValue = "1")
+    private long lngMinimumSize;
+
+    @Override
+    public void run() {
+        if (intThreads > 0) {
+            FileOperationsClass.StatisticsSubClass.setHashingThreads(intThreads);
+        }
+        final String outCsvFile = optOutFileName.getOutFileName();
+        final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
+        final FileOperationsClass.DuplicatesSubClass.DuplicatesSummaryRecord summary = FileOperationsClass.DuplicatesSubClass.captureDuplicateFilesIntoCsvFile(optFolderNames.getFolderNames(), lngMinimumSize, outCsvFile);
+        final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+        final String strFeedback = String.format("Duplicate files are stored in the file %s operation completed in %s (which means %s | %s)", outCsvFile, objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
+        LogExposureClass.LOGGER.info(strFeedback);
+        final String strFeedbackSummary = String.format(Locale.US, "Out of %d files (%d bytes) scanned, %d files are duplicates within %d groups and %d bytes could be reclaimed; only %d bytes (%.2f%%) had to be read", summary.scannedFiles(), summary.scannedBytes(), summary.duplicateFiles(), summary.duplicateGroups(), summary.reclaimableBytes(), summary.bytesRead(), summary.scannedBytes() == 0 ? 0.0 : summary.bytesRead() * 100.0 / summary.scannedBytes());
+        LogExposureClass.LOGGER.info(strFeedbackSummary);
+    }
+
+    /**
+     * Constructor
+     */
+    protected FindDuplicateFilesInFolders() {
+        super();
+    }
+}
+
 /**
  * clean files older than a given number of days
  */
@@ -496,6 +1175,46 @@ class GetInformationFromDatabase implements Runnable {
         completionCandidates = InfoTypes.class)
     private String strInfoType;
 
+    /**
+     * Number of rows fetched at once
+     */
+    @CommandLine.Option(
+        names = {"-ftchSz", "--fetchSize"},
+        description = "Number of rows JDBC driver fetches from server at once (rows are logged as they arrive)",
+        arity = "1",
+        defaultValue = "1000")
+    private int intFetchSize;
+
+    /**
+     * Maximum number of pooled connections
+     */
+    @CommandLine.Option(
+        names = {"-plSz", "--maxPoolSize"},
+        description = "Maximum number of connections (active and idle) kept for each database target",
+        arity = "1",
+        defaultValue = "4")
+    private int intMaxPoolSize;
+
+    /**
+     * Maximum wait for a pooled connection
+     */
+    @CommandLine.Option(
+        names = {"-plWt", "--maxWait"},
+        description = "Time (in milliseconds) to wait for a connection while pool is exhausted",
+        arity = "1",
+        defaultValue = "30000")
+    private long lngMaxWait;
+
+    /**
+     * Idle timeout of pooled connections
+     */
+    @CommandLine.Option(
+        names = {"-plIdl", "--idleTimeout"},
+        description = "Time (in milliseconds) after which an idle pooled connection is closed",
+        arity = "1",
+        defaultValue = "300000")
+    private long lngIdleTimeout;
+
     /**
      * Listing available options
      */
@@ -552,6 +1271,16 @@ class GetInformationFromDatabase implements Runnable {
                     "Invalid value for --informationType: " + strInfoType + ". Valid values are: " + LST_INFO_TYPES
             );
         }
+        if (intMaxPoolSize < 1 || lngMaxWait < 1 || lngIdleTimeout < 1) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this),
+                    "Values for --maxPoolSize, --maxWait and --idleTimeout have to be at least 1"
+            );
+        }
+        DatabaseOperationsClass.ResultSettingSubClass.setFetchSize(intFetchSize);
+        DatabaseOperationsClass.ConnectionPoolSubClass.setMaxPoolSize(intMaxPoolSize);
+        DatabaseOperationsClass.ConnectionPoolSubClass.setMaxWait(lngMaxWait);
+        DatabaseOperationsClass.ConnectionPoolSubClass.setIdleTimeout(lngIdleTimeout);
         performAction(strDbType, strInfoType);
     }
 
@@ -563,11 +1292,71 @@ class GetInformationFromDatabase implements Runnable {
     }
 }
 
+/**
+ * Captures largest files and sub-folders from given folders into CSV file
+ */
+@CommandLine.Command(name = "GetLargestFilesAndFoldersFromFolders",
+                     description = "Captures N largest files and N largest sub-folders from given folder(s) into a CSV file")
+class GetLargestFilesAndFoldersFromFolders implements Runnable {
+
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.FolderNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.FolderNameOptionMixinClass optFolderNames = new CommonInteractiveClass.FolderNameOptionMixinClass();
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.OutFileNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.OutFileNameOptionMixinClass optOutFileName = new CommonInteractiveClass.OutFileNameOptionMixinClass();
+
+    /**
+     * Number of largest files and sub-folders reported
+     */
+    @CommandLine.Option(
+        names = {"-top", "--topEntries"},
+        description = "Number of largest files and of largest sub-folders reported",
+        arity = "1",
+        defaultValue = "20")
+    private int intTopEntries;
+
+    /**
+     * Number of threads walking sub-folders
+     */
+    @CommandLine.Option(
+        names = {"-thr", "--threads"},
+        description = "Number of threads walking sub-folders in parallel (default is number of processors)",
+        arity = "1")
+    private int intThreads;
+
+    @Override
+    public void run() {
+        if (intThreads > 0) {
+            FileOperationsClass.StatisticsSubClass.setWalkingThreads(intThreads);
+        }
+        final String outCsvFile = optOutFileName.getOutFileName();
+        final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
+        FileOperationsClass.StatisticsSubClass.captureLargestEntriesIntoCsvFile(optFolderNames.getFolderNames(), intTopEntries, outCsvFile);
+        final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+        final String strFeedback = String.format("Largest files and folders are stored in the file %s operation completed in %s (which means %s | %s)", outCsvFile, objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
+        LogExposureClass.LOGGER.info(strFeedback);
+    }
+
+    /**
+     * Constructor
+     */
+    protected GetLargestFilesAndFoldersFromFolders() {
+        super();
+    }
+}
+
 /**
  * Captures sub-folder from a Given Folder into Log file
  */
 @CommandLine.Command(name = "GetSubFoldersFromFolders",
-                     description = "Captures sub-folders from a Given Folder into Log file")
+                     description = "Captures sub-folders from a Given Folder into Log file (or into a CSV/JSON file with counts of their content)")
 class GetSubFoldersFromFolders implements Runnable {
 
     /**
@@ -577,12 +1366,77 @@ class GetSubFoldersFromFolders implements Runnable {
     @Mixin
     private final CommonInteractiveClass.FolderNameOptionMixinClass optFolderNames = new CommonInteractiveClass.FolderNameOptionMixinClass();
 
+    /**
+     * String for out FileName
+     */
+    @CommandLine.Option(
+        names = {"-of", "--outFileName"},
+        description = "Destination file to stream sub-folders into (without it sub-folders are logged)",
+        arity = "1")
+    private String strOutFileName;
+
+    /**
+     * String for Output Format
+     */
+    @CommandLine.Option(
+        names = {"-fmt", "--outputFormat"},
+        description = "Format of destination file: CSV or JSON",
+        arity = "1",
+        defaultValue = "CSV",
+        completionCandidates = OutputFormats.class)
+    private String strOutputFormat;
+
+    /**
+     * Depth up to which sub-folders are discovered
+     */
+    @CommandLine.Option(
+        names = {"-mxDpth", "--maxDepth"},
+        description = "Depth up to which sub-folders are discovered (1 for direct sub-folders only)",
+        arity = "1",
+        defaultValue = "1")
+    private int intMaxDepth;
+
+    /**
+     * Number of threads discovering sub-folders
+     */
+    @CommandLine.Option(
+        names = {"-thr", "--threads"},
+        description = "Number of threads discovering sub-folders in parallel (default is number of processors)",
+        arity = "1")
+    private int intThreads;
+
+    /**
+     * Listing available options
+     */
+    /* default */ static class OutputFormats implements Iterable<String> {
+        @Override
+        public Iterator<String> iterator() {
+            return FileOperationsClass.RetrievingSubClass.LST_SUB_FOLDER_FORMATS.iterator();
+        }
+    }
+
     @Override
     public void run() {
+        if (!FileOperationsClass.RetrievingSubClass.LST_SUB_FOLDER_FORMATS.contains(strOutputFormat)) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this),
+                    "Invalid value for --outputFormat: " + strOutputFormat + ". Valid values are: " + FileOperationsClass.RetrievingSubClass.LST_SUB_FOLDER_FORMATS
+            );
+        }
+        if (intThreads > 0) {
+            FileOperationsClass.RetrievingSubClass.setDiscoveryThreads(intThreads);
+        }
         final String[] inFolders = optFolderNames.getFolderNames();
-        for (final String strFolder : inFolders) {
-            final List<String> arraySubFolders = FileOperationsClass.RetrievingSubClass.getSubFoldersFromFolder(strFolder);
-            final String strFeedback = String.format("Considering folder %s following sub-folders were found: %s", strFolder, arraySubFolders);
+        if (strOutFileName == null) {
+            FileOperationsClass.RetrievingSubClass.streamSubFoldersFromFolders(inFolders, intMaxDepth, subFolder -> {
+                final String strFeedback = String.format("Sub-folder %s found (depth %d) holding %d files, %d sub-folders and %d bytes", subFolder.folder(), subFolder.depth(), subFolder.files(), subFolder.folders(), subFolder.bytes());
+                LogExposureClass.LOGGER.info(strFeedback);
+            });
+        } else {
+            final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
+            final long subFolders = FileOperationsClass.RetrievingSubClass.captureSubFoldersFromFoldersIntoFile(inFolders, intMaxDepth, strOutFileName, strOutputFormat);
+            final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+            final String strFeedback = String.format("%d sub-folders are stored in the file %s operation completed in %s (which means %s | %s)", subFolders, strOutFileName, objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
             LogExposureClass.LOGGER.info(strFeedback);
         }
     }
@@ -626,6 +1480,16 @@ class JavaJavaWebUserInterface implements Runnable {
     )
     private static long portNumber;
 
+    /**
+     * String for Checksum Cache database
+     */
+    @CommandLine.Option(
+        names = {"-chkCch", "--checksumCache"},
+        description = "SQLite database file caching checksums of unchanged files between page loads",
+        arity = BasicStructuresClass.ARITY_ONLY_ONE
+    )
+    private static String strChecksumCache;
+
     /**
      * adds the options defined in 
      * CommonInteractiveClass.FolderNameOptionMixinClass to this command
@@ -639,6 +1503,7 @@ class JavaJavaWebUserInterface implements Runnable {
         DatabaseOperationsClass.SpecificSqLiteSubClass.setInternalDatabase(strDbReleases);
         WebClass.SoftwareReleasesSubClass.setReleasesDatabase(strDbReleases);
         WebClass.setFolderNamesForChecksumExposure(optFolderNames.getFolderNames());
+        FileOperationsClass.StatisticsSubClass.setChecksumCacheDatabase(strChecksumCache);
         UndertowClass.setRootHandler(WebClass.handleWebContent());
         UndertowClass.runWebServer();
     }
@@ -650,3 +1515,116 @@ class JavaJavaWebUserInterface implements Runnable {
         // intentionally blank
     }
 }
+
+/**
+ * Profiles every column of CSV files
+ */
+@CommandLine.Command(name = "ProfileColumnsFromCsvFiles",
+                     description = "Profiles every column of CSV file(s): rows, nulls, lengths, inferred type and approximate distinct values")
+class ProfileColumnsFromCsvFiles implements Runnable {
+
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.InFileNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.InFileNameOptionMixinClass optFileNames = new CommonInteractiveClass.InFileNameOptionMixinClass();
+
+    /**
+     * Column separator
+     */
+    @CommandLine.Option(
+        names = {"-sep", "--separator"},
+        description = "Column separator of CSV file(s)",
+        arity = "1",
+        defaultValue = ",")
+    private char chSeparator;
+
+    @Override
+    public void run() {
+        for (final String strFileName : optFileNames.getInFileNames()) {
+            final String outCsvFile = strFileName.replace(".csv", "__profile.csv");
+            final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
+            final long rowCount = FileOperationsClass.CsvStreamingSubClass.profileCsvColumnsIntoCsvFile(strFileName, chSeparator, outCsvFile);
+            final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+            final String strFeedback = String.format("Profile of %d rows from %s file is stored in the file %s operation completed in %s (which means %s | %s)", rowCount, strFileName, outCsvFile, objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
+            LogExposureClass.LOGGER.info(strFeedback);
+        }
+    }
+
+    /**
+     * Constructor
+     */
+    protected ProfileColumnsFromCsvFiles() {
+        super();
+    }
+}
+
+/**
+ * Verifies files within folders against checksums previously captured into CSV file(s)
+ */
+@CommandLine.Command(name = "VerifyChecksumsOfFilesFromFoldersAgainstCsvFile",
+                     description = "Verifies files within given folder(s) against checksum manifest(s) reporting added, changed, missing and touched files into a CSV file")
+class VerifyChecksumsOfFilesFromFoldersAgainstCsvFile implements Runnable {
+
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.FolderNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.FolderNameOptionMixinClass optFolderNames = new CommonInteractiveClass.FolderNameOptionMixinClass();
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.InFileNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.InFileNameOptionMixinClass optInFileNames = new CommonInteractiveClass.InFileNameOptionMixinClass();
+    /**
+     * adds the options defined in 
+     * CommonInteractiveClass.OutFileNameOptionMixinClass to this command
+     */
+    @Mixin
+    private final CommonInteractiveClass.OutFileNameOptionMixinClass optOutFileName = new CommonInteractiveClass.OutFileNameOptionMixinClass();
+
+    /**
+     * Number of threads computing checksums
+     */
+    @CommandLine.Option(
+        names = {"-thr", "--threads"},
+        description = "Number of threads computing checksums (default is number of processors)",
+        arity = "1")
+    private int intThreads;
+
+    /**
+     * Flag for fast verification
+     */
+    @CommandLine.Option(
+        names = {"-fst", "--fast"},
+        description = "Re-hashes only files having size or last modified time different from manifest")
+    private boolean bolFastMode;
+
+    @Override
+    public void run() {
+        if (intThreads > 0) {
+            FileOperationsClass.StatisticsSubClass.setHashingThreads(intThreads);
+        }
+        final String outCsvFile = optOutFileName.getOutFileName();
+        final ZonedDateTime startComputeTime = ZonedDateTime.now(ZoneId.systemDefault());
+        final FileOperationsClass.StatisticsSubClass.VerificationSummaryRecord summary = FileOperationsClass.StatisticsSubClass.verifyFileStatisticsAgainstManifest(optFolderNames.getFolderNames(), optInFileNames.getInFileNames(), bolFastMode, outCsvFile);
+        if (summary == null) {
+            throw new CommandLine.ParameterException(new CommandLine(this), "Manifest file(s) cannot be read or have no usable checksum column");
+        }
+        final Duration objDuration = Duration.between(startComputeTime, ZonedDateTime.now(ZoneId.systemDefault()));
+        final String strFeedback = String.format("Verification differences are stored in the file %s operation completed in %s (which means %s | %s)", outCsvFile, objDuration.toString(), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "HumanReadableTime"), TimingClass.ConversionSubClass.convertNanosecondsIntoSomething(objDuration, "TimeClock"));
+        LogExposureClass.LOGGER.info(strFeedback);
+        final String strFeedbackSummary = String.format("Out of %d files within manifest(s), %d are unchanged, %d touched, %d changed and %d missing, while %d files were added; %d files had to be re-hashed", summary.manifestFiles(), summary.unchanged(), summary.touched(), summary.changed(), summary.missing(), summary.added(), summary.rehashed());
+        LogExposureClass.LOGGER.info(strFeedbackSummary);
+    }
+
+    /**
+     * Constructor
+     */
+    protected VerifyChecksumsOfFilesFromFoldersAgainstCsvFile() {
+        super();
+    }
+}
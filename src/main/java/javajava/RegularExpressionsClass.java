@@ -1,11 +1,13 @@
 package javajava;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SequencedMap;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -122,6 +124,24 @@ public final class RegularExpressionsClass {
         return count;
     }
 
+    /**
+     * Count matches of a pattern within text
+     * @param text to search within
+     * @param regex pattern to search for
+     * @param fromIndex index within text where search starts
+     * @return number of matches (0 when index is beyond text)
+     */
+    public static int countPatternMatches(final String text, final String regex, final int fromIndex) {
+        int count = 0;
+        if (fromIndex <= text.length()) {
+            final Matcher matcher = PatternCacheSubClass.getPattern(regex).matcher(text).region(fromIndex, text.length());
+            while (matcher.find()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * check if pattern exists into text
      * @param text to search within
@@ -129,7 +149,7 @@ public final class RegularExpressionsClass {
      * @return int
      */
     public static int doesExist(final String text, final String pattern) {
-        final Pattern regex = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+        final Pattern regex = PatternCacheSubClass.getPattern(pattern, Pattern.CASE_INSENSITIVE);
         final Matcher matcher = regex.matcher(text);
         return matcher.find() ? 1 : 0;
     }
@@ -161,7 +181,7 @@ public final class RegularExpressionsClass {
      */
     public static List<String> extractMatches(final String text, final String regex) {
         final List<String> matches = new ArrayList<>();
-        final Pattern pattern = Pattern.compile(regex);
+        final Pattern pattern = PatternCacheSubClass.getPattern(regex);
         final Matcher matcher = pattern.matcher(text);
         while (matcher.find()) {
             matches.add(matcher.group()); // group() or group(0) returns the entire matched sequence
@@ -169,6 +189,29 @@ public final class RegularExpressionsClass {
         return matches;
     }
 
+    /**
+     * Extracts a single occurrence of a given regex pattern from a text
+     * @param text to search within
+     * @param regex pattern to search for
+     * @param fromIndex index within text where search starts
+     * @param occurrence which match to extract (1 for first one)
+     * @return matched text (null when there is no such occurrence)
+     */
+    public static String extractPatternMatch(final String text, final String regex, final int fromIndex, final int occurrence) {
+        String match = null;
+        if (fromIndex <= text.length()) {
+            final Matcher matcher = PatternCacheSubClass.getPattern(regex).matcher(text).region(fromIndex, text.length());
+            int count = 0;
+            while (count < occurrence && matcher.find()) {
+                count++;
+            }
+            if (count == occurrence && occurrence > 0) {
+                match = matcher.group();
+            }
+        }
+        return match;
+    }
+
     /**
      * Helper to find which named group was actually hit by the regex
      * @param result match result group
@@ -312,10 +355,88 @@ public final class RegularExpressionsClass {
 
     }
 
+    /**
+     * Bounded cache of compiled patterns, shared by all threads
+     * (for patterns evaluated over and over, such as SQL functions called for every row)
+     */
+    public static final class PatternCacheSubClass {
+        /**
+         * Compiled patterns by regular expression and flags
+         */
+        private static final Map<PatternKeyRecord, Pattern> PATTERNS = new ConcurrentHashMap<>();
+        /**
+         * Maximum number of cached patterns
+         */
+        private static int maxPatterns = 256;
+
+        /**
+         * Cache key
+         * @param regex regular expression
+         * @param flags compilation flags
+         */
+        private record PatternKeyRecord(String regex, int flags) {}
+
+        /**
+         * Compiled pattern without flags
+         * @param strRegex regular expression
+         * @return Pattern
+         */
+        public static Pattern getPattern(final String strRegex) {
+            return getPattern(strRegex, 0);
+        }
+
+        /**
+         * Compiled pattern, compiling it only when not cached already
+         * (once cache is full an arbitrary pattern is dropped to make room)
+         * @param strRegex regular expression
+         * @param flags compilation flags
+         * @return Pattern
+         */
+        public static Pattern getPattern(final String strRegex, final int flags) {
+            final PatternKeyRecord key = new PatternKeyRecord(strRegex, flags);
+            Pattern pattern = PATTERNS.get(key);
+            if (pattern == null) {
+                final Iterator<PatternKeyRecord> cachedKeys = PATTERNS.keySet().iterator();
+                while (PATTERNS.size() >= maxPatterns && cachedKeys.hasNext()) {
+                    cachedKeys.next();
+                    cachedKeys.remove();
+                }
+                pattern = PATTERNS.computeIfAbsent(key, patternKey -> Pattern.compile(patternKey.regex(), patternKey.flags()));
+            }
+            return pattern;
+        }
+
+        /**
+         * Number of cached patterns
+         * @return int
+         */
+        public static int getCachedPatternCount() {
+            return PATTERNS.size();
+        }
+
+        /**
+         * Setter for maximum number of cached patterns
+         * @param inMaxPatterns maximum number of cached patterns
+         */
+        public static void setMaxPatterns(final int inMaxPatterns) {
+            maxPatterns = inMaxPatterns;
+        }
+
+        // Private constructor to prevent instantiation
+        private PatternCacheSubClass() {
+            // intentionally blank
+        }
+
+    }
+
     /**
      * Validation logic using Regular Expressions
      */
     public static final class ValidationSubClass {
+        /**
+         * Validation patterns compiled once for each map identifier
+         */
+        private static final Map<String, Pattern> VALIDATION_PATTERNS = new ConcurrentHashMap<>();
 
         /**
          * Check if String is actually Date
@@ -326,11 +447,13 @@ public final class RegularExpressionsClass {
         public static boolean isStringActuallySomething(final String inputString, final String mapIdentifier) {
             boolean bolReturn = false;
             if (inputString != null) {
-                String regularExpression = REGEXP_VERSION;
-                if (!"version".equalsIgnoreCase(mapIdentifier)) {
-                    regularExpression = MAP_PATTERNS.get(mapIdentifier).get(STR_REG_EXP);
-                }
-                final Pattern pattern = Pattern.compile(regularExpression);
+                final Pattern pattern = VALIDATION_PATTERNS.computeIfAbsent(mapIdentifier, identifier -> {
+                    String regularExpression = REGEXP_VERSION;
+                    if (!"version".equalsIgnoreCase(identifier)) {
+                        regularExpression = MAP_PATTERNS.get(identifier).get(STR_REG_EXP);
+                    }
+                    return Pattern.compile(regularExpression);
+                });
                 bolReturn = pattern.matcher(inputString).matches();
             }
             return bolReturn;
@@ -3,6 +3,7 @@ package javajava;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -38,6 +39,10 @@ public final class TimingClass {
      * used for duration and time-stamp formatting.
      */
     private static final Map<String, String> TIME_FORMATS;
+    /**
+     * Formatter for file times
+     */
+    private static final DateTimeFormatter FILE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.US);
 
     static {
         // Initialize the concurrent map
@@ -61,13 +66,7 @@ public final class TimingClass {
     public static String getFileLastModifiedTimeAsHumanReadableFormat(@NonNull final Path file) {
         String lastModifTime = null;
         try {
-            final long modifTime = Files.getLastModifiedTime(file).toMillis();
-            // Convert to Instant
-            final Instant instant = Instant.ofEpochMilli(modifTime);
-            // Convert to LocalDateTime in system default zone
-            final LocalDateTime dateTime = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
-            final DateTimeFormatter fixedFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.US);
-            lastModifTime = dateTime.format(fixedFormatter);
+            lastModifTime = getFileTimeAsHumanReadableFormat(Files.getLastModifiedTime(file));
         } catch (IOException ei) {
             final String strFeedback = String.format("Error encountered when attempting to get %s file(s) from %s folder", file.getParent(), file.getFileName());
             LogExposureClass.exposeInputOutputException(strFeedback, Arrays.toString(ei.getStackTrace()));
@@ -75,6 +74,19 @@ public final class TimingClass {
         return lastModifTime;
     }
 
+    /**
+     * get file time (already known, i.e. from file attributes) as human-readable format
+     * @param fileTime given file time
+     * @return String
+     */
+    public static String getFileTimeAsHumanReadableFormat(@NonNull final FileTime fileTime) {
+        // Convert to Instant
+        final Instant instant = Instant.ofEpochMilli(fileTime.toMillis());
+        // Convert to LocalDateTime in system default zone
+        final LocalDateTime dateTime = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        return dateTime.format(FILE_TIME_FORMATTER);
+    }
+
     /**
      * Zone Friendly logic
      * @param zoneId zone identifier
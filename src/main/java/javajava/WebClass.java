@@ -5,6 +5,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +40,10 @@ public final class WebClass {
                     BasicStructuresClass.STR_ICON, "fa-solid fa-hashtag",
                     BasicStructuresClass.STR_MENU, "Downloads File Hashing",
                     BasicStructuresClass.STR_TITLE, "Downloads File Hashing")),
+            Map.entry(BasicStructuresClass.STR_LARGEST_ENTRIES, Map.of(
+                    BasicStructuresClass.STR_ICON, "fa-solid fa-hard-drive",
+                    BasicStructuresClass.STR_MENU, "Largest Files and Folders",
+                    BasicStructuresClass.STR_TITLE, "Largest Files and Folders")),
             Map.entry(BasicStructuresClass.STR_ENV_DTLS, Map.of(
                     BasicStructuresClass.STR_ICON, "fa-solid fa-computer",
                     BasicStructuresClass.STR_MENU, "Environment Details",
@@ -50,6 +55,8 @@ public final class WebClass {
                     (v1, _) -> v1, 
                     LinkedHashMap::new)  // Ensures it returns a SequencedMap
     );
+    /** Number of largest files and of largest folders exposed */
+    private static final int WEB_TOP_ENTRIES = 25;
     /** Variable for Folders relevant for Checksum Exposure */
     private static String[] strFolderNames;
 
@@ -69,22 +76,53 @@ public final class WebClass {
     }
 
     /**
-     * Outputs file statistics into an HTML table
-     * @return String
+     * Writes file statistics into an HTML table, row by row as files are hashed
+     * (nothing is accumulated, so memory does not grow with number of files)
+     * @param htmlSink receiver of HTML fragments
      */
-    private static String getFileHashingAsHtmlTable() {
+    private static void writeFileHashingAsHtmlTable(final Consumer<String> htmlSink) {
         final String[] inAlgorithms = {"SHA-256"};
-        FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms(inAlgorithms);
-        final List<Properties> foldersStatistics = new ArrayList<>();
+        final List<String> desiredOrder = List.of("Folder", "File", "Size [bytes]", "Last Modified Time", "SHA-256");
+        // table has its own state, so pages rendered meanwhile cannot interleave their rows with it
+        final HtmlClass.TableSubClass.TableWriterClass tableWriter = new HtmlClass.TableSubClass.TableWriterClass(new Properties(), htmlSink);
         for(final String crtFolderName: strFolderNames) {
-            final List<Properties> crtFileStatistics = FileOperationsClass.StatisticsSubClass.getFileStatisticsIntoListOfProperties(crtFolderName);
-            foldersStatistics.addAll(crtFileStatistics);
+            FileOperationsClass.StatisticsSubClass.streamFileStatisticsFromFolder(crtFolderName, inAlgorithms,
+                    fileProperties -> tableWriter.addRecord(BasicStructuresClass.ListAndMapSubClass.sortProperties(fileProperties, desiredOrder)));
+        }
+        tableWriter.finish();
+    }
+
+    /**
+     * Outputs largest files and sub-folders into an HTML table (a tab for each type)
+     * @return String
+     */
+    private static String getLargestEntriesAsHtmlTable() {
+        final Properties objFeatures = new Properties();
+        objFeatures.put(BasicStructuresClass.STR_NEW_TAB, "Type");
+        final FileOperationsClass.StatisticsSubClass.LargestEntriesRecord largest = FileOperationsClass.StatisticsSubClass.getLargestEntries(strFolderNames, WEB_TOP_ENTRIES);
+        final List<SequencedMap<Object, Object>> orderedList = new ArrayList<>();
+        addLargestEntriesToList(orderedList, "Files", largest.files());
+        addLargestEntriesToList(orderedList, "Folders", largest.folders());
+        return TableSubClass.getListOfSequencedMapIntoHtmlTable(orderedList, objFeatures);
+    }
+
+    /**
+     * Adds largest entries of a given type as table rows
+     * @param orderedList table rows
+     * @param strType entry type
+     * @param entries entries with their size, largest first
+     */
+    private static void addLargestEntriesToList(final List<SequencedMap<Object, Object>> orderedList, final String strType, final SequencedMap<String, Long> entries) {
+        int intRank = 0;
+        for (final Map.Entry<String, Long> entry : entries.entrySet()) {
+            intRank++;
+            final SequencedMap<Object, Object> row = new LinkedHashMap<>();
+            row.put("Type", strType);
+            row.put("#", intRank);
+            row.put("Path", entry.getKey());
+            row.put("Size [bytes]", entry.getValue());
+            orderedList.add(row);
         }
-        final List<String> desiredOrder = List.of("Folder", "File", "Size [bytes]", "Last Modified Time", "SHA-256");
-        final List<SequencedMap<Object, Object>> orderedList = foldersStatistics.stream()
-                .map(prop -> BasicStructuresClass.ListAndMapSubClass.sortProperties(prop, desiredOrder))
-                .toList();
-        return HtmlClass.TableSubClass.getListOfSequencedMapIntoHtmlTable(orderedList, new Properties());  
     }
 
     /**
@@ -116,10 +154,14 @@ public final class WebClass {
      */
     public static gg.jte.Content handleBodyContent() {
         final String page = UndertowClass.ParametersSubClass.getPageParameter();
+        if (BasicStructuresClass.STR_FILE_HASHING.equals(page)) {
+            // rows are written as soon as they are available instead of building whole table first
+            return output -> writeFileHashingAsHtmlTable(output::writeContent);
+        }
         return output -> output.writeContent(switch(page) {
             case BasicStructuresClass.STR_ENV_DTLS      -> getEnvironmentDetailsAsHtmlTable()
                     + ProjectClass.buildProductObjectModelFileInfoBox();
-            case BasicStructuresClass.STR_FILE_HASHING  -> getFileHashingAsHtmlTable();
+            case BasicStructuresClass.STR_LARGEST_ENTRIES -> getLargestEntriesAsHtmlTable();
             case BasicStructuresClass.STR_SOFTWARE_RLS  -> getSoftwareReleasesIntoHtmlTable()
                     + SqLiteStatisticsSubClass.buildSqLiteFileInfoBox();
             case BasicStructuresClass.STR_TS            -> SqLiteStatisticsSubClass.getTableStatisticsAsHtmlTable()
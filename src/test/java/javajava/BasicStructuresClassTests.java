@@ -2,6 +2,7 @@ package javajava;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -418,6 +419,187 @@ class BasicStructuresClassTests {
 
     }
 
+    @Nested
+    /* default */ @DisplayName("ColumnarTableSubClass testing...")
+    class TestColumnarTableSubClass {
+
+        @Test
+        void testKeepsValuesAndNullsAcrossDictionaryFallback() {
+            final BasicStructuresClass.ColumnarTableSubClass table = new BasicStructuresClass.ColumnarTableSubClass("Type", "Name");
+            final int intRows = 70_000;
+            for (int intRow = 0; intRow < intRows; intRow++) {
+                table.addRow(intRow % 10 == 0 ? null : "type" + intRow % 3, "name" + intRow);
+            }
+            table.seal();
+            final Properties expected = new Properties();
+            expected.put("Type", "NULL");
+            expected.put("Name", "name69990");
+            final Properties handled = table.asPropertiesList("NULL").get(69_990);
+            assertAll(
+                () -> assertEquals(expected, handled, String.format(ORIG_NQ_EXPCT, handled, expected)),
+                () -> assertEquals(intRows, table.asPropertiesList("NULL").size(), "Every row expected within view"),
+                () -> assertEquals("type1", table.getValue(1, 0), "Dictionary-encoded value should be decoded"),
+                () -> assertTrue(table.isNull(0, 0), "NULL should be marked within bitmap"),
+                () -> assertTrue(table.isDictionaryEncoded(0), "Low-cardinality column should stay dictionary-encoded"),
+                () -> assertFalse(table.isDictionaryEncoded(1), "Column with too many distinct values should fall back to plain values"),
+                () -> assertEquals("name12345", table.getValue(12_345, 1), "Values held before fallback should be kept")
+            );
+        }
+
+        /**
+         * Constructor
+         */
+        public TestColumnarTableSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    @Nested
+    /* default */ @DisplayName("DirectedGraphSubClass testing...")
+    class TestDirectedGraphSubClass {
+
+        @Test
+        void testStronglyConnectedComponentsAndDegrees() {
+            // 0 -> 1 -> 2 -> 0 is a cycle, 2 -> 3 leaves it, duplicate edge and self loop are dropped
+            final int[] sources = {0, 1, 2, 2, 2, 3};
+            final int[] targets = {1, 2, 0, 3, 3, 3};
+            final BasicStructuresClass.DirectedGraphSubClass graph = new BasicStructuresClass.DirectedGraphSubClass(5, sources, targets, sources.length);
+            final int[] components = graph.getStronglyConnectedComponents();
+            assertAll(
+                () -> assertEquals(4, graph.getEdgeCount(), "Duplicate edges and self loops should be dropped"),
+                () -> assertEquals(2, graph.getOutDegree(2), "Node 2 points to 0 and 3"),
+                () -> assertEquals(1, graph.getInDegree(3), "Node 3 is pointed only by node 2"),
+                () -> assertEquals(components[0], components[1], "Nodes 0 and 1 share the cycle"),
+                () -> assertEquals(components[0], components[2], "Nodes 0 and 2 share the cycle"),
+                () -> assertNotEquals(components[0], components[3], "Node 3 is outside the cycle"),
+                () -> assertNotEquals(components[3], components[4], "Isolated node has its own component")
+            );
+        }
+
+        /**
+         * Constructor
+         */
+        public TestDirectedGraphSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    @Nested
+    /* default */ @DisplayName("DistinctCounterSubClass testing...")
+    class TestDistinctCounterSubClass {
+
+        @Test
+        void testEstimateStaysWithinErrorBound() {
+            final BasicStructuresClass.DistinctCounterSubClass counter = new BasicStructuresClass.DistinctCounterSubClass();
+            for (int intValue = 0; intValue < 200_000; intValue++) {
+                // every value is added twice, duplicates must not be counted
+                counter.add("value" + intValue);
+                counter.add("value" + intValue);
+            }
+            final long handled = counter.estimate();
+            assertTrue(Math.abs(handled - 200_000) < 200_000 * 0.03, String.format("Estimate %d is too far from 200000", handled));
+        }
+
+        /**
+         * Constructor
+         */
+        public TestDistinctCounterSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    @Nested
+    /* default */ @DisplayName("TopValuesSubClass testing...")
+    class TestTopValuesSubClass {
+
+        @Test
+        void testKeepsOnlyLargestValues() {
+            final BasicStructuresClass.TopValuesSubClass topValues = new BasicStructuresClass.TopValuesSubClass(3);
+            for (int intStep = 0; intStep < 1000; intStep++) {
+                // visits every value from 0 to 999 once, in scrambled order
+                final int intValue = intStep * 7 % 1000;
+                topValues.offer("value" + intValue, intValue);
+            }
+            final Map<String, Long> expected = new LinkedHashMap<>();
+            expected.put("value999", 999L);
+            expected.put("value998", 998L);
+            expected.put("value997", 997L);
+            final Map<String, Long> handled = topValues.getSortedValues();
+            assertAll(
+                () -> assertEquals(expected, handled, String.format(ORIG_NQ_EXPCT, handled, expected)),
+                () -> assertEquals(List.copyOf(expected.keySet()), List.copyOf(handled.keySet()), "Values should be sorted largest first"),
+                () -> assertFalse(topValues.isCandidate(997), "Value not above smallest kept one is no longer a candidate")
+            );
+        }
+
+        /**
+         * Constructor
+         */
+        public TestTopValuesSubClass() {
+            // intentionally blank
+        }
+
+    }
+
+    @Nested
+    /* default */ @DisplayName("WordCounterSubClass testing...")
+    class TestWordCounterSubClass {
+
+        @Test
+        void testAddWordsOfCountsExactlyBelowCap() {
+            final BasicStructuresClass.WordCounterSubClass counter = new BasicStructuresClass.WordCounterSubClass(100);
+            counter.addWordsOf("customer_id");
+            counter.addWordsOf("customer name");
+            final Map<String, Long> expected = new LinkedHashMap<>();
+            expected.put("customer", 2L);
+            expected.put("id", 1L);
+            expected.put("name", 1L);
+            final Map<String, Long> handled = counter.getSortedCounts();
+            assertAll(
+                () -> assertEquals(expected, handled, String.format(ORIG_NQ_EXPCT, handled, expected)),
+                () -> assertEquals(List.copyOf(expected.keySet()), List.copyOf(handled.keySet()), "Words should be sorted by occurrences then by word"),
+                () -> assertFalse(counter.isApproximate(), "Counts below cap should be exact")
+            );
+        }
+
+        @Test
+        void testAddKeepsHeavyHittersBeyondCap() {
+            final BasicStructuresClass.WordCounterSubClass counter = new BasicStructuresClass.WordCounterSubClass(10);
+            for (int intWord = 0; intWord < 10_000; intWord++) {
+                counter.add(intWord % 3 == 0 ? "frequent" : "rare" + intWord, 1);
+            }
+            final Map.Entry<String, Long> handled = counter.getSortedCounts().firstEntry();
+            assertAll(
+                () -> assertEquals("frequent", handled.getKey(), "Most frequent word should survive the cap"),
+                () -> assertTrue(handled.getValue() <= 3334 && handled.getValue() >= 3334 - 10_000 / 11, "Approximate count should stay within sketch error bound"),
+                () -> assertTrue(counter.isApproximate(), "Counts beyond cap should be approximate")
+            );
+        }
+
+        @Test
+        void testLargeCapsStartWithUsableSlots() {
+            final BasicStructuresClass.WordCounterSubClass nearLimit = new BasicStructuresClass.WordCounterSubClass((1 << 29) + 5);
+            final BasicStructuresClass.WordCounterSubClass atLimit = new BasicStructuresClass.WordCounterSubClass(Integer.MAX_VALUE);
+            nearLimit.addWordsOf("alpha beta alpha");
+            atLimit.addWordsOf("alpha beta alpha");
+            assertAll(
+                () -> assertEquals(2L, nearLimit.getSortedCounts().get("alpha"), "Counter with cap beyond 2^29 should count words"),
+                () -> assertEquals(2L, atLimit.getSortedCounts().get("alpha"), "Counter with largest cap should count words")
+            );
+        }
+
+        /**
+         * Constructor
+         */
+        public TestWordCounterSubClass() {
+            // intentionally blank
+        }
+
+    }
+
     /**
      * Constructor
      */
@@ -8,9 +8,18 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +33,352 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class FileOperationsClassTest {
 
+    @Test
+    @DisplayName("captureDuplicateFilesIntoCsvFile finds identical files only")
+    void TestCaptureDuplicateFilesIntoCsvFileFindsIdenticalFiles() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-duplicates-");
+        final Path outCsv = Files.createTempFile("fileops-duplicates-", ".csv");
+        try {
+            final Path nested = Files.createDirectory(baseDir.resolve("nested"));
+            final byte[] content = new byte[200 * 1024];
+            new Random(2026).nextBytes(content);
+            Files.write(baseDir.resolve("A.bin"), content);
+            Files.write(nested.resolve("B.bin"), content);
+            // same size, same first and last blocks, different middle
+            content[100 * 1024] ^= 1;
+            Files.write(nested.resolve("C.bin"), content);
+            Files.writeString(baseDir.resolve("D.txt"), "unique", StandardCharsets.UTF_8);
+            final FileOperationsClass.DuplicatesSubClass.DuplicatesSummaryRecord summary = FileOperationsClass.DuplicatesSubClass.captureDuplicateFilesIntoCsvFile(new String[] {baseDir.toString()}, 1, outCsv.toString());
+            final List<String> lines = Files.readAllLines(outCsv, StandardCharsets.UTF_8);
+            assertAll("captureDuplicateFilesIntoCsvFile finds identical files only",
+                    () -> assertEquals(4L, summary.scannedFiles(), "Should scan every file"),
+                    () -> assertEquals(1L, summary.duplicateGroups(), "Should find a single group of duplicates"),
+                    () -> assertEquals(2L, summary.duplicateFiles(), "Should find two identical files"),
+                    () -> assertEquals(200L * 1024, summary.reclaimableBytes(), "Should reclaim size of one copy"),
+                    () -> assertEquals(3, lines.size(), "Should write header plus one row per duplicate file"),
+                    () -> assertTrue(lines.stream().noneMatch(line -> line.endsWith(";C.bin")), "File differing in the middle is not a duplicate")
+            );
+        } finally {
+            Files.deleteIfExists(outCsv);
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("captureDuplicateFilesIntoCsvFile reads small files only once")
+    void TestCaptureDuplicateFilesIntoCsvFileReadsSmallFilesOnce() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-small-duplicates-");
+        final Path outCsv = Files.createTempFile("fileops-small-duplicates-", ".csv");
+        try {
+            final String strContent = "same small content";
+            Files.writeString(baseDir.resolve("A.txt"), strContent, StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("B.txt"), strContent, StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("C.txt"), "other small content", StandardCharsets.UTF_8);
+            final FileOperationsClass.DuplicatesSubClass.DuplicatesSummaryRecord summary = FileOperationsClass.DuplicatesSubClass.captureDuplicateFilesIntoCsvFile(new String[] {baseDir.toString()}, 1, outCsv.toString());
+            final String strExpectedChecksum = FileOperationsClass.StatisticsSubClass.computeSingleChecksum(baseDir.resolve("A.txt"), "SHA-256");
+            final List<String> lines = Files.readAllLines(outCsv, StandardCharsets.UTF_8);
+            assertAll("captureDuplicateFilesIntoCsvFile reads small files only once",
+                    () -> assertEquals(1L, summary.duplicateGroups(), "Should find a single group of duplicates"),
+                    () -> assertEquals(2L * strContent.length(), summary.bytesRead(), "Each small file should be read only once"),
+                    () -> assertTrue(lines.get(1).startsWith("1;" + strExpectedChecksum + ';'), "Small duplicates should get their full checksum")
+            );
+        } finally {
+            Files.deleteIfExists(outCsv);
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("verifyFileStatisticsAgainstManifest reports differences and fast mode skips unchanged files")
+    void TestVerifyFileStatisticsAgainstManifestReportsDifferences() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-verify-");
+        final Path manifestCsv = Files.createTempFile("fileops-manifest-", ".csv");
+        final Path reportCsv = Files.createTempFile("fileops-verify-", ".csv");
+        final Path emptyManifestCsv = Files.createTempFile("fileops-empty-manifest-", ".csv");
+        try {
+            Files.writeString(baseDir.resolve("Same.txt"), "same", StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("Touched.txt"), "touched", StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("Changed.txt"), "changed", StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("Missing.txt"), "missing", StandardCharsets.UTF_8);
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256");
+            FileOperationsClass.StatisticsSubClass.captureFileStatisticsFromFolder(baseDir.toString(), manifestCsv.toString());
+            // verification has to rely on algorithms recorded into manifest, not on configured ones
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256", "SHA-512", "SHA3-256", "SHA3-512");
+            final Path touched = baseDir.resolve("Touched.txt");
+            Files.setLastModifiedTime(touched, FileTime.fromMillis(Files.getLastModifiedTime(touched).toMillis() - 3_600_000L));
+            Files.writeString(baseDir.resolve("Changed.txt"), "CHANGED", StandardCharsets.UTF_8);
+            Files.delete(baseDir.resolve("Missing.txt"));
+            Files.writeString(baseDir.resolve("Added.txt"), "added", StandardCharsets.UTF_8);
+            final String[] folders = {baseDir.toString()};
+            final String[] manifests = {manifestCsv.toString()};
+            final FileOperationsClass.StatisticsSubClass.VerificationSummaryRecord full = FileOperationsClass.StatisticsSubClass.verifyFileStatisticsAgainstManifest(folders, manifests, false, reportCsv.toString());
+            final FileOperationsClass.StatisticsSubClass.VerificationSummaryRecord fast = FileOperationsClass.StatisticsSubClass.verifyFileStatisticsAgainstManifest(folders, manifests, true, reportCsv.toString());
+            final List<String> lines = Files.readAllLines(reportCsv, StandardCharsets.UTF_8);
+            assertAll("verifyFileStatisticsAgainstManifest reports differences and fast mode skips unchanged files",
+                    () -> assertEquals(4L, full.manifestFiles(), "Should load every manifest row"),
+                    () -> assertEquals(1L, full.unchanged(), "Should find one unchanged file"),
+                    () -> assertEquals(1L, full.touched(), "Should find one touched file"),
+                    () -> assertEquals(1L, full.changed(), "Should find one changed file"),
+                    () -> assertEquals(1L, full.added(), "Should find one added file"),
+                    () -> assertEquals(1L, full.missing(), "Should find one missing file"),
+                    () -> assertEquals(4L, full.rehashed(), "Full mode re-hashes every file"),
+                    () -> assertEquals(full.touched(), fast.touched(), "Fast mode should report same differences"),
+                    () -> assertEquals(full.changed(), fast.changed(), "Fast mode should report same differences"),
+                    () -> assertEquals(3L, fast.rehashed(), "Fast mode skips files with same size and last modified time"),
+                    () -> assertEquals(5, lines.size(), "Should write header plus one row per difference"),
+                    () -> assertTrue(lines.stream().anyMatch(line -> line.startsWith("MISSING;") && line.contains(";Missing.txt;")), "Deleted file is reported as missing"),
+                    () -> assertNull(FileOperationsClass.StatisticsSubClass.verifyFileStatisticsAgainstManifest(folders, new String[] {emptyManifestCsv.toString()}, false, reportCsv.toString()), "Manifest without checksums cannot verify anything")
+            );
+        } finally {
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256", "SHA-512", "SHA3-256", "SHA3-512");
+            Files.deleteIfExists(emptyManifestCsv);
+            Files.deleteIfExists(manifestCsv);
+            Files.deleteIfExists(reportCsv);
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("deleteFilesOlderThanGivenDays removes older files only and honours dry run")
+    void TestDeleteFilesOlderThanGivenDaysRemovesOlderFilesOnly() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-cleaner-");
+        try {
+            final Path emptied = Files.createDirectories(baseDir.resolve("emptied").resolve("deeper"));
+            final Path kept = Files.createDirectory(baseDir.resolve("kept"));
+            final Path untouched = Files.createDirectory(baseDir.resolve("untouched"));
+            final FileTime oldTime = FileTime.fromMillis(System.currentTimeMillis() - 10L * 24 * 3_600_000L);
+            for (final Path oldFile : List.of(baseDir.resolve("old.log"), emptied.resolve("old.log"), kept.resolve("old.log"))) {
+                Files.writeString(oldFile, "old", StandardCharsets.UTF_8);
+                Files.setLastModifiedTime(oldFile, oldTime);
+            }
+            Files.writeString(kept.resolve("new.log"), "new", StandardCharsets.UTF_8);
+            FileOperationsClass.DeletingSubClass.OlderClass.setCleanedFolderStatistics(true);
+            FileOperationsClass.DeletingSubClass.OlderClass.setRemoveEmptyFolders(true);
+            FileOperationsClass.DeletingSubClass.OlderClass.setDryRun(true);
+            FileOperationsClass.DeletingSubClass.OlderClass.setOrResetCleanedFolderStatistics();
+            FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesOlderThanGivenDays(baseDir.toString(), 5);
+            final Map<String, Long> dryRunStats = FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderStatistics();
+            final boolean isNothingDeleted = Files.exists(emptied.resolve("old.log"));
+            FileOperationsClass.DeletingSubClass.OlderClass.setDryRun(false);
+            FileOperationsClass.DeletingSubClass.OlderClass.setOrResetCleanedFolderStatistics();
+            FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesOlderThanGivenDays(baseDir.toString(), 5);
+            final Map<String, Long> stats = FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderStatistics();
+            assertAll("deleteFilesOlderThanGivenDays removes older files only and honours dry run",
+                    () -> assertEquals(dryRunStats, stats, "Dry run should report exactly what is removed afterwards"),
+                    () -> assertTrue(isNothingDeleted, "Dry run should not delete anything"),
+                    () -> assertEquals(3L, stats.get("Files"), "Should remove every older file"),
+                    () -> assertEquals(9L, stats.get("Size"), "Should count size of removed files"),
+                    () -> assertEquals(2L, stats.get("Folders"), "Should remove folders left empty"),
+                    () -> assertFalse(Files.exists(baseDir.resolve("emptied")), "Folder left empty is removed"),
+                    () -> assertTrue(Files.exists(kept.resolve("new.log")), "Newer file is kept"),
+                    () -> assertTrue(Files.exists(untouched), "Folder empty on purpose is kept"),
+                    () -> assertEquals(4, FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderReport().size(), "Should report every folder having something cleaned")
+            );
+        } finally {
+            FileOperationsClass.DeletingSubClass.OlderClass.setDryRun(false);
+            FileOperationsClass.DeletingSubClass.OlderClass.setRemoveEmptyFolders(false);
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("profileCsvColumnsIntoCsvFile profiles every column in a single pass")
+    void TestProfileCsvColumnsIntoCsvFile() throws IOException {
+        final Path csvFile = Files.createTempFile("fileops-profile-", ".csv");
+        final Path outCsv = Files.createTempFile("fileops-profile-", ".csv");
+        try {
+            final StringBuilder content = new StringBuilder("ID,Amount,Created,Name,Empty\n");
+            for (int intRow = 0; intRow < 1000; intRow++) {
+                content.append(intRow).append(',').append(intRow % 4 == 0 ? "NULL" : intRow + ".25")
+                        .append(",2024-01-").append(String.format("%02d", intRow % 28 + 1)).append(intRow % 2 == 0 ? " 10:00:00" : "")
+                        .append(",name").append(intRow % 10).append(",\n");
+            }
+            Files.writeString(csvFile, content, StandardCharsets.UTF_8);
+            final long rowCount = FileOperationsClass.CsvStreamingSubClass.profileCsvColumnsIntoCsvFile(csvFile.toString(), ',', outCsv.toString());
+            final List<String> lines = Files.readAllLines(outCsv, StandardCharsets.UTF_8);
+            assertAll("profileCsvColumnsIntoCsvFile profiles every column in a single pass",
+                    () -> assertEquals(1000L, rowCount, "Header is not counted as a row"),
+                    () -> assertEquals(6, lines.size(), "Should write header plus one line per column"),
+                    () -> assertTrue(lines.get(1).startsWith("ID;1000;0;0.0000;1;3;INTEGER;"), "Integer column"),
+                    () -> assertEquals(1000, Long.parseLong(lines.get(1).substring(lines.get(1).lastIndexOf(';') + 1)), 20, "Distinct values are estimated within 2%"),
+                    () -> assertTrue(lines.get(2).startsWith("Amount;1000;250;0.2500;4;6;DECIMAL;"), "NULL values are counted apart"),
+                    () -> assertTrue(lines.get(3).startsWith("Created;1000;0;0.0000;10;19;TIMESTAMP;"), "Dates mixed with timestamps are timestamps"),
+                    () -> assertEquals("Name;1000;0;0.0000;5;5;TEXT;10", lines.get(4), "Text column"),
+                    () -> assertEquals("Empty;1000;1000;1.0000;;;EMPTY;0", lines.get(5), "Blank column")
+            );
+        } finally {
+            Files.deleteIfExists(csvFile);
+            Files.deleteIfExists(outCsv);
+        }
+    }
+
+    @Test
+    @DisplayName("streamCsvColumns handles quoting and projects requested columns only")
+    void TestStreamCsvColumnsHandlesQuotingAndProjection() throws IOException {
+        final Path csvFile = Files.createTempFile("fileops-csv-", ".csv");
+        try {
+            Files.writeString(csvFile, "A,B,C,D\r\n\"x,1\",\"say \"\"hi\"\"\",plain,\"multi\r\nline\"\r\n\r\nq,,last\nshort", StandardCharsets.UTF_8);
+            final List<String[]> rows = new ArrayList<>();
+            final long rowCount = FileOperationsClass.CsvStreamingSubClass.streamCsvColumns(csvFile.toString(), ',', true, rows::add, 3, 0, 1);
+            assertAll("streamCsvColumns handles quoting and projects requested columns only",
+                    () -> assertEquals(3L, rowCount, "Header and blank lines are not handed over"),
+                    () -> assertArrayEquals(new String[] {"multi\r\nline", "x,1", "say \"hi\""}, rows.getFirst(), "Quoted separators, quotes and line breaks are kept"),
+                    () -> assertArrayEquals(new String[] {"", "q", ""}, rows.get(1), "Empty and missing columns are empty values"),
+                    () -> assertArrayEquals(new String[] {"", "short", ""}, rows.get(2), "Last row without line break is handed over")
+            );
+        } finally {
+            Files.deleteIfExists(csvFile);
+        }
+    }
+
+    @Test
+    @DisplayName("deleteFilesBeyondQuota removes oldest files until folder fits into quota")
+    void TestDeleteFilesBeyondQuotaRemovesOldestFilesFirst() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-quota-");
+        try {
+            final Path nested = Files.createDirectory(baseDir.resolve("nested"));
+            final long now = System.currentTimeMillis();
+            for (int intFile = 0; intFile < 10; intFile++) {
+                final Path file = (intFile % 2 == 0 ? baseDir : nested).resolve("file" + intFile + ".bin");
+                Files.write(file, new byte[100]);
+                Files.setLastModifiedTime(file, FileTime.fromMillis(now - (10 - intFile) * 60_000L));
+            }
+            FileOperationsClass.DeletingSubClass.OlderClass.setCleanedFolderStatistics(true);
+            FileOperationsClass.DeletingSubClass.OlderClass.setOrResetCleanedFolderStatistics();
+            FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesBeyondQuota(baseDir.toString(), 650, "MODIFIED");
+            final Map<String, Long> stats = FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderStatistics();
+            assertAll("deleteFilesBeyondQuota removes oldest files until folder fits into quota",
+                    () -> assertEquals(4L, stats.get("Files"), "Should remove just enough files to fit into quota"),
+                    () -> assertEquals(400L, stats.get("Size"), "Should count size of removed files"),
+                    () -> assertFalse(Files.exists(nested.resolve("file3.bin")), "Oldest files are removed"),
+                    () -> assertTrue(Files.exists(baseDir.resolve("file4.bin")), "Newer files are kept")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("deleteFilesBeyondQuota leaves out files removed by age, so dry run reports what is removed afterwards")
+    void TestDeleteFilesBeyondQuotaAfterAgeMatchesDryRun() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-quota-age-");
+        try {
+            final long now = System.currentTimeMillis();
+            for (int intFile = 0; intFile < 10; intFile++) {
+                final Path file = baseDir.resolve("file" + intFile + ".bin");
+                Files.write(file, new byte[100]);
+                // first 4 files are older than 5 days, the others only some minutes
+                final long lastModified = intFile < 4 ? now - (10L - intFile) * 24 * 3_600_000L : now - (10 - intFile) * 60_000L;
+                Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+            }
+            FileOperationsClass.DeletingSubClass.OlderClass.setCleanedFolderStatistics(true);
+            FileOperationsClass.DeletingSubClass.OlderClass.setDryRun(true);
+            FileOperationsClass.DeletingSubClass.OlderClass.setOrResetCleanedFolderStatistics();
+            final long dryRunCutoff = FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesOlderThanGivenDays(baseDir.toString(), 5);
+            FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesBeyondQuota(baseDir.toString(), 450, "MODIFIED", dryRunCutoff);
+            final Map<String, Long> dryRunStats = FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderStatistics();
+            FileOperationsClass.DeletingSubClass.OlderClass.setDryRun(false);
+            FileOperationsClass.DeletingSubClass.OlderClass.setOrResetCleanedFolderStatistics();
+            final long cutoff = FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesOlderThanGivenDays(baseDir.toString(), 5);
+            FileOperationsClass.DeletingSubClass.OlderClass.deleteFilesBeyondQuota(baseDir.toString(), 450, "MODIFIED", cutoff);
+            final Map<String, Long> stats = FileOperationsClass.DeletingSubClass.OlderClass.getCleanedFolderStatistics();
+            assertAll("deleteFilesBeyondQuota leaves out files removed by age, so dry run reports what is removed afterwards",
+                    () -> assertEquals(dryRunStats, stats, "Dry run should report exactly what is removed afterwards"),
+                    () -> assertEquals(6L, stats.get("Files"), "Should remove older files plus just enough to fit into quota"),
+                    () -> assertEquals(600L, stats.get("Size"), "Should count size of removed files once"),
+                    () -> assertTrue(Files.exists(baseDir.resolve("file6.bin")), "Newer files are kept")
+            );
+        } finally {
+            FileOperationsClass.DeletingSubClass.OlderClass.setDryRun(false);
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("massChangeToFilesWithinFolder applies many replacements keeping line endings")
+    void TestMassChangeToFilesWithinFolderAppliesManyReplacements() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-masschange-");
+        try {
+            Files.writeString(baseDir.resolve("app.cfg"), "host=old-host\r\nport=8080\r\nname=he she hers\nmode=fast\n", StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("other.cfg"), "no match\r\n", StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("app.txt"), "old-host", StandardCharsets.UTF_8);
+            FileOperationsClass.MassChangeSubClass.setSearchingFolder(baseDir.toString());
+            FileOperationsClass.MassChangeSubClass.setPattern(".*\\.cfg");
+            // same match for a regular expression and a literal, so the one given first wins
+            FileOperationsClass.MassChangeSubClass.addRegexReplacement("f\\w+", "slow");
+            FileOperationsClass.MassChangeSubClass.addLiteralReplacement("fast", "quick");
+            FileOperationsClass.MassChangeSubClass.addLiteralReplacement("old-host", "new-host");
+            FileOperationsClass.MassChangeSubClass.addLiteralReplacement("he", "HE");
+            FileOperationsClass.MassChangeSubClass.addLiteralReplacement("hers", "THEIRS");
+            FileOperationsClass.MassChangeSubClass.addRegexReplacement("port=(\\d+)", "port=1$1");
+            final FileOperationsClass.MassChangeSubClass.MassChangeSummaryRecord summary = FileOperationsClass.MassChangeSubClass.massChangeToFilesWithinFolder();
+            assertAll("massChangeToFilesWithinFolder applies many replacements keeping line endings",
+                    () -> assertEquals("host=new-host\r\nport=18080\r\nname=HE sHE THEIRS\nmode=slow\n", Files.readString(baseDir.resolve("app.cfg"), StandardCharsets.UTF_8), "Longest match, then first given wins and line endings are kept"),
+                    () -> assertEquals(2L, summary.scannedFiles(), "Only files matching pattern are scanned"),
+                    () -> assertEquals(1L, summary.changedFiles(), "Files without matches are not rewritten"),
+                    () -> assertEquals(6L, summary.replacements(), "Should count every replacement"),
+                    () -> assertEquals("old-host", Files.readString(baseDir.resolve("app.txt"), StandardCharsets.UTF_8), "Files not matching pattern are untouched")
+            );
+        } finally {
+            FileOperationsClass.MassChangeSubClass.clearReplacements();
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("massChangeToFilesWithinFolder keeps permissions and leaves no temporary file behind")
+    void TestMassChangeToFilesWithinFolderKeepsPermissions() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-masschange-mode-");
+        try {
+            final Path script = baseDir.resolve("run.sh");
+            Files.writeString(script, "echo old-host\n", StandardCharsets.UTF_8);
+            final boolean isPosix = Files.getFileAttributeView(script, PosixFileAttributeView.class) != null;
+            if (isPosix) {
+                Files.setPosixFilePermissions(script, PosixFilePermissions.fromString("rwxr-x---"));
+            }
+            FileOperationsClass.MassChangeSubClass.setSearchingFolder(baseDir.toString());
+            FileOperationsClass.MassChangeSubClass.setPattern(".*\\.sh");
+            FileOperationsClass.MassChangeSubClass.addLiteralReplacement("old-host", "new-host");
+            FileOperationsClass.MassChangeSubClass.massChangeToFilesWithinFolder();
+            final String permissions = isPosix ? PosixFilePermissions.toString(Files.getPosixFilePermissions(script)) : "rwxr-x---";
+            try (Stream<Path> files = Files.list(baseDir)) {
+                final long fileCount = files.count();
+                assertAll("massChangeToFilesWithinFolder keeps permissions and leaves no temporary file behind",
+                        () -> assertEquals("echo new-host\n", Files.readString(script, StandardCharsets.UTF_8), "Content should be replaced"),
+                        () -> assertEquals("rwxr-x---", permissions, "Permissions of original file should be kept"),
+                        () -> assertEquals(1L, fileCount, "No temporary file should remain")
+                );
+            }
+        } finally {
+            FileOperationsClass.MassChangeSubClass.clearReplacements();
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
     @Test
     @DisplayName("getFileSizeIfFileExistsAndIsReadable returns -99 for null filename")
     void TestGetFileSizeReturnsNegativeForNullInput() {
@@ -82,6 +437,190 @@ class FileOperationsClassTest {
         }
     }
 
+    @Test
+    @DisplayName("getFolderStatisticsByLevel gives sub-tree totals for each folder up to given depth")
+    void TestGetFolderStatisticsByLevel() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-levels-");
+        try {
+            final Path first = Files.createDirectories(baseDir.resolve("first").resolve("deeper"));
+            Files.createDirectory(baseDir.resolve("second"));
+            Files.write(baseDir.resolve("root.bin"), new byte[10]);
+            Files.write(baseDir.resolve("first").resolve("one.bin"), new byte[20]);
+            Files.write(first.resolve("two.bin"), new byte[30]);
+            final List<FileOperationsClass.StatisticsSubClass.FolderLevelStatsRecord> levels = FileOperationsClass.StatisticsSubClass.getFolderStatisticsByLevel(baseDir.toString(), 1);
+            assertAll("getFolderStatisticsByLevel gives sub-tree totals for each folder up to given depth",
+                    () -> assertEquals(3, levels.size(), "Given folder and its 2 sub-folders are expected"),
+                    () -> assertEquals(new FileOperationsClass.StatisticsSubClass.FolderLevelStatsRecord(baseDir.toString(), 0, 3, 3, 60), levels.get(0), "Given folder holds every file and sub-folder"),
+                    () -> assertEquals(new FileOperationsClass.StatisticsSubClass.FolderLevelStatsRecord(baseDir.resolve("first").toString(), 1, 2, 1, 50), levels.get(1), "First sub-folder holds its own sub-tree"),
+                    () -> assertEquals(new FileOperationsClass.StatisticsSubClass.FolderLevelStatsRecord(baseDir.resolve("second").toString(), 1, 0, 0, 0), levels.get(2), "Empty sub-folder is still reported")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("getLargestEntries keeps largest files and sub-folders with bottom-up folder sizes")
+    void TestGetLargestEntries() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-largest-");
+        try {
+            final Path deeper = Files.createDirectories(baseDir.resolve("big").resolve("deeper"));
+            final Path small = Files.createDirectory(baseDir.resolve("small"));
+            Files.write(baseDir.resolve("root.bin"), new byte[40]);
+            Files.write(deeper.resolve("huge.bin"), new byte[100]);
+            Files.write(baseDir.resolve("big").resolve("medium.bin"), new byte[50]);
+            Files.write(small.resolve("tiny.bin"), new byte[5]);
+            final FileOperationsClass.StatisticsSubClass.LargestEntriesRecord largest = FileOperationsClass.StatisticsSubClass.getLargestEntries(new String[] {baseDir.toString()}, 2);
+            assertAll("getLargestEntries keeps largest files and sub-folders with bottom-up folder sizes",
+                    () -> assertEquals(List.of(deeper.resolve("huge.bin").toString(), baseDir.resolve("big").resolve("medium.bin").toString()), List.copyOf(largest.files().keySet()), "Only 2 largest files are kept, largest first"),
+                    () -> assertEquals(150L, largest.folders().get(baseDir.resolve("big").toString()), "Folder size includes its sub-folders"),
+                    () -> assertEquals(List.of(baseDir.resolve("big").toString(), deeper.toString()), List.copyOf(largest.folders().keySet()), "Only 2 largest sub-folders are kept, given folder excluded")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("captureSubFoldersFromFoldersIntoFile streams sub-folders up to given depth with their counts")
+    void TestCaptureSubFoldersFromFoldersIntoFile() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-subfolders-");
+        try {
+            final Path deepest = Files.createDirectories(baseDir.resolve("first").resolve("deeper").resolve("deepest"));
+            Files.createDirectory(baseDir.resolve("second"));
+            Files.write(baseDir.resolve("first").resolve("one.bin"), new byte[20]);
+            Files.write(deepest.resolve("two.bin"), new byte[30]);
+            final Path outCsv = baseDir.resolve("subfolders.csv");
+            final long csvFolders = FileOperationsClass.RetrievingSubClass.captureSubFoldersFromFoldersIntoFile(new String[] {baseDir.toString()}, 2, outCsv.toString(), "CSV");
+            final List<String> rows = Files.readAllLines(outCsv, StandardCharsets.UTF_8);
+            final Path outJson = baseDir.resolve("subfolders.json");
+            final long jsonFolders = FileOperationsClass.RetrievingSubClass.captureSubFoldersFromFoldersIntoFile(new String[] {baseDir.toString()}, 1, outJson.toString(), "JSON");
+            final String strJson = Files.readString(outJson, StandardCharsets.UTF_8);
+            assertAll("captureSubFoldersFromFoldersIntoFile streams sub-folders up to given depth with their counts",
+                    () -> assertEquals(3, csvFolders, "Sub-folders beyond depth 2 should not be reported"),
+                    () -> assertTrue(rows.contains(baseDir.resolve("first") + ";1;1;1;20"), "Direct content of first sub-folder should be counted"),
+                    () -> assertTrue(rows.contains(deepest.getParent() + ";2;0;1;0"), "Sub-folder at depth 2 should be reported"),
+                    () -> assertEquals(2, jsonFolders, "Only direct sub-folders expected for depth 1"),
+                    () -> assertTrue(strJson.startsWith("[") && strJson.strip().endsWith("]") && strJson.contains("\"Depth\":1"), "JSON array of sub-folders expected")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("compareFoldersIntoCsvFile reports added, changed, removed and touched files hashing only when metadata differs")
+    void TestCompareFoldersIntoCsvFile() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-compare-");
+        try {
+            final Path source = Files.createDirectories(baseDir.resolve("source").resolve("sub")).getParent();
+            final Path target = Files.createDirectory(baseDir.resolve("target"));
+            final FileTime oldTime = FileTime.fromMillis(1_600_000_000_000L);
+            final FileTime newTime = FileTime.fromMillis(1_700_000_000_000L);
+            for (final String strName : new String[] {"same.txt", "touched.txt", "changed.txt"}) {
+                Files.writeString(source.resolve(strName), "abc", StandardCharsets.UTF_8);
+                Files.writeString(target.resolve(strName), "changed.txt".equals(strName) ? "abd" : "abc", StandardCharsets.UTF_8);
+                Files.setLastModifiedTime(source.resolve(strName), oldTime);
+                Files.setLastModifiedTime(target.resolve(strName), "same.txt".equals(strName) ? oldTime : newTime);
+            }
+            Files.writeString(source.resolve("sub").resolve("removed.txt"), "gone", StandardCharsets.UTF_8);
+            Files.writeString(target.resolve("added.txt"), "new", StandardCharsets.UTF_8);
+            Files.writeString(source.resolve("kind"), "file", StandardCharsets.UTF_8);
+            Files.writeString(Files.createDirectory(target.resolve("kind")).resolve("inner.txt"), "folder", StandardCharsets.UTF_8);
+            final Path outCsv = baseDir.resolve("comparison.csv");
+            final FileOperationsClass.StatisticsSubClass.FolderComparisonSummaryRecord summary = FileOperationsClass.StatisticsSubClass.compareFoldersIntoCsvFile(source.toString(), target.toString(), "SHA-256", outCsv.toString());
+            final List<String> statuses = Files.readAllLines(outCsv, StandardCharsets.UTF_8).stream()
+                    .skip(1)
+                    .map(strLine -> strLine.substring(0, strLine.indexOf(';', strLine.indexOf(';') + 1)))
+                    .toList();
+            final FileOperationsClass.StatisticsSubClass.FolderComparisonSummaryRecord metadataOnly = FileOperationsClass.StatisticsSubClass.compareFoldersIntoCsvFile(source.toString(), target.toString(), null, outCsv.toString());
+            final FileOperationsClass.StatisticsSubClass.FolderComparisonSummaryRecord missingTarget = FileOperationsClass.StatisticsSubClass.compareFoldersIntoCsvFile(source.toString(), baseDir.resolve("missing").toString(), null, outCsv.toString());
+            assertAll("compareFoldersIntoCsvFile reports added, changed, removed and touched files hashing only when metadata differs",
+                    () -> assertEquals(List.of("ADDED;added.txt", "CHANGED;changed.txt", "ADDED;kind/inner.txt", "REMOVED;kind", "REMOVED;sub/removed.txt", "TOUCHED;touched.txt"), statuses, "Differences expected in sorted merge order"),
+                    () -> assertEquals(1, summary.unchanged(), "Unchanged file should not be reported"),
+                    () -> assertEquals(2, summary.hashed(), "Only pairs with same size but different time should be hashed"),
+                    () -> assertEquals(0, metadataOnly.hashed(), "No hashing expected when no algorithm is given"),
+                    () -> assertEquals(2, metadataOnly.changed(), "Without hashing any time difference means changed"),
+                    () -> assertNull(missingTarget, "Missing target should fail comparison instead of reporting every file as removed")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("archiveFoldersIntoZipFiles writes a readable ZIP with folder entries and a checksum manifest")
+    void TestArchiveFoldersIntoZipFiles() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-archive-");
+        try {
+            final Path folder = Files.createDirectories(baseDir.resolve("project").resolve("sub"));
+            Files.createDirectory(folder.resolveSibling("empty"));
+            Files.writeString(folder.resolve("text.txt"), "repeat ".repeat(200), StandardCharsets.UTF_8);
+            Files.write(folder.resolveSibling("binary.bin"), new byte[] {1, 2, 3});
+            final Path destination = Files.createDirectory(baseDir.resolve("archives"));
+            final List<FileOperationsClass.ArchivingSubClass.ArchiveSummaryRecord> summaries = FileOperationsClass.ArchivingSubClass.archiveFoldersIntoZipFiles(new String[] {folder.getParent().toString()}, destination.toString(), true);
+            final List<String> manifestRows = Files.readAllLines(destination.resolve("project.csv"), StandardCharsets.UTF_8);
+            try (ZipFile zipFile = new ZipFile(destination.resolve("project.zip").toFile())) {
+                final List<String> names = zipFile.stream().map(ZipEntry::getName).sorted().toList();
+                final String strText = new String(zipFile.getInputStream(zipFile.getEntry("project/sub/text.txt")).readAllBytes(), StandardCharsets.UTF_8);
+                assertAll("archiveFoldersIntoZipFiles writes a readable ZIP with folder entries and a checksum manifest",
+                        () -> assertEquals(List.of("project/", "project/binary.bin", "project/empty/", "project/sub/", "project/sub/text.txt"), names, "Every file and folder expected as entry"),
+                        () -> assertEquals("repeat ".repeat(200), strText, "Deflated content should read back unchanged"),
+                        () -> assertEquals(2, summaries.getFirst().files(), "Two files expected within summary"),
+                        () -> assertTrue(summaries.getFirst().compressedBytes() < summaries.getFirst().bytes(), "Repetitive content should be compressed"),
+                        () -> assertEquals(3, manifestRows.size(), "Manifest should hold header and one row per file"),
+                        () -> assertTrue(manifestRows.stream().anyMatch(strRow -> strRow.startsWith(folder.getParent() + ";binary.bin;3;")
+                                && strRow.contains(";039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81;")), "Manifest checksum should be computed while deflating")
+                );
+            }
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("archiveFoldersIntoZipFiles keeps archives of same named folders apart and skips folders holding destination")
+    void TestArchiveFoldersIntoZipFilesAvoidsOverwriting() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-archive-names-");
+        try {
+            final Path firstFolder = Files.createDirectories(baseDir.resolve("a").resolve("src"));
+            final Path secondFolder = Files.createDirectories(baseDir.resolve("b").resolve("src"));
+            Files.writeString(firstFolder.resolve("first.txt"), "first", StandardCharsets.UTF_8);
+            Files.writeString(secondFolder.resolve("second.txt"), "second", StandardCharsets.UTF_8);
+            final Path destination = Files.createDirectory(baseDir.resolve("archives"));
+            final List<FileOperationsClass.ArchivingSubClass.ArchiveSummaryRecord> summaries = FileOperationsClass.ArchivingSubClass.archiveFoldersIntoZipFiles(
+                    new String[] {firstFolder.toString(), secondFolder.toString(), baseDir.toString()}, destination.toString(), false);
+            try (ZipFile firstZip = new ZipFile(destination.resolve("src.zip").toFile());
+                    ZipFile secondZip = new ZipFile(destination.resolve("src_2.zip").toFile())) {
+                assertAll("archiveFoldersIntoZipFiles keeps archives of same named folders apart and skips folders holding destination",
+                        () -> assertEquals(2, summaries.size(), "Folder holding destination should be skipped"),
+                        () -> assertNotNull(firstZip.getEntry("src/first.txt"), "First folder keeps plain archive name"),
+                        () -> assertNotNull(secondZip.getEntry("src/second.txt"), "Second folder gets a numeric suffix instead of overwriting")
+                );
+            }
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
     @Test
     @DisplayName("getFolderStatisticsRecursive finds files with given extension recursively")
     void TestGetFolderStatisticsRecursive() throws IOException {
@@ -131,6 +670,289 @@ class FileOperationsClassTest {
         }
     }
 
+    @Test
+    @DisplayName("captureFileStatisticsFromFolder writes one row per file in walking order")
+    void TestCaptureFileStatisticsFromFolderWritesEveryFile() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-capture-");
+        final Path outCsv = Files.createTempFile("fileops-capture-", ".csv");
+        try {
+            final Path nested = Files.createDirectory(baseDir.resolve("nested"));
+            Files.writeString(baseDir.resolve("A.txt"), "abc", StandardCharsets.UTF_8);
+            Files.writeString(nested.resolve("B.txt"), "abcdef", StandardCharsets.UTF_8);
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256");
+            FileOperationsClass.StatisticsSubClass.setHashingThreads(2);
+            final FileOperationsClass.StatisticsSubClass.HashingThroughputRecord throughput = FileOperationsClass.StatisticsSubClass.captureFileStatisticsFromFolder(baseDir.toString(), outCsv.toString());
+            final List<String> lines = Files.readAllLines(outCsv, StandardCharsets.UTF_8);
+            final String rowA = lines.stream().filter(line -> line.contains(";A.txt;")).findFirst().orElse("");
+            assertAll("captureFileStatisticsFromFolder writes one row per file in walking order",
+                    () -> assertEquals("Folder;File;Size;Last Modified Time;SHA-256", lines.getFirst(), "Header should list configured algorithms"),
+                    () -> assertEquals(3, lines.size(), "Should write header plus one row per file"),
+                    () -> assertEquals(2L, throughput.fileCount(), "Should count both files"),
+                    () -> assertEquals(9L, throughput.byteCount(), "Should sum sizes of both files"),
+                    () -> assertTrue(rowA.endsWith(";3;" + TimingClass.getFileLastModifiedTimeAsHumanReadableFormat(baseDir.resolve("A.txt"))
+                            + ";ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"), "Row should hold size, time and checksum")
+            );
+        } finally {
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256", "SHA-512", "SHA3-256", "SHA3-512");
+            FileOperationsClass.StatisticsSubClass.setHashingThreads(FileOperationsClass.StatisticsSubClass.getDefaultHashingThreads("SSD"));
+            Files.deleteIfExists(outCsv);
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("verifyFileStatisticsAgainstManifest in full mode ignores checksum cache")
+    void TestVerifyFileStatisticsAgainstManifestIgnoresChecksumCache() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-verify-cache-");
+        final Path cacheDb = Files.createTempFile("fileops-verify-cache-", ".sqlite");
+        final Path manifestCsv = Files.createTempFile("fileops-manifest-", ".csv");
+        final Path reportCsv = Files.createTempFile("fileops-verify-", ".csv");
+        try {
+            final Path tampered = baseDir.resolve("Tampered.txt");
+            Files.writeString(tampered, "original", StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("Same.txt"), "same", StandardCharsets.UTF_8);
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256");
+            FileOperationsClass.StatisticsSubClass.setChecksumCacheDatabase(cacheDb.toString());
+            // capturing fills cache as well
+            FileOperationsClass.StatisticsSubClass.captureFileStatisticsFromFolder(baseDir.toString(), manifestCsv.toString());
+            // same size and same last modified time, but different content
+            final FileTime lastModified = Files.getLastModifiedTime(tampered);
+            Files.writeString(tampered, "ORIGINAL", StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(tampered, lastModified);
+            final FileOperationsClass.StatisticsSubClass.VerificationSummaryRecord full = FileOperationsClass.StatisticsSubClass.verifyFileStatisticsAgainstManifest(new String[] {baseDir.toString()}, new String[] {manifestCsv.toString()}, false, reportCsv.toString());
+            assertAll("verifyFileStatisticsAgainstManifest in full mode ignores checksum cache",
+                    () -> assertEquals(1L, full.changed(), "Content change has to be found despite cached checksum"),
+                    () -> assertEquals(1L, full.unchanged(), "Untouched file should stay unchanged"),
+                    () -> assertEquals(2L, full.rehashed(), "Every file content should be read")
+            );
+        } finally {
+            FileOperationsClass.StatisticsSubClass.setChecksumCacheDatabase(null);
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256", "SHA-512", "SHA3-256", "SHA3-512");
+            Files.deleteIfExists(cacheDb);
+            Files.deleteIfExists(Path.of(cacheDb + "-wal"));
+            Files.deleteIfExists(Path.of(cacheDb + "-shm"));
+            Files.deleteIfExists(manifestCsv);
+            Files.deleteIfExists(reportCsv);
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("streamFileStatisticsFromFolder reuses cached checksums of unchanged files")
+    void TestStreamFileStatisticsFromFolderUsesChecksumCache() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-cache-");
+        final Path cacheDb = Files.createTempFile("fileops-cache-", ".sqlite");
+        try {
+            Files.writeString(baseDir.resolve("A.txt"), "abc", StandardCharsets.UTF_8);
+            Files.writeString(baseDir.resolve("B.txt"), "abcdef", StandardCharsets.UTF_8);
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256");
+            FileOperationsClass.StatisticsSubClass.setChecksumCacheDatabase(cacheDb.toString());
+            final List<Properties> firstRun = new ArrayList<>();
+            final FileOperationsClass.StatisticsSubClass.HashingThroughputRecord first = FileOperationsClass.StatisticsSubClass.streamFileStatisticsFromFolder(baseDir.toString(), firstRun::add);
+            final List<Properties> secondRun = new ArrayList<>();
+            final FileOperationsClass.StatisticsSubClass.HashingThroughputRecord second = FileOperationsClass.StatisticsSubClass.streamFileStatisticsFromFolder(baseDir.toString(), secondRun::add);
+            Files.delete(baseDir.resolve("B.txt"));
+            final long purgedFiles = FileOperationsClass.StatisticsSubClass.purgeStaleChecksumCacheEntries();
+            assertAll("streamFileStatisticsFromFolder reuses cached checksums of unchanged files",
+                    () -> assertEquals(2L, first.cacheMisses(), "First run should compute every checksum"),
+                    () -> assertEquals(2L, second.cacheHits(), "Second run should find every checksum in cache"),
+                    () -> assertEquals(0L, second.cacheMisses(), "Second run should not compute anything"),
+                    () -> assertEquals(firstRun, secondRun, "Cached statistics should match computed ones"),
+                    () -> assertEquals(1L, purgedFiles, "Deleted file should be purged from cache")
+            );
+        } finally {
+            FileOperationsClass.StatisticsSubClass.setChecksumCacheDatabase(null);
+            FileOperationsClass.StatisticsSubClass.setChecksumAlgorithms("SHA-256", "SHA-512", "SHA3-256", "SHA3-512");
+            Files.deleteIfExists(cacheDb);
+            Files.deleteIfExists(Path.of(cacheDb + "-wal"));
+            Files.deleteIfExists(Path.of(cacheDb + "-shm"));
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("computeFileChecksums returns every requested checksum from a single read")
+    void TestComputeFileChecksumsReturnsKnownDigests() throws IOException {
+        final Path tempFile = Files.createTempFile("fileops-checksum-", ".txt");
+        try {
+            Files.writeString(tempFile, "abc", StandardCharsets.UTF_8);
+            final Properties checksums = FileOperationsClass.StatisticsSubClass.computeFileChecksums(tempFile, "SHA-256", "SHA-512");
+            assertAll("computeFileChecksums returns every requested checksum from a single read",
+                    () -> assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", checksums.getProperty("SHA-256"), "SHA-256 of abc is well known"),
+                    () -> assertEquals("ddaf35a193617abacc417349ae20413112e6fa4e89a97ea20a9eeee64b55d39a2192992a274fc1a836ba3c23a3feebbd454d4423643ce80e2a9ac94fa54ca49f", checksums.getProperty("SHA-512"), "SHA-512 of abc is well known"),
+                    () -> assertEquals(checksums.getProperty("SHA-256"), FileOperationsClass.StatisticsSubClass.computeSingleChecksum(tempFile, "SHA-256"), "Single checksum should match multiple checksums")
+            );
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    @DisplayName("computeFileChecksums gives same result when digests are updated in parallel")
+    void TestComputeFileChecksumsInParallelMatchesSequential() throws IOException {
+        final Path tempFile = Files.createTempFile("fileops-checksum-parallel-", ".bin");
+        try {
+            final byte[] content = new byte[3 * 1024 * 1024 + 17];
+            new Random(2026).nextBytes(content);
+            Files.write(tempFile, content);
+            final Properties sequential = FileOperationsClass.StatisticsSubClass.computeFileChecksums(tempFile, "SHA-256", "SHA3-256");
+            FileOperationsClass.StatisticsSubClass.setParallelDigestThreshold(0);
+            final Properties parallel = FileOperationsClass.StatisticsSubClass.computeFileChecksums(tempFile, "SHA-256", "SHA3-256");
+            assertEquals(sequential, parallel, "Parallel digest updates should produce same checksums");
+        } finally {
+            FileOperationsClass.StatisticsSubClass.setParallelDigestThreshold(64L * 1024 * 1024);
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    @DisplayName("computeFileChecksums gives same result whatever the reading mode")
+    void TestComputeFileChecksumsThroughChannelMatchesStream() throws IOException {
+        final Path tempFile = Files.createTempFile("fileops-checksum-channel-", ".bin");
+        try {
+            final byte[] content = new byte[2 * 1024 * 1024 + 31];
+            new Random(2026).nextBytes(content);
+            Files.write(tempFile, content);
+            final Properties streamed = FileOperationsClass.StatisticsSubClass.computeFileChecksums(tempFile, "SHA-256", "SHA3-256");
+            FileOperationsClass.StatisticsSubClass.setChecksumReadMode("CHANNEL");
+            final Properties directBuffered = FileOperationsClass.StatisticsSubClass.computeFileChecksums(tempFile, "SHA-256", "SHA3-256");
+            FileOperationsClass.StatisticsSubClass.setMappedReadThreshold(0);
+            final Properties memoryMapped = FileOperationsClass.StatisticsSubClass.computeFileChecksums(tempFile, "SHA-256", "SHA3-256");
+            assertAll("computeFileChecksums gives same result whatever the reading mode",
+                    () -> assertEquals(streamed, directBuffered, "Direct buffer reading should produce same checksums"),
+                    () -> assertEquals(streamed, memoryMapped, "Memory-mapped reading should produce same checksums"),
+                    () -> assertEquals(2, FileOperationsClass.StatisticsSubClass.benchmarkChecksumReadModes(tempFile, 1, "SHA-256").size(), "Benchmark should cover every reading mode")
+            );
+        } finally {
+            FileOperationsClass.StatisticsSubClass.setChecksumReadMode("STREAM");
+            FileOperationsClass.StatisticsSubClass.setMappedReadThreshold(16L * 1024 * 1024);
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    @DisplayName("extractImportStatementsFromJavaSourceFilesIntoCsvFile reads imports up to first type declaration and caches them")
+    void TestExtractImportStatementsStopsAtTypeDeclaration() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-imports-");
+        final Path outCsv = baseDir.resolve("imports.csv");
+        final Path cacheFile = baseDir.resolve("imports.cache");
+        try {
+            final Path source = baseDir.resolve("Sample.java");
+            Files.writeString(source, "/* license\n * import not.a.Statement;\n */\npackage sample;\n\n"
+                    + "// comment\n" + "\n".repeat(120) + "import java.util.List;\nimport static java.util.Objects.requireNonNull;\n"
+                    + "@SuppressWarnings({\n    \"unused\"\n})\npublic class Sample {\n    // import not.an.Import;\n}\nimport after.Declaration;\n", StandardCharsets.UTF_8);
+            assertEquals(List.of("java.util.List", "static java.util.Objects.requireNonNull"), FileOperationsClass.ContentReadingSubClass.getImportStatementsFromJavaSourceFile(source), "Imports beyond line 100 are kept while those after type declaration are ignored");
+            FileOperationsClass.ContentReadingSubClass.extractImportStatementsFromJavaSourceFilesIntoCsvFile(baseDir, outCsv, cacheFile);
+            final List<String> firstRun = Files.readAllLines(outCsv, StandardCharsets.UTF_8);
+            FileOperationsClass.ContentReadingSubClass.extractImportStatementsFromJavaSourceFilesIntoCsvFile(baseDir, outCsv, cacheFile);
+            final List<String> secondRun = Files.readAllLines(outCsv, StandardCharsets.UTF_8);
+            assertAll("extractImportStatementsFromJavaSourceFilesIntoCsvFile reads imports up to first type declaration and caches them",
+                    () -> assertEquals(3, firstRun.size(), "Header and 2 imports are expected"),
+                    () -> assertTrue(firstRun.get(1).startsWith(baseDir + ";Sample.java;java.util.List;"), "Row should hold path, file and imported element"),
+                    () -> assertTrue(Files.readString(cacheFile, StandardCharsets.UTF_8).contains("java.util.List,static java.util.Objects.requireNonNull"), "Cache should hold imports of scanned file"),
+                    () -> assertEquals(firstRun.subList(1, 3).stream().map(row -> row.substring(0, row.lastIndexOf(';'))).toList(), secondRun.subList(1, 3).stream().map(row -> row.substring(0, row.lastIndexOf(';'))).toList(), "Cached run should give same imports")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("extractImportStatementsFromJavaSourceFilesIntoCsvFile keeps cached files of other folders")
+    void TestExtractImportStatementsSharesCacheAcrossFolders() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-imports-cache-");
+        final Path outCsv = baseDir.resolve("imports.csv");
+        final Path cacheFile = baseDir.resolve("imports.cache");
+        try {
+            final Path firstFolder = Files.createDirectories(baseDir.resolve("first"));
+            final Path secondFolder = Files.createDirectories(baseDir.resolve("second"));
+            final Path firstGone = firstFolder.resolve("Gone.java");
+            Files.writeString(firstFolder.resolve("One.java"), "package one;\nimport java.util.List;\nclass One {}\n", StandardCharsets.UTF_8);
+            Files.writeString(firstGone, "package one;\nimport java.util.Set;\nclass Gone {}\n", StandardCharsets.UTF_8);
+            Files.writeString(secondFolder.resolve("Two.java"), "package two;\nimport java.util.Map;\nclass Two {}\n", StandardCharsets.UTF_8);
+            FileOperationsClass.ContentReadingSubClass.extractImportStatementsFromJavaSourceFilesIntoCsvFile(firstFolder, outCsv, cacheFile);
+            Files.delete(firstGone);
+            FileOperationsClass.ContentReadingSubClass.extractImportStatementsFromJavaSourceFilesIntoCsvFile(secondFolder, outCsv, cacheFile);
+            FileOperationsClass.ContentReadingSubClass.extractImportStatementsFromJavaSourceFilesIntoCsvFile(firstFolder, outCsv, cacheFile);
+            final String strCache = Files.readString(cacheFile, StandardCharsets.UTF_8);
+            assertAll("extractImportStatementsFromJavaSourceFilesIntoCsvFile keeps cached files of other folders",
+                    () -> assertTrue(strCache.contains("One.java"), "Cache should hold file of first folder"),
+                    () -> assertTrue(strCache.contains("Two.java"), "Cache should keep file of second folder"),
+                    () -> assertFalse(strCache.contains("Gone.java"), "Deleted file should drop out of cache")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("extractImportStatementsFromJavaSourceFilesIntoCsvFile writes imports of several folders into one inventory")
+    void TestExtractImportStatementsFromSeveralFolders() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-imports-folders-");
+        final Path outCsv = baseDir.resolve("imports.csv");
+        try {
+            final Path firstFolder = Files.createDirectories(baseDir.resolve("first"));
+            final Path secondFolder = Files.createDirectories(baseDir.resolve("second"));
+            Files.writeString(firstFolder.resolve("One.java"), "package one;\nimport java.util.List;\nclass One {}\n", StandardCharsets.UTF_8);
+            Files.writeString(secondFolder.resolve("Two.java"), "package two;\nimport java.util.Map;\nclass Two {}\n", StandardCharsets.UTF_8);
+            final List<FileOperationsClass.ContentReadingSubClass.JavaSourceHeaderRecord> headers = FileOperationsClass.ContentReadingSubClass.extractImportStatementsFromJavaSourceFilesIntoCsvFile(List.of(firstFolder, secondFolder), outCsv, null);
+            final List<String> rows = Files.readAllLines(outCsv, StandardCharsets.UTF_8);
+            assertAll("extractImportStatementsFromJavaSourceFilesIntoCsvFile writes imports of several folders into one inventory",
+                    () -> assertEquals(2, headers.size(), "Headers of both folders are expected"),
+                    () -> assertEquals(3, rows.size(), "Header and imports of both folders are expected"),
+                    () -> assertTrue(rows.get(1).startsWith(firstFolder + ";One.java;java.util.List;"), "First folder comes first"),
+                    () -> assertTrue(rows.get(2).startsWith(secondFolder + ";Two.java;java.util.Map;"), "Second folder is not overwritten")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("capturePackageDependencyGraphIntoFiles reports fan-in, fan-out, cycles and most imported types")
+    void TestCapturePackageDependencyGraphIntoFiles() throws IOException {
+        final Path baseDir = Files.createTempDirectory("fileops-graph-");
+        final String strOutPrefix = baseDir.resolve("imports").toString();
+        try {
+            final List<FileOperationsClass.ContentReadingSubClass.JavaSourceHeaderRecord> headers = List.of(
+                    new FileOperationsClass.ContentReadingSubClass.JavaSourceHeaderRecord(baseDir.resolve("A.java"), "app.a", List.of("app.b.B", "java.util.List")),
+                    new FileOperationsClass.ContentReadingSubClass.JavaSourceHeaderRecord(baseDir.resolve("B.java"), "app.b", List.of("app.a.A", "java.util.List", "static java.util.Objects.requireNonNull")),
+                    new FileOperationsClass.ContentReadingSubClass.JavaSourceHeaderRecord(baseDir.resolve("C.java"), "app.c", List.of("java.util.*", "java.util.List")));
+            FileOperationsClass.ContentReadingSubClass.capturePackageDependencyGraphIntoFiles(headers, strOutPrefix, 1);
+            final List<String> packages = Files.readAllLines(Path.of(strOutPrefix + "__packages.csv"), StandardCharsets.UTF_8);
+            final List<String> types = Files.readAllLines(Path.of(strOutPrefix + "__types.csv"), StandardCharsets.UTF_8);
+            final String strJson = Files.readString(Path.of(strOutPrefix + "__graph.json"), StandardCharsets.UTF_8);
+            assertAll("capturePackageDependencyGraphIntoFiles reports fan-in, fan-out, cycles and most imported types",
+                    () -> assertEquals(List.of("Package;Fan In;Fan Out;Cycle Size", "app.a;1;2;2", "app.b;1;2;2", "app.c;0;1;0", "java.util;3;0;0"), packages, "Packages should be sorted with their metrics"),
+                    () -> assertEquals(List.of("Rank;Type;Importing Files", "1;java.util.List;3"), types, "Only most imported type should be kept"),
+                    () -> assertTrue(strJson.contains("\"Cycles\":[{\"Size\":2,\"Packages\":[\"app.a\",\"app.b\"]}]"), "Cycle between app.a and app.b should be reported")
+            );
+        } finally {
+            Files.walk(baseDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
     /**
      * Constructor
      */
@@ -6,6 +6,11 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.SequencedMap;
 
 /**
  * HtmlClass tests
@@ -128,6 +133,39 @@ class HtmlClassTests {
         );
     }
 
+    @Test
+    @DisplayName("TableWriterClass streams same HTML as getListOfSequencedMapIntoHtmlTable")
+    void testStreamedHtmlTableMatchesListBasedOne() throws InterruptedException {
+        final List<SequencedMap<Object, Object>> records = new ArrayList<>();
+        for (int intRecord = 0; intRecord < 3; intRecord++) {
+            final SequencedMap<Object, Object> recordMap = new LinkedHashMap<>();
+            recordMap.put("Category", intRecord < 2 ? "First" : "Second");
+            recordMap.put("Name", "Name" + intRecord);
+            records.add(recordMap);
+        }
+        final Properties features = new Properties();
+        features.put(BasicStructuresClass.STR_NEW_TAB, "Category");
+        final String listBased = HtmlClass.TableSubClass.getListOfSequencedMapIntoHtmlTable(records, features);
+        final List<String> fragments = new ArrayList<>();
+        final List<String> otherFragments = new ArrayList<>();
+        final HtmlClass.TableSubClass.TableWriterClass tableWriter = new HtmlClass.TableSubClass.TableWriterClass(features, fragments::add);
+        final HtmlClass.TableSubClass.TableWriterClass otherWriter = new HtmlClass.TableSubClass.TableWriterClass(features, otherFragments::add);
+        // tables written at the same time (on separate threads) must not interleave
+        final Thread otherThread = new Thread(() -> {
+            records.forEach(otherWriter::addRecord);
+            otherWriter.finish();
+        }, "other-table-writer");
+        otherThread.start();
+        records.forEach(tableWriter::addRecord);
+        tableWriter.finish();
+        otherThread.join();
+        assertAll("Streamed HTML table",
+                () -> assertEquals(listBased, String.join("", fragments), "Streamed HTML should match list based HTML"),
+                () -> assertEquals(listBased, String.join("", otherFragments), "Table written at the same time should match as well"),
+                () -> assertTrue(fragments.size() > records.size(), "Every record should be handed over as its own fragment")
+        );
+    }
+
     /**
      * Constructor
      */
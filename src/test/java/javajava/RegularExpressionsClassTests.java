@@ -1,6 +1,12 @@
 package javajava;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +35,38 @@ class RegularExpressionsClassTests {
         assertEquals(strExpected, handled, String.format(ORIG_NQ_EXPCT, handled, strExpected));
     }
 
+    @Test
+    void testPatternCache() {
+        final Pattern cached = RegularExpressionsClass.PatternCacheSubClass.getPattern("build-[0-9]+", Pattern.CASE_INSENSITIVE);
+        assertAll("Patterns are compiled once for each regular expression and flags",
+                () -> assertSame(cached, RegularExpressionsClass.PatternCacheSubClass.getPattern("build-[0-9]+", Pattern.CASE_INSENSITIVE), "Same pattern should come from cache"),
+                () -> assertEquals(0, RegularExpressionsClass.PatternCacheSubClass.getPattern("build-[0-9]+").flags(), "Flags should be part of cache key"),
+                () -> assertEquals(1, RegularExpressionsClass.doesExist("BUILD-12.log", "build-[0-9]+"), "Cached pattern should stay case insensitive")
+        );
+        RegularExpressionsClass.PatternCacheSubClass.setMaxPatterns(2);
+        try {
+            for (int intPattern = 0; intPattern < 10; intPattern++) {
+                RegularExpressionsClass.PatternCacheSubClass.getPattern("bounded-" + intPattern);
+            }
+            assertTrue(RegularExpressionsClass.PatternCacheSubClass.getCachedPatternCount() <= 2, "Cache should stay within its bound");
+        } finally {
+            RegularExpressionsClass.PatternCacheSubClass.setMaxPatterns(256);
+        }
+    }
+
+    @Test
+    void testPatternMatches() {
+        final String strOriginal = "logs/2026/build-17.log";
+        assertAll("Matches are counted and extracted from given index",
+                () -> assertEquals(6, RegularExpressionsClass.countPatternMatches(strOriginal, "[0-9]", 0), "All digits should be counted"),
+                () -> assertEquals(2, RegularExpressionsClass.countPatternMatches(strOriginal, "[0-9]", 10), "Only digits after index should be counted"),
+                () -> assertEquals(0, RegularExpressionsClass.countPatternMatches(strOriginal, "[0-9]", 99), "Index beyond text should count nothing"),
+                () -> assertEquals("17", RegularExpressionsClass.extractPatternMatch(strOriginal, "[0-9]+", 0, 2), "Second number should be extracted"),
+                () -> assertEquals("026", RegularExpressionsClass.extractPatternMatch(strOriginal, "[0-9]+", 6, 1), "Search should start from given index"),
+                () -> assertNull(RegularExpressionsClass.extractPatternMatch(strOriginal, "[0-9]+", 0, 3), "Missing occurrence should give null")
+        );
+    }
+
     @Test
     void testReplacePatterns() {
         final String largeContent = """